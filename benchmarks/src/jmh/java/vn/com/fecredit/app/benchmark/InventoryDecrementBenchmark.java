@@ -0,0 +1,99 @@
+package vn.com.fecredit.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import vn.com.fecredit.app.entity.RewardEvent;
+
+/**
+ * Compares ways of taking one prize out of a shared stock without overselling:
+ * locking the RewardEvent entity, a CAS loop on a single counter, and stock
+ * split into packs (as in docs/DistributedGiftSolution.md) so threads mostly
+ * touch different counters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InventoryDecrementBenchmark {
+
+    private static final int STOCK = Integer.MAX_VALUE / 2;
+    private static final int PACKS = 64;
+
+    @State(Scope.Benchmark)
+    public static class Stock {
+        RewardEvent rewardEvent;
+        AtomicInteger counter;
+        AtomicIntegerArray packs;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            rewardEvent = SpinFixtures.rewards(SpinFixtures.eventLocation(), 1, STOCK).get(0);
+            counter = new AtomicInteger(STOCK);
+            packs = new AtomicIntegerArray(PACKS);
+            for (int i = 0; i < PACKS; i++) {
+                packs.set(i, STOCK / PACKS);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadSlot {
+        int home;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            home = (int) (Thread.currentThread().threadId() % PACKS);
+        }
+    }
+
+    @Benchmark
+    public boolean synchronizedEntity(Stock stock) {
+        RewardEvent rewardEvent = stock.rewardEvent;
+        synchronized (rewardEvent) {
+            if (rewardEvent.getQuantity() <= 0) {
+                return false;
+            }
+            rewardEvent.setQuantity(rewardEvent.getQuantity() - 1);
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean casCounter(Stock stock) {
+        AtomicInteger counter = stock.counter;
+        int current;
+        do {
+            current = counter.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    @Benchmark
+    public boolean stripedPacks(Stock stock, ThreadSlot slot) {
+        AtomicIntegerArray packs = stock.packs;
+        // Start at this thread's pack and only move on when it is empty
+        for (int i = 0; i < PACKS; i++) {
+            int pack = (slot.home + i) % PACKS;
+            int current = packs.get(pack);
+            while (current > 0) {
+                if (packs.compareAndSet(pack, current, current - 1)) {
+                    return true;
+                }
+                current = packs.get(pack);
+            }
+        }
+        return false;
+    }
+}
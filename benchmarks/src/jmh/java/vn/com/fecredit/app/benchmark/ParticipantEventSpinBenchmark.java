@@ -0,0 +1,85 @@
+package vn.com.fecredit.app.benchmark;
+
+import java.util.AbstractList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import vn.com.fecredit.app.entity.EventLocation;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.SpinHistory;
+
+/**
+ * Measures {@link ParticipantEvent#spin()} on its own: once with every thread
+ * spinning the same participant (lock contention) and once with a
+ * participant per thread.
+ * <p>
+ * The participants keep no spin history: their list discards every added entry, so
+ * it does not grow across an iteration and the benchmark never touches the list
+ * outside the lock {@code spin()} holds.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParticipantEventSpinBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SharedParticipant {
+        ParticipantEvent participantEvent;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            participantEvent = SpinFixtures.participantEvent(SpinFixtures.eventLocation(), 1L, Integer.MAX_VALUE);
+            participantEvent.setSpinHistories(new DiscardedHistory());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class OwnParticipant {
+        ParticipantEvent participantEvent;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            EventLocation location = SpinFixtures.eventLocation();
+            participantEvent = SpinFixtures.participantEvent(location, Thread.currentThread().threadId(), Integer.MAX_VALUE);
+            participantEvent.setSpinHistories(new DiscardedHistory());
+        }
+    }
+
+    @Benchmark
+    public SpinHistory spinSharedParticipant(SharedParticipant state) {
+        return state.participantEvent.spin();
+    }
+
+    @Benchmark
+    public SpinHistory spinOwnParticipant(OwnParticipant state) {
+        return state.participantEvent.spin();
+    }
+
+    /**
+     * Spin history that accepts entries and keeps none; stateless, so safe to share
+     */
+    private static final class DiscardedHistory extends AbstractList<SpinHistory> {
+
+        @Override
+        public boolean add(SpinHistory spinHistory) {
+            return true;
+        }
+
+        @Override
+        public SpinHistory get(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package vn.com.fecredit.app.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jakarta.persistence.EntityManager;
+import vn.com.fecredit.app.entity.Event;
+import vn.com.fecredit.app.entity.EventLocation;
+import vn.com.fecredit.app.entity.EventLocationKey;
+import vn.com.fecredit.app.entity.GoldenHour;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.ParticipantEventKey;
+import vn.com.fecredit.app.entity.Province;
+import vn.com.fecredit.app.entity.Region;
+import vn.com.fecredit.app.entity.Reward;
+import vn.com.fecredit.app.entity.RewardEvent;
+import vn.com.fecredit.app.entity.SpinHistory;
+import vn.com.fecredit.app.entity.base.AbstractAuditEntity;
+import vn.com.fecredit.app.entity.enums.CommonStatus;
+
+/**
+ * End-to-end spin against an in-memory H2 database: load the participant event,
+ * spin, and commit the decremented balance together with the new SpinHistory row.
+ * Each thread spins its own participant, so the numbers reflect database and ORM
+ * cost rather than optimistic-lock retries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistSpinHistoryBenchmark {
+
+    private static final String AUDITOR = "benchmark";
+
+    @State(Scope.Benchmark)
+    public static class Database {
+        SessionFactory sessionFactory;
+        EventLocationKey locationKey;
+        Long provinceId;
+        final AtomicLong participantSequence = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            sessionFactory = new Configuration()
+                    .setProperty("hibernate.connection.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+                    .setProperty("hibernate.connection.username", "sa")
+                    .setProperty("hibernate.connection.pool_size", "64")
+                    .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                    .setProperty("hibernate.show_sql", "false")
+                    .setProperty("jakarta.persistence.validation.mode", "none")
+                    .addAnnotatedClass(Event.class)
+                    .addAnnotatedClass(Region.class)
+                    .addAnnotatedClass(Province.class)
+                    .addAnnotatedClass(EventLocation.class)
+                    .addAnnotatedClass(Participant.class)
+                    .addAnnotatedClass(ParticipantEvent.class)
+                    .addAnnotatedClass(Reward.class)
+                    .addAnnotatedClass(RewardEvent.class)
+                    .addAnnotatedClass(GoldenHour.class)
+                    .addAnnotatedClass(SpinHistory.class)
+                    .buildSessionFactory();
+
+            EntityManager em = sessionFactory.createEntityManager();
+            em.getTransaction().begin();
+
+            LocalDateTime now = LocalDateTime.now();
+            Event event = audited(Event.builder()
+                    .name("Benchmark event")
+                    .code("BENCH")
+                    .startTime(now.minusDays(1))
+                    .endTime(now.plusDays(30))
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+            em.persist(event);
+
+            Region region = audited(Region.builder()
+                    .name("Benchmark region")
+                    .code("BENCH")
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+            em.persist(region);
+
+            Province province = audited(Province.builder()
+                    .name("Benchmark province")
+                    .code("BENCH")
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+            em.persist(province);
+
+            EventLocation location = audited(EventLocation.builder()
+                    .event(event)
+                    .region(region)
+                    .maxSpin(Integer.MAX_VALUE)
+                    .todaySpin(Integer.MAX_VALUE)
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+            location.setId(EventLocationKey.of(event.getId(), region.getId()));
+            em.persist(location);
+
+            em.getTransaction().commit();
+            em.close();
+
+            locationKey = location.getId();
+            provinceId = province.getId();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            sessionFactory.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadParticipant {
+        ParticipantEventKey key;
+
+        @Setup(Level.Trial)
+        public void setUp(Database database) {
+            long sequence = database.participantSequence.incrementAndGet();
+            EntityManager em = database.sessionFactory.createEntityManager();
+            em.getTransaction().begin();
+
+            Participant participant = audited(Participant.builder()
+                    .name("Participant " + sequence)
+                    .code("BENCH-" + sequence)
+                    .province(em.getReference(Province.class, database.provinceId))
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+            em.persist(participant);
+
+            ParticipantEvent participantEvent = audited(ParticipantEvent.builder()
+                    .eventLocation(em.find(EventLocation.class, database.locationKey))
+                    .participant(participant)
+                    .spinsRemaining(Integer.MAX_VALUE)
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+            participantEvent.setId(new ParticipantEventKey(database.locationKey, participant.getId()));
+            em.persist(participantEvent);
+
+            em.getTransaction().commit();
+            em.close();
+            key = participantEvent.getId();
+        }
+    }
+
+    @Benchmark
+    public Long spinAndPersist(Database database, ThreadParticipant participant) {
+        EntityManager em = database.sessionFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            ParticipantEvent participantEvent = em.find(ParticipantEvent.class, participant.key);
+            SpinHistory spin = audited(participantEvent.spin());
+            em.persist(spin);
+            em.getTransaction().commit();
+            return spin.getId();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Spring's auditing listener is inert outside the application context,
+     * so fill the non-null audit columns by hand
+     */
+    private static <T extends AbstractAuditEntity<?>> T audited(T entity) {
+        LocalDateTime now = LocalDateTime.now();
+        entity.setCreatedBy(AUDITOR);
+        entity.setCreatedAt(now);
+        entity.setUpdatedBy(AUDITOR);
+        entity.setUpdatedAt(now);
+        return entity;
+    }
+}
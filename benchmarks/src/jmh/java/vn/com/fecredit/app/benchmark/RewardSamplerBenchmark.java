@@ -0,0 +1,58 @@
+package vn.com.fecredit.app.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import vn.com.fecredit.app.entity.EventLocation;
+import vn.com.fecredit.app.entity.GoldenHour;
+import vn.com.fecredit.app.entity.RewardEvent;
+import vn.com.fecredit.app.simulator.SpinOutcomeSampler;
+
+/**
+ * Measures reward sampling against a location's stock, with and without an active golden hour.
+ * Stock is never decremented here so every invocation sees the same distribution.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RewardSamplerBenchmark {
+
+    @State(Scope.Thread)
+    public static class SamplerState {
+        @Param({"5", "50"})
+        int rewardKinds;
+
+        final SpinOutcomeSampler sampler = new SpinOutcomeSampler();
+        SplittableRandom random;
+        List<RewardEvent> rewards;
+        GoldenHour goldenHour;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            EventLocation location = SpinFixtures.eventLocation();
+            rewards = SpinFixtures.rewards(location, rewardKinds, 1_000);
+            goldenHour = SpinFixtures.goldenHour(location);
+            random = new SplittableRandom(Thread.currentThread().threadId());
+        }
+    }
+
+    @Benchmark
+    public RewardEvent sample(SamplerState state) {
+        return state.sampler.sample(state.rewards, null, 0, 100_000, state.random);
+    }
+
+    @Benchmark
+    public RewardEvent sampleDuringGoldenHour(SamplerState state) {
+        return state.sampler.sample(state.rewards, state.goldenHour, 0, 100_000, state.random);
+    }
+}
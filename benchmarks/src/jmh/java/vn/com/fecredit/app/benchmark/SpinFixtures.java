@@ -0,0 +1,97 @@
+package vn.com.fecredit.app.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import vn.com.fecredit.app.entity.Event;
+import vn.com.fecredit.app.entity.EventLocation;
+import vn.com.fecredit.app.entity.GoldenHour;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.Region;
+import vn.com.fecredit.app.entity.Reward;
+import vn.com.fecredit.app.entity.RewardEvent;
+import vn.com.fecredit.app.entity.enums.CommonStatus;
+
+/**
+ * Builds detached entity graphs shared by the in-memory benchmarks
+ */
+final class SpinFixtures {
+
+    private SpinFixtures() {
+    }
+
+    static EventLocation eventLocation() {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = Event.builder()
+                .id(1L)
+                .name("Benchmark event")
+                .code("BENCH")
+                .startTime(now.minusDays(1))
+                .endTime(now.plusDays(30))
+                .status(CommonStatus.ACTIVE)
+                .build();
+        Region region = Region.builder()
+                .id(1L)
+                .name("Benchmark region")
+                .code("BENCH")
+                .status(CommonStatus.ACTIVE)
+                .build();
+        return EventLocation.builder()
+                .event(event)
+                .region(region)
+                .maxSpin(Integer.MAX_VALUE)
+                .todaySpin(Integer.MAX_VALUE)
+                .status(CommonStatus.ACTIVE)
+                .build();
+    }
+
+    static ParticipantEvent participantEvent(EventLocation location, long participantId, int spins) {
+        Participant participant = Participant.builder()
+                .id(participantId)
+                .name("Participant " + participantId)
+                .code("BENCH-" + participantId)
+                .status(CommonStatus.ACTIVE)
+                .build();
+        return ParticipantEvent.builder()
+                .eventLocation(location)
+                .participant(participant)
+                .spinsRemaining(spins)
+                .status(CommonStatus.ACTIVE)
+                .build();
+    }
+
+    static List<RewardEvent> rewards(EventLocation location, int kinds, int quantity) {
+        List<RewardEvent> rewards = new ArrayList<>(kinds);
+        for (int i = 0; i < kinds; i++) {
+            Reward reward = Reward.builder()
+                    .id((long) i + 1)
+                    .name("Reward " + (i + 1))
+                    .code("BENCH-" + (i + 1))
+                    .status(CommonStatus.ACTIVE)
+                    .build();
+            rewards.add(RewardEvent.builder()
+                    .eventLocation(location)
+                    .reward(reward)
+                    .quantity(quantity)
+                    .todayQuantity(quantity)
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+        }
+        return rewards;
+    }
+
+    static GoldenHour goldenHour(EventLocation location) {
+        LocalDateTime now = LocalDateTime.now();
+        return GoldenHour.builder()
+                .eventLocation(location)
+                .startTime(now.minusHours(1))
+                .endTime(now.plusHours(1))
+                .multiplier(BigDecimal.valueOf(2))
+                .claimedRewards(0)
+                .status(CommonStatus.ACTIVE)
+                .build();
+    }
+}
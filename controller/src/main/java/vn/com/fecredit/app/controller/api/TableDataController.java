@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.core.io.ByteArrayResource;
@@ -12,19 +13,30 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.config.FileStorageProperties;
 import vn.com.fecredit.app.service.TableActionService;
 import vn.com.fecredit.app.service.TableDataService;
+import vn.com.fecredit.app.service.TableFetchMetrics;
+import vn.com.fecredit.app.service.dto.FetchStatus;
 import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.RelatedDataRequest;
+import vn.com.fecredit.app.service.dto.RelatedDataResponse;
 import vn.com.fecredit.app.service.dto.TableActionRequest;
 import vn.com.fecredit.app.service.dto.TableActionResponse;
 import vn.com.fecredit.app.service.dto.TableFetchRequest;
@@ -47,10 +59,17 @@ public class TableDataController {
     private final TableDataService tableDataService;
     private final TableActionService tableActionService;
     private final FileStorageProperties fileStorageProperties;
+    private final TableFetchMetrics tableFetchMetrics;
+    private final ObjectMapper objectMapper;
 
     // In-memory storage for download tokens (in production, use a more robust solution)
     private final Map<String, UploadFile> downloadTokens = new HashMap<>();
 
+    /**
+     * Request header asking for the per-phase timing breakdown of a fetch
+     */
+    public static final String DEBUG_TIMINGS_HEADER = "X-Debug-Timings";
+
     // Map to convert plural entity names from URLs to ObjectType enum values
     private static final Map<String, ObjectType> ENTITY_NAME_MAP = new HashMap<>();
 
@@ -86,10 +105,14 @@ public class TableDataController {
     }
 
     /**
-     * Path-based endpoint for fetching entity data
+     * Path-based endpoint for fetching entity data. Sends an ETag and answers a matching
+     * If-None-Match with 304 without running any query
      */
     @PostMapping("/table-data/fetch/{entityName}")
-    public ResponseEntity<TableFetchResponse> fetchEntityData(@RequestBody TableFetchRequest request) {
+    public ResponseEntity<byte[]> fetchEntityData(@RequestBody TableFetchRequest request,
+            @RequestHeader(name = DEBUG_TIMINGS_HEADER, defaultValue = "false") boolean debugTimings,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws JsonProcessingException {
 
         log.debug("REST request to fetch {} data: {}", request.getObjectType(), request);
 
@@ -101,10 +124,135 @@ public class TableDataController {
             return ResponseEntity.badRequest().build();
         }
 
+        // Taken before the fetch so a write committing meanwhile changes it; timed fetches are never validated
+        String etag = debugTimings ? null : tableDataService.getFetchETag(request);
+        if (etag != null && matchesETag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        request.setIncludeTimings(debugTimings);
         TableFetchResponse response = tableDataService.fetchData(request);
+
+        // Serialize here rather than in the message converter so the serialize phase is measured
+        long serializeStart = System.nanoTime();
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        long serializeNanos = System.nanoTime() - serializeStart;
+        tableFetchMetrics.record(objectType, TableFetchMetrics.Phase.SERIALIZE, serializeNanos);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (debugTimings) {
+            builder.header("Server-Timing", serverTiming(response.getTimings(), serializeNanos));
+        }
+        if (etag != null && (response.getStatus() == FetchStatus.SUCCESS || response.getStatus() == FetchStatus.NO_DATA)) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Whether an If-None-Match header lists the ETag; weak tags compare by their value
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Server-Timing header value listing the fetch phases and the serialization
+     */
+    private String serverTiming(Map<String, Double> timings, long serializeNanos) {
+        StringBuilder header = new StringBuilder();
+        if (timings != null) {
+            timings.forEach((phase, millis) -> header.append(phase).append(";dur=").append(millis).append(", "));
+        }
+        return header.append(TableFetchMetrics.Phase.SERIALIZE.tag()).append(";dur=")
+                .append(TableFetchMetrics.millis(serializeNanos)).toString();
+    }
+
+    /**
+     * Streaming variant of the fetch endpoint for large views: rows are written as they are
+     * read from the database instead of being collected into one response object
+     */
+    @PostMapping(value = "/table-data/stream/{entityName}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEntityData(@RequestBody TableFetchRequest request) {
+
+        log.debug("REST request to stream {} data: {}", request.getObjectType(), request);
+
+        if (request.getObjectType() == null) {
+            log.error("Unknown entity type for streaming request");
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> tableDataService.streamData(request, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Batch variant of the fetch endpoint: screens that show several tables load them
+     * in one round trip, and the tables are fetched concurrently
+     */
+    @PostMapping("/table-data/fetch-batch")
+    public ResponseEntity<List<TableFetchResponse>> fetchBatch(@RequestBody List<TableFetchRequest> requests) {
+        log.debug("REST request to fetch a batch of {} tables", requests.size());
+
+        try {
+            return ResponseEntity.ok(tableDataService.fetchBatch(requests));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected batch fetch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Batch endpoint for the related tables of several rows: one query per related
+     * table instead of one fetch per related table per row
+     */
+    @PostMapping("/table-data/related")
+    public ResponseEntity<RelatedDataResponse> fetchRelatedData(@RequestBody RelatedDataRequest request) {
+        log.debug("REST request to fetch related data of {} rows {}", request.getObjectType(), request.getIds());
+
+        RelatedDataResponse response = tableDataService.fetchRelatedData(request);
+        if (response.getStatus() == FetchStatus.ERROR) {
+            return ResponseEntity.badRequest().body(response);
+        }
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Hit and miss counts of the compiled query plan cache
+     */
+    @GetMapping("/table-data/query-plan-cache/stats")
+    public ResponseEntity<Map<String, Object>> getQueryPlanStats() {
+        return ResponseEntity.ok(tableDataService.getQueryPlanStats());
+    }
+
+    /**
+     * Hit and miss counts of the entity second-level and query caches
+     */
+    @GetMapping("/table-data/entity-cache/stats")
+    public ResponseEntity<Map<String, Object>> getEntityCacheStats() {
+        return ResponseEntity.ok(tableDataService.getEntityCacheStats());
+    }
+
+    /**
+     * Admitted, heavy and rejected counts of the query cost guard
+     */
+    @GetMapping("/table-data/query-cost/stats")
+    public ResponseEntity<Map<String, Object>> getQueryCostStats() {
+        return ResponseEntity.ok(tableDataService.getQueryCostStats());
+    }
+
     /**
      * Process table actions like add, update, delete, export, and import
      */
@@ -0,0 +1,106 @@
+package vn.com.fecredit.app.controller.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.SpinGrantService;
+import vn.com.fecredit.app.service.WheelService;
+import vn.com.fecredit.app.service.dto.SpinGrantRequest;
+import vn.com.fecredit.app.service.dto.SpinHistoryPage;
+
+/**
+ * REST controller for the lucky wheel page.
+ * Serves the lightweight reads the page polls in the background.
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Slf4j
+public class WheelController {
+
+    private final WheelService wheelService;
+    private final SpinGrantService spinGrantService;
+
+    /**
+     * Get the spins a participant has left in an event
+     *
+     * @param eventId The event ID
+     * @param participantId The participant ID
+     * @return The remaining spins
+     */
+    @GetMapping("/{eventId}/participants/{participantId}/spins-remaining")
+    public ResponseEntity<Map<String, Object>> getSpinsRemaining(
+            @PathVariable("eventId") Long eventId,
+            @PathVariable("participantId") Long participantId) {
+
+        log.debug("REST request to get spins remaining for event {} participant {}", eventId, participantId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("eventId", eventId);
+        response.put("participantId", participantId);
+        response.put("remainingSpins", wheelService.getSpinsRemaining(eventId, participantId));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get spin history for an event, newest first
+     *
+     * @param eventId The event ID
+     * @param participantId Optional participant filter
+     * @param cursor Cursor from the previous page; takes precedence over page
+     * @param page Page number, used only without a cursor
+     * @param size Page size
+     * @return One page of spin history, or 400 for an invalid cursor
+     */
+    @GetMapping("/{eventId}/spins")
+    public ResponseEntity<SpinHistoryPage> getSpinHistory(
+            @PathVariable("eventId") Long eventId,
+            @RequestParam(name = "participantId", required = false) Long participantId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+
+        log.debug("REST request to get spin history for event {} participant {} cursor {}", eventId, participantId, cursor);
+
+        try {
+            return ResponseEntity.ok(wheelService.getSpinHistory(eventId, participantId, cursor, page, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejecting spin history request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Grant extra spins to every participant event matching the given filters.
+     * Runs in the background; poll /api/table-data/action/import-progress with the returned job ID.
+     *
+     * @param request The spins to add and the participant event filters
+     * @return The job ID
+     */
+    @PostMapping("/spin-grants")
+    public ResponseEntity<Map<String, Object>> grantSpins(@RequestBody SpinGrantRequest request) {
+        log.debug("REST request to grant {} spins with filters {}", request.getSpins(), request.getFilters());
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("jobId", spinGrantService.startGrant(request));
+            response.put("success", true);
+            return ResponseEntity.accepted().body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package vn.com.fecredit.app.controller.endpoint;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.SqlProfiler;
+
+/**
+ * Actuator endpoint for the SQL profile.
+ * Lists the statement fingerprints that cost the most database time.
+ * <p>
+ * The fingerprints carry SQL text, so the endpoint is not exposed over HTTP by default;
+ * add {@code sqlprofile} to {@code management.endpoints.web.exposure.include} where
+ * the actuator is reachable only by operators.
+ */
+@Component
+@Endpoint(id = "sqlprofile")
+@RequiredArgsConstructor
+@Slf4j
+public class SqlProfileEndpoint {
+
+    private final SqlProfiler sqlProfiler;
+
+    /**
+     * Get the top SQL fingerprints
+     *
+     * @param limit Number of fingerprints to return, 20 if not given
+     * @param orderBy Statistic to order by: total (default), count, mean, p99 or max
+     * @return Count, total, mean, percentile and maximum times per fingerprint
+     */
+    @ReadOperation
+    public List<Map<String, Object>> sqlProfile(@Nullable Integer limit, @Nullable String orderBy) {
+        log.debug("Request to get the top {} SQL fingerprints by {}", limit, orderBy);
+
+        try {
+            return sqlProfiler.top(limit != null ? limit : 20, orderBy != null ? orderBy : "total");
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Unsupported orderBy");
+        }
+    }
+
+    /**
+     * Clear the SQL profile, e.g. before measuring a scenario
+     */
+    @DeleteOperation
+    public void resetSqlProfile() {
+        log.debug("Request to reset the SQL profile");
+
+        sqlProfiler.reset();
+    }
+}
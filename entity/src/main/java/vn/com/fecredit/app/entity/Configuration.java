@@ -1,5 +1,8 @@
 package vn.com.fecredit.app.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
@@ -20,6 +23,8 @@ import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
  * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "configurations", indexes = {
         @Index(name = "idx_config_key", columnList = "config_key", unique = true)
 })
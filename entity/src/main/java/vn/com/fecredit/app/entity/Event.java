@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +20,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -28,6 +31,9 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
 import vn.com.fecredit.app.entity.listener.EntityAuditListener;
+import vn.com.fecredit.app.entity.listener.SearchShadowListener;
+import vn.com.fecredit.app.entity.search.NormalizedShadow;
+import vn.com.fecredit.app.entity.search.SearchAnalyzers;
 
 /**
  * Entity representing a promotional event in the Lucky Draw application.
@@ -43,12 +49,14 @@ import vn.com.fecredit.app.entity.listener.EntityAuditListener;
  * </p>
  */
 @Entity
+@Indexed
 @Table(name = "events", indexes = {
         @Index(name = "idx_event_code", columnList = "code", unique = true),
+        @Index(name = "idx_event_code_norm", columnList = "code_norm"),
         @Index(name = "idx_event_status", columnList = "status"),
         @Index(name = "idx_event_dates", columnList = "start_time, end_time")
 })
-@EntityListeners(EntityAuditListener.class)
+@EntityListeners({ EntityAuditListener.class, SearchShadowListener.class })
 @Getter
 @Setter
 @SuperBuilder(toBuilder = true)
@@ -69,6 +77,7 @@ public class Event extends AbstractSimplePersistableEntity<Long> {
      */
     @NotBlank(message = "Event name is required")
     @Column(name = "name", nullable = false)
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String name;
 
     /**
@@ -78,13 +87,23 @@ public class Event extends AbstractSimplePersistableEntity<Long> {
     @NotBlank(message = "Event code is required")
     @Column(name = "code", nullable = false, unique = true)
     @EqualsAndHashCode.Include
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String code;
 
+    /**
+     * Lower-cased, accent-free copy of code for indexed exact and prefix lookups
+     */
+    @Column(name = "code_norm", length = 50)
+    @NormalizedShadow(of = "code")
+    @Setter(AccessLevel.NONE)
+    private String codeNorm;
+
     /**
      * Optional detailed description of the event
      * Provides additional information about the event purpose and activities
      */
     @Column(name = "description")
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String description;
 
     /**
@@ -3,9 +3,13 @@ package vn.com.fecredit.app.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -14,6 +18,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -23,6 +28,9 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
+import vn.com.fecredit.app.entity.listener.SearchShadowListener;
+import vn.com.fecredit.app.entity.search.NormalizedShadow;
+import vn.com.fecredit.app.entity.search.SearchAnalyzers;
 
 /**
  * Entity representing an individual who participates in events.
@@ -38,11 +46,15 @@ import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
  * </p>
  */
 @Entity
+@Indexed
 @Table(name = "participants", indexes = {
         @Index(name = "idx_participant_code", columnList = "code", unique = true),
         @Index(name = "idx_participants_status", columnList = "status"),
+        @Index(name = "idx_participant_code_norm", columnList = "code_norm"),
+        @Index(name = "idx_participant_phone_norm", columnList = "phone_norm"),
         @Index(name = "idx_participant_province", columnList = "province_id")
 })
+@EntityListeners(SearchShadowListener.class)
 @Getter
 @Setter
 @SuperBuilder(toBuilder = true)
@@ -57,6 +69,7 @@ public class Participant extends AbstractSimplePersistableEntity<Long> {
      */
     @NotBlank(message = "Name is required")
     @Column(name = "name", nullable = false)
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String name;
 
     /**
@@ -66,18 +79,37 @@ public class Participant extends AbstractSimplePersistableEntity<Long> {
     @NotBlank(message = "Code is required")
     @Column(name = "code", nullable = false, unique = true)
     @EqualsAndHashCode.Include
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String code;
 
+    /**
+     * Lower-cased, accent-free copy of code for indexed exact and prefix lookups
+     */
+    @Column(name = "code_norm", length = 50)
+    @NormalizedShadow(of = "code")
+    @Setter(AccessLevel.NONE)
+    private String codeNorm;
+
     /**
      * Contact phone number of the participant
      */
     @Column(name = "phone")
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String phone;
 
+    /**
+     * Lower-cased, accent-free copy of phone for indexed exact and prefix lookups
+     */
+    @Column(name = "phone_norm", length = 20)
+    @NormalizedShadow(of = "phone")
+    @Setter(AccessLevel.NONE)
+    private String phoneNorm;
+
     /**
      * Physical address of the participant
      */
     @Column(name = "address")
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String address;
 
     /**
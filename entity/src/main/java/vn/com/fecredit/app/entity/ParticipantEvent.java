@@ -4,10 +4,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -20,6 +22,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -30,6 +33,7 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import vn.com.fecredit.app.entity.base.AbstractComplexPersistableEntity;
 import vn.com.fecredit.app.entity.enums.CommonStatus;
+import vn.com.fecredit.app.entity.listener.SpinBalanceListener;
 
 /**
  * Entity representing a participant's registration to a specific event.
@@ -40,6 +44,7 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
  * event participation and engagement metrics.
  */
 @Entity
+@EntityListeners(SpinBalanceListener.class)
 @Table(name = "participant_events", indexes = {
     @Index(name = "idx_participant_location", columnList = "event_id, region_id"),
     @Index(name = "idx_participant", columnList = "participant_id"),
@@ -50,7 +55,7 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
 @SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-@ToString(callSuper = true, exclude = {"eventLocation", "participant", "spinHistories"})
+@ToString(callSuper = true, exclude = {"eventLocation", "participant", "spinHistories", "spinLock"})
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 public class ParticipantEvent extends AbstractComplexPersistableEntity<ParticipantEventKey> {
     @NotNull(message = "Event location is required")
@@ -78,6 +83,13 @@ public class ParticipantEvent extends AbstractComplexPersistableEntity<Participa
     @Builder.Default
     private List<SpinHistory> spinHistories = new ArrayList<>();
 
+    /**
+     * Guards {@link #spin()}. A lock rather than {@code synchronized} so that
+     * virtual threads waiting on it unmount instead of pinning their carrier.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final transient ReentrantLock spinLock = new ReentrantLock();
 
     /**
      * Check if participant can spin
@@ -176,30 +188,30 @@ public class ParticipantEvent extends AbstractComplexPersistableEntity<Participa
      * @return spin history record
      * @throws IllegalStateException if cannot spin
      */
-    public synchronized SpinHistory spin() {
-        // Double-check locking pattern
-        if (!canSpin()) {
-            throw new IllegalStateException("Cannot spin");
-        }
+    public SpinHistory spin() {
+        spinLock.lock();
+        try {
+            if (!canSpin()) {
+                throw new IllegalStateException("Cannot spin");
+            }
 
-        // Decrement spins atomically
-        int remainingSpins = spinsRemaining;
-        spinsRemaining = remainingSpins - 1;
+            spinsRemaining = spinsRemaining - 1;
 
-        // Create new spin history
-        LocalDateTime spinTime = LocalDateTime.now();
-        SpinHistory spinHistory = SpinHistory.builder()
-            .spinTime(spinTime)
-            .status(CommonStatus.ACTIVE)
-            .build();
+            // Create new spin history
+            LocalDateTime spinTime = LocalDateTime.now();
+            SpinHistory spinHistory = SpinHistory.builder()
+                .spinTime(spinTime)
+                .status(CommonStatus.ACTIVE)
+                .build();
 
-        // Establish bidirectional relationship with thread safety
-        synchronized (this.spinHistories) {
+            // Establish bidirectional relationship
             spinHistory.setParticipantEvent(this);
             this.spinHistories.add(spinHistory);
-        }
 
-        return spinHistory;
+            return spinHistory;
+        } finally {
+            spinLock.unlock();
+        }
     }
 
     /**
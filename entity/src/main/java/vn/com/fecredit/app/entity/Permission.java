@@ -3,6 +3,10 @@ package vn.com.fecredit.app.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -36,6 +40,8 @@ import vn.com.fecredit.app.entity.enums.PermissionType;
  * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "permissions")
 @Getter
 @Setter
@@ -74,6 +80,7 @@ public class Permission extends AbstractSimplePersistableEntity<Long> {
      * Collection of roles that have been granted this permission
      * All security roles that include this specific access right
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "permissions")
     @Builder.Default
     private Set<Role> roles = new HashSet<>();
@@ -3,6 +3,10 @@ package vn.com.fecredit.app.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -38,6 +42,8 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
  * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "provinces", indexes = {
         @Index(name = "idx_province_code", columnList = "code", unique = true),
         @Index(name = "idx_province_status", columnList = "status")
@@ -78,6 +84,7 @@ public class Province extends AbstractSimplePersistableEntity<Long> {
      * The regions this province belongs to
      * Represents the parent geographical entities containing this province
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "region_province",
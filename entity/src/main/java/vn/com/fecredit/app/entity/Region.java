@@ -3,6 +3,10 @@ package vn.com.fecredit.app.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -37,6 +41,8 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
  * </p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "regions", indexes = {
     @Index(name = "idx_region_code", columnList = "code", unique = true),
     @Index(name = "idx_region_status", columnList = "status")
@@ -78,6 +84,7 @@ public class Region extends AbstractSimplePersistableEntity<Long> {
      * Collection of provinces within this region
      * Administrative subdivisions of the region
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "regions")
     @Builder.Default
     private Set<Province> provinces = new HashSet<>();
@@ -4,14 +4,22 @@ import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -23,6 +31,9 @@ import lombok.experimental.SuperBuilder;
 import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
 import vn.com.fecredit.app.entity.base.StatusAware; // Changed from interfaces to base package
 import vn.com.fecredit.app.entity.enums.CommonStatus;
+import vn.com.fecredit.app.entity.listener.SearchShadowListener;
+import vn.com.fecredit.app.entity.search.NormalizedShadow;
+import vn.com.fecredit.app.entity.search.SearchAnalyzers;
 
 /**
  * Represents a reward that can be won in the lucky draw system.
@@ -30,10 +41,15 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
  * like probability, quantity, and status.
  */
 @Entity
+@Indexed
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "rewards", indexes = {
     @Index(name = "idx_reward_code", columnList = "code", unique = true),
+    @Index(name = "idx_reward_code_norm", columnList = "code_norm"),
     @Index(name = "idx_reward_status", columnList = "status")
 })
+@EntityListeners(SearchShadowListener.class)
 @Getter
 @Setter
 @SuperBuilder(toBuilder = true)
@@ -45,13 +61,23 @@ public class Reward extends AbstractSimplePersistableEntity<Long> {
 
     @NotBlank(message = "Reward name is required")
     @Column(name = "name", nullable = false)
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String name;
 
     @NotBlank(message = "Reward code is required")
     @Column(name = "code", nullable = false)
     @EqualsAndHashCode.Include
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String code;
 
+    /**
+     * Lower-cased, accent-free copy of code for indexed exact and prefix lookups
+     */
+    @Column(name = "code_norm", length = 50)
+    @NormalizedShadow(of = "code")
+    @Setter(AccessLevel.NONE)
+    private String codeNorm;
+
     // @NotBlank(message = "Reward today quantity remaining is required")
     // @Column(name = "todayRemaining", nullable = false)
     // @EqualsAndHashCode.Include
@@ -59,6 +85,7 @@ public class Reward extends AbstractSimplePersistableEntity<Long> {
     // private Integer todayRemaining = 0;
 
     @Column(name = "description")
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String description;
 
     /**
@@ -43,6 +43,7 @@ import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
     @Index(name = "idx_spin_reward", columnList = "reward_id"),
     @Index(name = "idx_spin_golden_hour", columnList = "golden_hour_id"),
     @Index(name = "idx_spin_time", columnList = "spin_time"),
+    @Index(name = "idx_spin_event_time", columnList = "participant_event_id, spin_time"),
     @Index(name = "idx_spin_status", columnList = "status")
 })
 @Getter
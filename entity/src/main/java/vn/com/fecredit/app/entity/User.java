@@ -3,6 +3,9 @@ package vn.com.fecredit.app.entity;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
+import vn.com.fecredit.app.entity.search.SearchAnalyzers;
 
 
 /**
@@ -49,6 +53,7 @@ import vn.com.fecredit.app.entity.base.AbstractSimplePersistableEntity;
  * @see AbstractSimplePersistableEntity
  */
 @Entity
+@Indexed
 @Table(name = "users", indexes = {
     @Index(name = "idx_user_username", columnList = "username", unique = true),
     @Index(name = "idx_user_email", columnList = "email", unique = true)
@@ -66,6 +71,7 @@ public class User extends AbstractSimplePersistableEntity<Long> {
     @NotBlank(message = "Username is required")
     @Column(name = "username", nullable = false, unique = true)
     @EqualsAndHashCode.Include
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String username;
 
     /**
@@ -82,6 +88,7 @@ public class User extends AbstractSimplePersistableEntity<Long> {
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be valid")
     @Column(name = "email", nullable = false)
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String email;
 
     /**
@@ -89,6 +96,7 @@ public class User extends AbstractSimplePersistableEntity<Long> {
      */
     @NotBlank(message = "Full name is required")
     @Column(name = "full_name", nullable = false)
+    @FullTextField(analyzer = SearchAnalyzers.SUBSTRING)
     private String fullName;
 
 //    /**
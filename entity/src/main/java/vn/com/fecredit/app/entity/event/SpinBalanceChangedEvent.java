@@ -0,0 +1,54 @@
+package vn.com.fecredit.app.entity.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event that is published when a participant's spin balance for an event
+ * may have changed (a spin was taken, spins were granted, or the
+ * registration was created or removed).
+ * Consumers use it to invalidate cached spins-remaining values.
+ */
+public class SpinBalanceChangedEvent extends ApplicationEvent {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The ID of the event whose balance changed
+     */
+    private final Long eventId;
+
+    /**
+     * The ID of the participant whose balance changed
+     */
+    private final Long participantId;
+
+    /**
+     * Creates a new spin balance change event.
+     *
+     * @param source        the entity that triggered the change
+     * @param eventId       the ID of the event
+     * @param participantId the ID of the participant
+     */
+    public SpinBalanceChangedEvent(Object source, Long eventId, Long participantId) {
+        super(source);
+        this.eventId = eventId;
+        this.participantId = participantId;
+    }
+
+    /**
+     * Gets the ID of the event whose balance changed.
+     *
+     * @return the event ID
+     */
+    public Long getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Gets the ID of the participant whose balance changed.
+     *
+     * @return the participant ID
+     */
+    public Long getParticipantId() {
+        return participantId;
+    }
+}
@@ -22,6 +22,7 @@ import vn.com.fecredit.app.entity.AuditLog;
 import vn.com.fecredit.app.entity.base.AbstractPersistableEntity;
 import vn.com.fecredit.app.entity.enums.CommonStatus;
 import vn.com.fecredit.app.entity.event.EntityAuditEvent;
+import vn.com.fecredit.app.entity.search.NormalizedShadow;
 
 /**
  * JPA Entity Listener that tracks and records entity changes for audit
@@ -248,6 +249,7 @@ public class EntityAuditListener {
     private boolean shouldIgnoreField(Field field) {
         return field.isSynthetic() ||
                 IGNORED_FIELDS.contains(field.getName()) ||
+                field.isAnnotationPresent(NormalizedShadow.class) ||
                 field.getName().startsWith("_") ||
                 field.getType().isAssignableFrom(List.class) ||
                 field.getType().isAssignableFrom(java.util.Set.class);
@@ -0,0 +1,72 @@
+package vn.com.fecredit.app.entity.listener;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.search.NormalizedShadow;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
+
+/**
+ * JPA Entity Listener that keeps {@link NormalizedShadow} columns in step with the
+ * fields they shadow.
+ *
+ * <p>
+ * Runs before every insert and update, so the shadow column is written in the same
+ * statement as its source field.
+ * </p>
+ */
+@Slf4j
+public class SearchShadowListener {
+
+    /**
+     * Shadow fields of each entity class, found once by reflection
+     */
+    private static final Map<Class<?>, List<ShadowField>> SHADOW_FIELDS = new ConcurrentHashMap<>();
+
+    /**
+     * Called before an entity is inserted or updated
+     *
+     * @param entity the entity being written
+     */
+    @PrePersist
+    @PreUpdate
+    public void updateShadows(Object entity) {
+        for (ShadowField shadowField : SHADOW_FIELDS.computeIfAbsent(entity.getClass(), SearchShadowListener::findShadowFields)) {
+            try {
+                Object source = shadowField.source().get(entity);
+                shadowField.shadow().set(entity, source != null ? SearchNormalizer.normalize(source.toString()) : null);
+            } catch (IllegalAccessException e) {
+                log.warn("Could not update shadow field {}: {}", shadowField.shadow().getName(), e.getMessage());
+            }
+        }
+    }
+
+    private static List<ShadowField> findShadowFields(Class<?> entityClass) {
+        List<ShadowField> shadowFields = new ArrayList<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            NormalizedShadow annotation = field.getAnnotation(NormalizedShadow.class);
+            if (annotation == null) {
+                continue;
+            }
+            try {
+                Field source = entityClass.getDeclaredField(annotation.of());
+                source.setAccessible(true);
+                field.setAccessible(true);
+                shadowFields.add(new ShadowField(source, field));
+            } catch (NoSuchFieldException e) {
+                log.error("Shadow field {}.{} refers to unknown field {}",
+                        entityClass.getSimpleName(), field.getName(), annotation.of());
+            }
+        }
+        return List.copyOf(shadowFields);
+    }
+
+    private record ShadowField(Field source, Field shadow) {
+    }
+}
@@ -0,0 +1,62 @@
+package vn.com.fecredit.app.entity.listener;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.context.ApplicationEventPublisher;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.ParticipantEventKey;
+import vn.com.fecredit.app.entity.event.SpinBalanceChangedEvent;
+
+/**
+ * JPA Entity Listener that announces changes to a participant's spin balance.
+ *
+ * <p>
+ * Attached to {@link ParticipantEvent} so that every write on the spin path
+ * (spinning, granting spins, registering or removing a participant) publishes
+ * a {@link SpinBalanceChangedEvent}. Unlike {@link EntityAuditListener} it does
+ * not snapshot entity state on load, so it adds no cost to read paths.
+ * </p>
+ */
+@Configurable
+@Slf4j
+public class SpinBalanceListener {
+
+    /**
+     * Event publisher used to notify cache holders of balance changes
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Called after a participant event is inserted, updated or removed.
+     *
+     * @param entity the participant event that changed
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void balanceChanged(Object entity) {
+        if (!(entity instanceof ParticipantEvent participantEvent)) {
+            return;
+        }
+
+        ParticipantEventKey key = participantEvent.getId();
+        if (key == null || key.getEventLocationKey() == null || eventPublisher == null) {
+            return;
+        }
+
+        try {
+            eventPublisher.publishEvent(new SpinBalanceChangedEvent(
+                    participantEvent,
+                    key.getEventLocationKey().getEventId(),
+                    key.getParticipantId()));
+        } catch (Exception e) {
+            log.warn("Error publishing spin balance event: {}", e.getMessage());
+        }
+    }
+}
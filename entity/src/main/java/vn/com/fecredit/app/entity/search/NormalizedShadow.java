@@ -0,0 +1,36 @@
+package vn.com.fecredit.app.entity.search;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a column that holds the {@link SearchNormalizer normalized} copy of another
+ * string field, so equality and prefix lookups can use a plain index on it instead of
+ * {@code lower(column)}.
+ * <p>
+ * The value is maintained by {@link vn.com.fecredit.app.entity.listener.SearchShadowListener}
+ * and is not part of the entity's public data.
+ * </p>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NormalizedShadow {
+
+    /**
+     * @return name of the field this column shadows
+     */
+    String of();
+
+    /**
+     * How a free-text search on the shadowed field is matched. CONTAINS, the default, keeps
+     * the substring match of every other field. PREFIX or EXACT let the search use the
+     * shadow index, but then a value in the middle of the field no longer matches.
+     *
+     * @return the free-text search mode
+     */
+    SearchMode mode() default SearchMode.CONTAINS;
+}
@@ -0,0 +1,21 @@
+package vn.com.fecredit.app.entity.search;
+
+/**
+ * Names of the full-text analyzers used by indexed entity fields.
+ * <p>
+ * The analyzers themselves are defined by the search backend configuration in the
+ * service module; entities only refer to them by name.
+ * </p>
+ */
+public final class SearchAnalyzers {
+
+    /**
+     * Lower-cased, accent-folded trigrams of the whole field value. A field contains a
+     * search string only if it has all of the string's trigrams, so matches on this
+     * analyzer are a superset of {@code lower(field) LIKE '%value%'}.
+     */
+    public static final String SUBSTRING = "substring";
+
+    private SearchAnalyzers() {
+    }
+}
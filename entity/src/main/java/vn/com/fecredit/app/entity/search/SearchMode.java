@@ -0,0 +1,22 @@
+package vn.com.fecredit.app.entity.search;
+
+/**
+ * How a string field is matched when it is searched.
+ */
+public enum SearchMode {
+
+    /**
+     * Whole value, case and accent insensitive
+     */
+    EXACT,
+
+    /**
+     * Starts with the search value, case and accent insensitive
+     */
+    PREFIX,
+
+    /**
+     * Contains the search value anywhere
+     */
+    CONTAINS
+}
@@ -0,0 +1,64 @@
+package vn.com.fecredit.app.entity.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes strings for index-friendly search: lower case without accents.
+ * <p>
+ * Vietnamese diacritics are removed ("Nguyễn Đức" becomes "nguyen duc"), so
+ * operators can type values with or without accents.
+ * </p>
+ */
+public final class SearchNormalizer {
+
+    /**
+     * Escape character of {@link #prefixPattern(String)}
+     */
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchNormalizer() {
+    }
+
+    /**
+     * Normalize a value
+     *
+     * @param value The value, may be null
+     * @return Lower-cased value with accents removed, or null for null
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        // đ/Đ is a letter of its own, not d with a combining mark
+        String folded = value.replace('đ', 'd').replace('Đ', 'D');
+        String decomposed = Normalizer.normalize(folded, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * LIKE pattern matching the strings that start with the prefix, with {@code %},
+     * {@code _} and the escape character itself escaped by {@link #LIKE_ESCAPE}.
+     * <p>
+     * LIKE compares characters, so unlike a {@code [p, p+1)} range it is exact under any
+     * collation; linguistic collations order punctuation such as {@code -} or {@code +}
+     * apart from the letters around it.
+     *
+     * @param prefix Normalized prefix
+     * @return The pattern
+     */
+    public static String prefixPattern(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -64,6 +64,7 @@ CREATE TABLE IF NOT EXISTS events (
     status VARCHAR(50) NOT NULL,
     name VARCHAR(255) NOT NULL,
     code VARCHAR(50) NOT NULL UNIQUE,
+    code_norm VARCHAR(50),
     description TEXT,
     start_time TIMESTAMP,
     end_time TIMESTAMP,
@@ -98,6 +99,8 @@ CREATE TABLE IF NOT EXISTS participants (
     name VARCHAR(255) NOT NULL,
     code VARCHAR(50) NOT NULL UNIQUE,
     phone VARCHAR(20),
+    code_norm VARCHAR(50),
+    phone_norm VARCHAR(20),
     email VARCHAR(255),
     address VARCHAR(255),
     province_id BIGINT,
@@ -131,6 +134,7 @@ CREATE TABLE IF NOT EXISTS rewards (
     status VARCHAR(50) NOT NULL,
     name VARCHAR(255) NOT NULL,
     code VARCHAR(50) NOT NULL UNIQUE,
+    code_norm VARCHAR(50),
     description TEXT,
     prize_value DECIMAL(10,2) DEFAULT 0,
     version BIGINT DEFAULT 0
@@ -305,6 +309,10 @@ CREATE INDEX IF NOT EXISTS idx_province_code ON provinces(code);
 CREATE INDEX IF NOT EXISTS idx_event_code ON events(code);
 CREATE INDEX IF NOT EXISTS idx_participant_code ON participants(code);
 CREATE INDEX IF NOT EXISTS idx_reward_code ON rewards(code);
+CREATE INDEX IF NOT EXISTS idx_event_code_norm ON events(code_norm);
+CREATE INDEX IF NOT EXISTS idx_participant_code_norm ON participants(code_norm);
+CREATE INDEX IF NOT EXISTS idx_participant_phone_norm ON participants(phone_norm);
+CREATE INDEX IF NOT EXISTS idx_reward_code_norm ON rewards(code_norm);
 CREATE INDEX IF NOT EXISTS idx_user_username ON users(username);
 CREATE INDEX IF NOT EXISTS idx_config_key ON configurations(config_key);
 CREATE INDEX IF NOT EXISTS idx_participants_province ON participants(province_id);
@@ -120,8 +120,15 @@ export interface TableFetchRequest {
     filters: FilterRequest[];
     search: Record<ObjectType, DataObject>;
     viewColumns?: ColumnInfo[]; // Added to support column selection in queries
+    cursorMode?: boolean; // Keyset pagination: page by cursor instead of page number
+    cursor?: string; // nextCursor from the previous page, omitted for the first page
+    hasNextOnly?: boolean; // Skip the total count; the response only reports hasNext
+    format?: ResponseFormat; // Row encoding of the response, ROWS when omitted
 }
 
+// Row encoding of a table fetch response
+export type ResponseFormat = 'ROWS' | 'COLUMNAR';
+
 // Column information structure
 export interface ColumnInfo {
     objectType: ObjectType;
@@ -191,6 +198,11 @@ export interface TableFetchResponse extends TableInfo {
     statistics: StatisticsInfo;
     data?: TableRow;
     uploadFile?: UploadFile;
+    nextCursor?: string; // Set in cursor mode when another page follows
+    hasNext?: boolean;
+    format?: ResponseFormat; // COLUMNAR responses carry columns and values instead of rows
+    columns?: string[]; // Column names of each values array
+    values?: any[][]; // One array per row, in columns order
 }
 
 // Table action request interface
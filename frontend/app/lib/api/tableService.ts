@@ -6,7 +6,8 @@ import {
   FetchStatus,
   StatisticsInfo,
   FilterType,
-  DataObject
+  DataObject,
+  TableRow
 } from './interfaces';
 import { stringToObjectType } from '../mockData/utils';
 import { mockFetchTableData } from './mockData'; // Import the correct function
@@ -220,6 +221,29 @@ function sortRows(rows: any[], sortField: string, sortOrder: string): any[] {
   });
 }
 
+// Rebuild rows from a columnar response so callers keep working with row maps
+export function decodeColumnarResponse(data: TableFetchResponse): TableFetchResponse {
+  if (!data || data.format !== 'COLUMNAR' || !data.columns || !data.values) {
+    return data;
+  }
+
+  const columns = data.columns;
+  const rows: TableRow[] = data.values.map(values => {
+    const rowData: Record<string, any> = {};
+    for (let i = 0; i < columns.length; i++) {
+      rowData[columns[i]] = values[i];
+    }
+    // Row responses only carry relatedTables when there are some
+    if (rowData.relatedTables == null) {
+      delete rowData.relatedTables;
+    }
+    return { data: rowData };
+  });
+
+  const { columns: _columns, values: _values, ...rest } = data;
+  return { ...rest, rows, format: 'ROWS' };
+}
+
 // Global request cache to prevent duplicate requests
 const requestCache = new Map<string, {
   timestamp: number;
@@ -227,6 +251,15 @@ const requestCache = new Map<string, {
   response?: TableFetchResponse;
 }>();
 
+// Last ETag and response per request body; the server answers 304 while the data is unchanged
+const validatorCache = new Map<string, {
+  etag: string;
+  response: TableFetchResponse;
+}>();
+
+// Most recently fetched requests kept for revalidation
+const VALIDATOR_CACHE_LIMIT = 200;
+
 // Cache TTL in milliseconds (5 seconds)
 const CACHE_TTL = 5000;
 
@@ -301,12 +334,16 @@ export async function fetchTableData(request: TableFetchRequest): Promise<TableF
     // Create the request body with both objectType and entityName as expected by backend
     const requestBody = {
       ...request,
-      entityName: entityEndpoint // Add the entityName field that the backend expects
+      entityName: entityEndpoint, // Add the entityName field that the backend expects
+      format: request.format ?? 'COLUMNAR' // Field names once per response instead of once per row
     };
     
     // Log the request for debugging
     console.log(`Fetching data from: ${url}`, requestBody);
     
+    const validatorKey = JSON.stringify(requestBody);
+    const validator = validatorCache.get(validatorKey);
+
     // Create the fetch promise
     const fetchPromise = (async () => {
       try {
@@ -314,13 +351,22 @@ export async function fetchTableData(request: TableFetchRequest): Promise<TableF
           method: 'POST',
           headers: {
             ...apiConfig.headers,
-            'Content-Type': 'application/json' // Make sure we set the content type
+            'Content-Type': 'application/json', // Make sure we set the content type
+            ...(validator ? { 'If-None-Match': validator.etag } : {})
           },
           body: JSON.stringify(requestBody), // Send the enhanced request body with entityName
           // Add cache control headers to prevent browser caching
           cache: 'no-store'
         });
 
+        // Unchanged since the last fetch of the same request
+        if (response.status === 304 && validator) {
+          if (requestCache.has(cacheKey)) {
+            requestCache.get(cacheKey)!.response = validator.response;
+          }
+          return validator.response;
+        }
+
         // Handle errors
         if (!response.ok) {
           const errorText = await response.text();
@@ -328,7 +374,18 @@ export async function fetchTableData(request: TableFetchRequest): Promise<TableF
           throw new Error(`API error: ${response.status} ${errorText ? '- ' + errorText : ''}`);
         }
 
-        const data = await response.json();
+        const data = decodeColumnarResponse(await response.json());
+
+        const etag = response.headers.get('ETag');
+        if (etag) {
+          validatorCache.delete(validatorKey);
+          validatorCache.set(validatorKey, { etag, response: data });
+          if (validatorCache.size > VALIDATOR_CACHE_LIMIT) {
+            validatorCache.delete(validatorCache.keys().next().value!);
+          }
+        } else {
+          validatorCache.delete(validatorKey);
+        }
         
         // Store the successful response in the cache
         if (requestCache.has(cacheKey)) {
@@ -106,7 +106,8 @@ export const wheelService = {
     eventId: string | number,
     participantId?: string | number,
     page = 0,
-    size = 10
+    size = 10,
+    cursor?: string
   ) => {
     if (FEATURES.USE_MOCK_DATA) {
       // Return mock data
@@ -136,6 +137,10 @@ export const wheelService = {
       if (participantId) {
         url += `&participantId=${participantId}`;
       }
+      if (cursor) {
+        // Keyset cursor from the previous page's nextCursor
+        url += `&cursor=${encodeURIComponent(cursor)}`;
+      }
 
       const response = await fetch(url, {
         headers: {
@@ -3,14 +3,19 @@ package vn.com.fecredit.app.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import vn.com.fecredit.app.entity.Configuration;
 import vn.com.fecredit.app.entity.enums.CommonStatus;
 
 @Repository
 public interface ConfigurationRepository extends SimpleObjectRepository<Configuration, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Configuration> findByKey(String key);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Configuration> findByStatus(CommonStatus status);
     List<Configuration> findByKeyContainingIgnoreCase(String searchTerm);
 }
@@ -54,4 +54,21 @@ public interface ParticipantEventRepository extends ComplexObjectRepository<Part
     List<ParticipantEvent> findByParticipantIdAndSpinsRemainingGreaterThan(
             @Param("participantId") Long participantId,
             @Param("minSpins") int minSpins);
+
+    /**
+     * Sum the spins remaining for a participant across all locations of an event.
+     * Resolves through the primary key columns only, so no joins are needed.
+     *
+     * @param eventId the event ID
+     * @param participantId the participant ID
+     * @param status the status to filter
+     * @return total spins remaining, zero when the participant is not registered
+     */
+    @Query("SELECT COALESCE(SUM(pe.spinsRemaining), 0) FROM ParticipantEvent pe " +
+            "WHERE pe.id.eventLocationKey.eventId = :eventId " +
+            "AND pe.id.participantId = :participantId AND pe.status = :status")
+    Long sumSpinsRemaining(
+            @Param("eventId") Long eventId,
+            @Param("participantId") Long participantId,
+            @Param("status") CommonStatus status);
 }
@@ -3,10 +3,13 @@ package vn.com.fecredit.app.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import vn.com.fecredit.app.entity.Permission;
 import vn.com.fecredit.app.entity.enums.CommonStatus;
 import vn.com.fecredit.app.entity.enums.PermissionName;
@@ -23,6 +26,7 @@ public interface PermissionRepository extends SimpleObjectRepository<Permission,
      * @param name the permission name
      * @return optional permission
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Permission> findByName(PermissionName name);
 
     /**
@@ -37,6 +41,7 @@ public interface PermissionRepository extends SimpleObjectRepository<Permission,
      * @param status the status
      * @return list of permissions
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Permission> findByStatus(CommonStatus status);
 
     /**
@@ -44,6 +49,7 @@ public interface PermissionRepository extends SimpleObjectRepository<Permission,
      * @param roleId the role ID
      * @return list of permissions
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Permission p JOIN p.roles r WHERE r.id = :roleId")
     List<Permission> findByRoleId(@Param("roleId") Long roleId);
 
@@ -3,9 +3,12 @@ package vn.com.fecredit.app.repository;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,10 +19,12 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
 @Repository
 public interface ProvinceRepository extends SimpleObjectRepository<Province, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Province> findByCode(String code);
 
     boolean existsByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Province> findByStatus(CommonStatus status);
 
     // Methods with Entity parameters - using JPQL queries to handle many-to-many relationship
@@ -35,6 +40,7 @@ public interface ProvinceRepository extends SimpleObjectRepository<Province, Lon
     boolean existsByCodeAndRegion(@Param("code") String code, @Param("region") Region region);
 
     // Methods with ID parameters
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Province p JOIN p.regions r WHERE r.id = :regionId")
     List<Province> findByRegionId(@Param("regionId") Long regionId);
 
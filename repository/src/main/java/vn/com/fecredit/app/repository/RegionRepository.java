@@ -3,8 +3,11 @@ package vn.com.fecredit.app.repository;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,10 +17,12 @@ import vn.com.fecredit.app.entity.enums.CommonStatus;
 @Repository
 public interface RegionRepository extends SimpleObjectRepository<Region, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Region> findByCode(String code);
 
     boolean existsByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Region> findByStatus(CommonStatus status);
 
     @Query("SELECT DISTINCT r FROM Region r " +
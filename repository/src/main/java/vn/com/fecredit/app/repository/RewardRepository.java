@@ -3,20 +3,25 @@ package vn.com.fecredit.app.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
 import vn.com.fecredit.app.entity.Reward;
 import vn.com.fecredit.app.entity.enums.CommonStatus;
 
 @Repository
 public interface RewardRepository extends SimpleObjectRepository<Reward, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Reward> findByCode(String code);
 
     boolean existsByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Reward> findByStatus(CommonStatus status);
 
     Page<Reward> findByStatus(@NotNull CommonStatus status, Pageable pageable);
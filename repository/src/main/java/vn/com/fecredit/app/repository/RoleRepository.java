@@ -4,8 +4,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,7 @@ public interface RoleRepository extends SimpleObjectRepository<Role, Long> {
      * @param roleType the role type to search for
      * @return the matching role or empty if not found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByRoleType(RoleType roleType);
 
     /**
@@ -49,6 +53,7 @@ public interface RoleRepository extends SimpleObjectRepository<Role, Long> {
      * @param status the status to filter by
      * @return list of roles with the specified status
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Role> findByStatus(CommonStatus status);
 
     /**
@@ -3,6 +3,7 @@ package vn.com.fecredit.app.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -59,4 +60,69 @@ public interface SpinHistoryRepository extends SimpleObjectRepository<SpinHistor
                      "ORDER BY sh.spinTime DESC")
        List<SpinHistory> findAllByParticipantEventIdOrderBySpinTimeDesc(
                      @Param("participantEvent") ParticipantEvent participantEvent);
+
+       /**
+        * First page of a participant's spins in an event, newest first.
+        * Filters on the participant/event columns of idx_spin_participant_event
+        * so the wheel page never scans the whole table.
+        */
+       @Query("SELECT sh FROM SpinHistory sh " +
+                     "LEFT JOIN FETCH sh.rewardEvent re LEFT JOIN FETCH re.reward " +
+                     "WHERE sh.participantEvent.id.participantId = :participantId " +
+                     "AND sh.participantEvent.id.eventLocationKey.eventId = :eventId " +
+                     "AND sh.status = :activeStatus " +
+                     "ORDER BY sh.spinTime DESC, sh.id DESC")
+       List<SpinHistory> findLatestParticipantSpins(
+                     @Param("eventId") Long eventId,
+                     @Param("participantId") Long participantId,
+                     @Param("activeStatus") CommonStatus activeStatus,
+                     Pageable pageable);
+
+       /**
+        * Next page of a participant's spins, seeking past the (spinTime, id) of the
+        * last row already returned instead of using an offset.
+        */
+       @Query("SELECT sh FROM SpinHistory sh " +
+                     "LEFT JOIN FETCH sh.rewardEvent re LEFT JOIN FETCH re.reward " +
+                     "WHERE sh.participantEvent.id.participantId = :participantId " +
+                     "AND sh.participantEvent.id.eventLocationKey.eventId = :eventId " +
+                     "AND sh.status = :activeStatus " +
+                     "AND (sh.spinTime < :spinTime OR (sh.spinTime = :spinTime AND sh.id < :lastId)) " +
+                     "ORDER BY sh.spinTime DESC, sh.id DESC")
+       List<SpinHistory> findParticipantSpinsBefore(
+                     @Param("eventId") Long eventId,
+                     @Param("participantId") Long participantId,
+                     @Param("activeStatus") CommonStatus activeStatus,
+                     @Param("spinTime") LocalDateTime spinTime,
+                     @Param("lastId") Long lastId,
+                     Pageable pageable);
+
+       /**
+        * First page of all spins in an event, newest first (uses idx_spin_event_time).
+        */
+       @Query("SELECT sh FROM SpinHistory sh " +
+                     "LEFT JOIN FETCH sh.rewardEvent re LEFT JOIN FETCH re.reward " +
+                     "WHERE sh.participantEvent.id.eventLocationKey.eventId = :eventId " +
+                     "AND sh.status = :activeStatus " +
+                     "ORDER BY sh.spinTime DESC, sh.id DESC")
+       List<SpinHistory> findLatestEventSpins(
+                     @Param("eventId") Long eventId,
+                     @Param("activeStatus") CommonStatus activeStatus,
+                     Pageable pageable);
+
+       /**
+        * Next page of all spins in an event, seeking past the given (spinTime, id).
+        */
+       @Query("SELECT sh FROM SpinHistory sh " +
+                     "LEFT JOIN FETCH sh.rewardEvent re LEFT JOIN FETCH re.reward " +
+                     "WHERE sh.participantEvent.id.eventLocationKey.eventId = :eventId " +
+                     "AND sh.status = :activeStatus " +
+                     "AND (sh.spinTime < :spinTime OR (sh.spinTime = :spinTime AND sh.id < :lastId)) " +
+                     "ORDER BY sh.spinTime DESC, sh.id DESC")
+       List<SpinHistory> findEventSpinsBefore(
+                     @Param("eventId") Long eventId,
+                     @Param("activeStatus") CommonStatus activeStatus,
+                     @Param("spinTime") LocalDateTime spinTime,
+                     @Param("lastId") Long lastId,
+                     Pageable pageable);
 }
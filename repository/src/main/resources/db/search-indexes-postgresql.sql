@@ -0,0 +1,7 @@
+-- Run after Hibernate updates the schema (spring.sql.init, deferred). The shadow columns
+-- and their plain indexes come from the entity mappings; these serve prefix LIKE 'p%'
+-- lookups on them, which under a linguistic collation only a pattern_ops index can.
+CREATE INDEX IF NOT EXISTS idx_participant_code_norm_pattern ON participants(code_norm varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_participant_phone_norm_pattern ON participants(phone_norm varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_event_code_norm_pattern ON events(code_norm varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_reward_code_norm_pattern ON rewards(code_norm varchar_pattern_ops);
@@ -12,6 +12,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -184,6 +185,30 @@ class SpinHistoryRepositoryTest extends AbstractRepositoryTest {
         assertThat(winningSpins.get(0).getId()).isEqualTo(winSpin.getId());
     }
 
+    @Test
+    void testKeysetPaginationForParticipantSpins() {
+        Long eventId = event.getId();
+        Long participantId = participant.getId();
+
+        // First page: newest active spin only
+        List<SpinHistory> firstPage = spinHistoryRepository.findLatestParticipantSpins(
+            eventId, participantId, CommonStatus.ACTIVE, PageRequest.of(0, 1));
+        assertThat(firstPage).hasSize(1);
+        assertThat(firstPage.get(0).isWin()).isFalse();
+
+        // Seek past the last row of the first page
+        SpinHistory last = firstPage.get(0);
+        List<SpinHistory> secondPage = spinHistoryRepository.findParticipantSpinsBefore(
+            eventId, participantId, CommonStatus.ACTIVE, last.getSpinTime(), last.getId(), PageRequest.of(0, 10));
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getId()).isEqualTo(winSpin.getId());
+
+        // Event-wide feed sees the same active spins
+        List<SpinHistory> eventSpins = spinHistoryRepository.findLatestEventSpins(
+            eventId, CommonStatus.ACTIVE, PageRequest.of(0, 10));
+        assertThat(eventSpins).hasSize(2);
+    }
+
     private void createTestData() {
         region = createAndSaveRegion();
         entityManager.flush();
@@ -0,0 +1,50 @@
+package vn.com.fecredit.app.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executor for background work (exports, imports, spin grants).
+ * <p>
+ * Follows {@code spring.threads.virtual.enabled}: when on, each task gets its own
+ * virtual thread; otherwise a small platform pool is used. Either way concurrency
+ * is capped by {@code app.async.max-concurrency}, which should stay below the
+ * Hikari pool size so background jobs cannot starve request handling of connections.
+ * A job submitted past the cap is rejected with {@code TaskRejectedException} (on
+ * virtual threads at once, on the pool once its queue is full), never blocking the caller.
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    @Bean(name = "taskExecutor")
+    public AsyncTaskExecutor taskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.async.max-concurrency:4}") int maxConcurrency) {
+        if (virtualThreads) {
+            log.info("Background tasks run on virtual threads (max concurrency {})", maxConcurrency);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            executor.setRejectTasksWhenLimitReached(true);
+            return executor;
+        }
+
+        log.info("Background tasks run on platform thread pool (size {})", maxConcurrency);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(100);
+        executor.initialize();
+        return executor;
+    }
+}
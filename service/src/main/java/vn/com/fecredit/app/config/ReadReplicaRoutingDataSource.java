@@ -0,0 +1,88 @@
+package vn.com.fecredit.app.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replica and all others to the
+ * primary.
+ * <p>
+ * The replica is only used while the {@link ReplicaLagGuard} allows it and the current
+ * thread has not written within the maximum lag; if a replica connection cannot be
+ * obtained, the guard is told and the primary is used instead. Connections of other
+ * transactions count as writes of their thread, when handed out and again when their
+ * transaction completes.
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy}, so that the connection is
+ * fetched at the first statement, after the transaction has been marked read-only.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagGuard lagGuard;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard lagGuard) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            recordWrite();
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            lagGuard.markUnavailable(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!useReplica()) {
+            recordWrite();
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            lagGuard.markUnavailable(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    private boolean useReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagGuard.isReplicaUsable()
+                && lagGuard.isSettled();
+    }
+
+    /**
+     * Record a write of the current thread for a connection that is not read-only, and
+     * again once its transaction has completed, as the replica lags from the commit
+     */
+    private void recordWrite() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        lagGuard.recordWrite();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lagGuard.recordWrite();
+                }
+            });
+        }
+    }
+}
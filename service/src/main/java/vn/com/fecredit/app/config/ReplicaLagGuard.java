@@ -0,0 +1,152 @@
+package vn.com.fecredit.app.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides whether read-only transactions may use the replica.
+ * <p>
+ * Every {@code checkIntervalSeconds} the lag query runs on the replica; it must return
+ * the replication lag in seconds (for PostgreSQL, the time since the last replayed
+ * transaction, or 0 once everything received has been replayed). The replica is usable
+ * while the lag is at most {@code maxLagSeconds} and the query succeeds. A blank lag query only checks that the replica answers.
+ * Until the first check passes, and after any failure, reads go to the primary.
+ * <p>
+ * A thread that wrote reads from the primary for {@code maxLagSeconds} afterwards, until
+ * the replica can have caught up with its write, so a request sees what it has just
+ * written. Other threads keep reading from the replica; a cache they refill right after
+ * a write (counts, spin balances, the second-level cache) may hold the replica's older
+ * value for its TTL, as it does for writes made outside the action handlers.
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final long checkIntervalSeconds;
+    private final ThreadLocal<Long> lastWriteMillis = new ThreadLocal<>();
+    private ScheduledExecutorService scheduler;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagGuard(DataSource replica, String lagQuery, double maxLagSeconds, long checkIntervalSeconds) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalSeconds = checkIntervalSeconds;
+    }
+
+    /**
+     * Start the periodic lag checks
+     */
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-guard");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Measure the replica lag now and update whether the replica is usable
+     */
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            double lag = 0;
+            if (lagQuery == null || lagQuery.isBlank()) {
+                if (!connection.isValid(2)) {
+                    throw new SQLException("Replica connection is not valid");
+                }
+            } else {
+                try (Statement statement = connection.createStatement();
+                        ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    lag = resultSet.next() ? resultSet.getDouble(1) : 0;
+                }
+            }
+
+            boolean withinLimit = lag <= maxLagSeconds;
+            if (withinLimit != usable) {
+                if (withinLimit) {
+                    log.info("Replica usable again (lag {} s)", lag);
+                } else {
+                    log.warn("Replica lag {} s exceeds {} s, routing reads to the primary", lag, maxLagSeconds);
+                }
+            }
+            lagSeconds = lag;
+            usable = withinLimit;
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable(e);
+        }
+    }
+
+    /**
+     * @return true if read-only transactions may use the replica
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * Note that the current thread wrote to the primary; its reads use the primary until
+     * the replica can have caught up
+     */
+    public void recordWrite() {
+        lastWriteMillis.set(System.currentTimeMillis());
+    }
+
+    /**
+     * @return true if the current thread has not written within the maximum lag
+     */
+    public boolean isSettled() {
+        Long lastWrite = lastWriteMillis.get();
+        if (lastWrite == null) {
+            return true;
+        }
+        if (System.currentTimeMillis() - lastWrite < maxLagSeconds * 1000) {
+            return false;
+        }
+        lastWriteMillis.remove();
+        return true;
+    }
+
+    /**
+     * Route reads to the primary until the next successful check
+     */
+    public void markUnavailable(Exception cause) {
+        if (usable) {
+            log.warn("Replica unavailable, routing reads to the primary: {}", cause.getMessage());
+        }
+        usable = false;
+    }
+
+    /**
+     * @return whether the replica is usable and its last measured lag
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("replicaUsable", usable);
+        status.put("lagSeconds", lagSeconds);
+        status.put("maxLagSeconds", maxLagSeconds);
+        return status;
+    }
+}
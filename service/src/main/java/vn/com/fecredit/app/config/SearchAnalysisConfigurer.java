@@ -0,0 +1,32 @@
+package vn.com.fecredit.app.config;
+
+import org.apache.lucene.analysis.core.KeywordTokenizerFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.ngram.NGramFilterFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+import vn.com.fecredit.app.entity.search.SearchAnalyzers;
+
+/**
+ * Defines the full-text analyzers named in {@link SearchAnalyzers}.
+ * <p>
+ * Instantiated by Hibernate Search through
+ * {@code hibernate.search.backend.analysis.configurer}, not by Spring.
+ */
+public class SearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        // The whole value is one token, so trigrams can span words like LIKE '%x%' does.
+        // ASCII folding also strips Vietnamese accents and maps đ to d.
+        context.analyzer(SearchAnalyzers.SUBSTRING).custom()
+                .tokenizer(KeywordTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(NGramFilterFactory.class)
+                        .param("minGramSize", "3")
+                        .param("maxGramSize", "3");
+    }
+}
@@ -0,0 +1,80 @@
+package vn.com.fecredit.app.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import vn.com.fecredit.app.service.SqlProfiler;
+
+/**
+ * Wraps the data source in a datasource-proxy that reports every executed statement
+ * to the {@link SqlProfiler}. Replaces {@code spring.jpa.show-sql}, which logs each
+ * statement synchronously; disable with {@code app.sql-profiler.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-profiler.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlProfilerConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlProfilingDataSourcePostProcessor(ObjectProvider<SqlProfiler> sqlProfiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Delegating data sources (such as the read replica router) reach pools that are profiled themselves
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+                log.info("Profiling SQL statements of data source {}", beanName);
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new ProfilingListener(sqlProfiler))
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Records each execution per statement, with the time datasource-proxy measured
+     */
+    private static final class ProfilingListener implements QueryExecutionListener {
+
+        private final ObjectProvider<SqlProfiler> sqlProfiler;
+
+        ProfilingListener(ObjectProvider<SqlProfiler> sqlProfiler) {
+            this.sqlProfiler = sqlProfiler;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            // Timed by datasource-proxy
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlProfiler profiler = sqlProfiler.getIfAvailable();
+            if (profiler == null || queryInfoList.isEmpty()) {
+                return;
+            }
+            long nanos = TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+            for (QueryInfo queryInfo : queryInfoList) {
+                profiler.record(queryInfo.getQuery(), nanos / queryInfoList.size());
+            }
+        }
+    }
+}
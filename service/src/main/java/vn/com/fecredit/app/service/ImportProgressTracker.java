@@ -9,13 +9,17 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.service.dto.TableActionResponse;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class ImportProgressTracker {
 
     public enum Status {
@@ -26,6 +30,8 @@ public class ImportProgressTracker {
         FAILED
     }
 
+    private final AsyncTaskExecutor taskExecutor;
+
     // Store job status information
     private final Map<String, Map<String, Object>> jobStatuses = new ConcurrentHashMap<>();
     private final ScheduledExecutorService cleanupService = Executors.newSingleThreadScheduledExecutor();
@@ -209,18 +215,24 @@ public class ImportProgressTracker {
     }
 
     /**
-     * Start an asynchronous process
+     * Start an asynchronous process on the shared background executor
      */
     public void startAsyncProcess(String jobId, Runnable process) {
-        new Thread(() -> {
-            try {
-                process.run();
-            } catch (Exception e) {
-                log.error("Error in async process for job {}: {}", jobId, e.getMessage(), e);
-                updateStatus(jobId, Status.FAILED);
-                updateMessage(jobId, "Process failed: " + e.getMessage());
-            }
-        }).start();
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    process.run();
+                } catch (Exception e) {
+                    log.error("Error in async process for job {}: {}", jobId, e.getMessage(), e);
+                    updateStatus(jobId, Status.FAILED);
+                    updateMessage(jobId, "Process failed: " + e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Background executor is saturated, rejecting job {}", jobId);
+            updateStatus(jobId, Status.FAILED);
+            updateMessage(jobId, "Server is busy, please retry later");
+        }
     }
 
     /**
@@ -0,0 +1,27 @@
+package vn.com.fecredit.app.service;
+
+import vn.com.fecredit.app.service.dto.SpinGrantRequest;
+
+/**
+ * Service for granting extra spins to a segment of participants in bulk.
+ */
+public interface SpinGrantService {
+
+    /**
+     * Start a bulk grant in the background.
+     * Progress is reported through {@link ImportProgressTracker} under the returned job ID.
+     *
+     * @param request The grant request
+     * @return The job ID to poll for progress
+     */
+    String startGrant(SpinGrantRequest request);
+
+    /**
+     * Run a bulk grant on the calling thread.
+     *
+     * @param request The grant request
+     * @param jobId   Job ID for progress reporting, may be null
+     * @return The number of participant events updated
+     */
+    long grantSpins(SpinGrantRequest request, String jobId);
+}
@@ -0,0 +1,176 @@
+package vn.com.fecredit.app.service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-fingerprint statistics of executed SQL statements.
+ * <p>
+ * Every statement executed through the profiled data source is recorded under its
+ * {@link SqlFingerprint}: execution count, total and maximum time, and a log-scale
+ * latency histogram for percentiles. All accumulators are lock-free, so recording
+ * does not serialize the threads running queries. At most
+ * {@code app.sql-profiler.max-fingerprints} fingerprints are tracked; later ones are
+ * counted together under {@value #OTHER}.
+ * <p>
+ * Instead of logging every statement, a sample of {@code app.sql-profiler.log-sample-rate}
+ * is logged at INFO, and statements slower than {@code app.sql-profiler.slow-threshold-ms}
+ * are always logged at WARN.
+ */
+@Component
+@Slf4j
+public class SqlProfiler {
+
+    static final String OTHER = "(other)";
+
+    /**
+     * Four histogram buckets per power of two of microseconds, up to about 19 hours
+     */
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 37 * SUB_BUCKETS;
+
+    private final int maxFingerprints;
+    private final double logSampleRate;
+    private final long slowThresholdNanos;
+    private final Map<String, Stats> statistics = new ConcurrentHashMap<>();
+
+    public SqlProfiler(@Value("${app.sql-profiler.max-fingerprints:500}") int maxFingerprints,
+            @Value("${app.sql-profiler.log-sample-rate:0.001}") double logSampleRate,
+            @Value("${app.sql-profiler.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        this.maxFingerprints = maxFingerprints;
+        this.logSampleRate = logSampleRate;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+    }
+
+    /**
+     * Record one execution of a statement
+     *
+     * @param sql   The statement as sent to the driver
+     * @param nanos Execution time in nanoseconds
+     */
+    public void record(String sql, long nanos) {
+        String fingerprint = SqlFingerprint.of(sql);
+        Stats stats = statistics.get(fingerprint);
+        if (stats == null) {
+            stats = statistics.size() < maxFingerprints
+                    ? statistics.computeIfAbsent(fingerprint, key -> new Stats())
+                    : statistics.computeIfAbsent(OTHER, key -> new Stats());
+        }
+        stats.record(nanos);
+
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow SQL ({} ms): {}", TableFetchMetrics.millis(nanos), fingerprint);
+        } else if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.info("Sampled SQL ({} ms): {}", TableFetchMetrics.millis(nanos), fingerprint);
+        }
+    }
+
+    /**
+     * Get the top fingerprints
+     *
+     * @param limit   Number of fingerprints to return
+     * @param orderBy One of {@code total}, {@code count}, {@code mean}, {@code p99} or {@code max}
+     * @return One map of statistics per fingerprint, in descending order
+     * @throws IllegalArgumentException if orderBy is not supported
+     */
+    public List<Map<String, Object>> top(int limit, String orderBy) {
+        Comparator<Map<String, Object>> order = switch (orderBy) {
+            case "total" -> Comparator.comparingDouble(row -> (Double) row.get("totalMs"));
+            case "count" -> Comparator.comparingLong(row -> (Long) row.get("count"));
+            case "mean" -> Comparator.comparingDouble(row -> (Double) row.get("meanMs"));
+            case "p99" -> Comparator.comparingDouble(row -> (Double) row.get("p99Ms"));
+            case "max" -> Comparator.comparingDouble(row -> (Double) row.get("maxMs"));
+            default -> throw new IllegalArgumentException("Unsupported order: " + orderBy);
+        };
+        return statistics.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * Forget all recorded statistics
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    static int bucket(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = exponent >= 2
+                ? (int) ((micros >> (exponent - 2)) & 3)
+                : (int) ((micros << (2 - exponent)) & 3);
+        return Math.min(BUCKETS - 1, exponent * SUB_BUCKETS + sub);
+    }
+
+    static double upperBoundMillis(int bucket) {
+        int exponent = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub + 1) * Math.pow(2, exponent - 2) / 1000.0;
+    }
+
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(bucket(nanos));
+        }
+
+        Map<String, Object> snapshot(String fingerprint) {
+            long[] buckets = new long[BUCKETS];
+            long observed = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+                observed += buckets[i];
+            }
+            long executions = count.sum();
+            long total = totalNanos.sum();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("fingerprint", fingerprint);
+            row.put("count", executions);
+            row.put("totalMs", TableFetchMetrics.millis(total));
+            row.put("meanMs", executions > 0 ? TableFetchMetrics.millis(total / executions) : 0.0);
+            row.put("p50Ms", percentile(buckets, observed, 0.50));
+            row.put("p95Ms", percentile(buckets, observed, 0.95));
+            row.put("p99Ms", percentile(buckets, observed, 0.99));
+            row.put("maxMs", TableFetchMetrics.millis(maxNanos.get()));
+            return row;
+        }
+
+        private static double percentile(long[] buckets, long observed, double quantile) {
+            if (observed == 0) {
+                return 0.0;
+            }
+            long rank = (long) Math.ceil(quantile * observed);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return upperBoundMillis(i);
+                }
+            }
+            return upperBoundMillis(buckets.length - 1);
+        }
+    }
+}
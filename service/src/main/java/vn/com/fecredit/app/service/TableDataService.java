@@ -1,5 +1,12 @@
 package vn.com.fecredit.app.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import vn.com.fecredit.app.service.dto.RelatedDataRequest;
+import vn.com.fecredit.app.service.dto.RelatedDataResponse;
 import vn.com.fecredit.app.service.dto.TableFetchRequest;
 import vn.com.fecredit.app.service.dto.TableFetchResponse;
 
@@ -24,4 +31,63 @@ public interface TableDataService {
      * @return response containing scalar property values in the statistics field
      */
     TableFetchResponse fetchScalarProperties(TableFetchRequest request);
+
+    /**
+     * Stream the rows of a scalar table query to an output stream as JSON while they are read,
+     * keeping memory bounded for large results. Page and size select the range; a size of
+     * zero or less streams every matching row.
+     *
+     * @param request the fetch request; cursor mode is not supported
+     * @param out the stream to write the JSON response to
+     * @return number of rows written
+     * @throws IOException if writing to the stream fails
+     * @throws IllegalArgumentException if the request cannot be mapped to a query
+     */
+    long streamData(TableFetchRequest request, OutputStream out) throws IOException;
+
+    /**
+     * Get hit and miss statistics of the compiled query plan cache
+     *
+     * @return map of statistic name to value
+     */
+    Map<String, Object> getQueryPlanStats();
+
+    /**
+     * Get hit, miss and put statistics of the entity second-level and query caches
+     *
+     * @return map of statistic name to value
+     */
+    Map<String, Object> getEntityCacheStats();
+
+    /**
+     * Get admitted, heavy and rejected query counts of the query cost guard
+     *
+     * @return map of statistic name to value
+     */
+    Map<String, Object> getQueryCostStats();
+
+    /**
+     * Get the ETag of a fetch, derived from the change version of the data it reads and
+     * the request; take it before fetching
+     *
+     * @param request the table fetch request
+     * @return the quoted ETag, or null if the response should not be validated
+     */
+    String getFetchETag(TableFetchRequest request);
+
+    /**
+     * Fetch several tables in one call, concurrently
+     *
+     * @param requests the fetch requests
+     * @return one response per request, in request order
+     */
+    List<TableFetchResponse> fetchBatch(List<TableFetchRequest> requests);
+
+    /**
+     * Load related tables of several rows at once, one query per related table
+     *
+     * @param request the parent object type, ids and related tables to load
+     * @return related rows grouped by related table and parent id
+     */
+    RelatedDataResponse fetchRelatedData(RelatedDataRequest request);
 }
@@ -0,0 +1,184 @@
+package vn.com.fecredit.app.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Root;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchResponse;
+
+/**
+ * Micrometer instrumentation of the table fetch pipeline.
+ * <p>
+ * Records a {@code table.fetch.phase} timer with a percentile histogram per object
+ * type and phase, and counters for rows returned ({@code table.fetch.rows}), joins
+ * created ({@code table.fetch.joins}) and compiled plan lookups
+ * ({@code table.fetch.plan.cache}, tagged hit or miss). While a fetch runs inside
+ * {@link #withBreakdown(Supplier)}, its phase times are also collected into the
+ * {@code timings} of the response.
+ */
+@Component
+public class TableFetchMetrics {
+
+    /**
+     * Phase of a table fetch
+     */
+    public enum Phase {
+        /** Compiled plan lookup and criteria query building */
+        BUILD_QUERY,
+        /** Total count query */
+        COUNT,
+        /** Page query; includes the count on the repository path */
+        PAGE,
+        /** Tuple or entity conversion into the response */
+        CONVERT,
+        /** JSON serialization of the response */
+        SERIALIZE;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final ThreadLocal<Map<Phase, Long>> breakdown = new ThreadLocal<>();
+
+    public TableFetchMetrics(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * Wrap work so that running it records a phase time. The wrapped work may run on
+     * another thread; its time still goes into the breakdown of the calling fetch.
+     */
+    public <T> Supplier<T> timed(ObjectType objectType, Phase phase, Supplier<T> work) {
+        Map<Phase, Long> phases = breakdown.get();
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return work.get();
+            } finally {
+                record(objectType, phase, System.nanoTime() - start, phases);
+            }
+        };
+    }
+
+    /**
+     * Run work and record its phase time
+     */
+    public <T> T time(ObjectType objectType, Phase phase, Supplier<T> work) {
+        return timed(objectType, phase, work).get();
+    }
+
+    /**
+     * Record a phase time measured by the caller
+     */
+    public void record(ObjectType objectType, Phase phase, long nanos) {
+        record(objectType, phase, nanos, breakdown.get());
+    }
+
+    public void countRows(ObjectType objectType, int rows) {
+        Counter.builder("table.fetch.rows")
+                .description("Rows returned by table fetches")
+                .tag("objectType", tag(objectType))
+                .register(registry)
+                .increment(rows);
+    }
+
+    /**
+     * Count the joins of a criteria query
+     */
+    public void countJoins(ObjectType objectType, CriteriaQuery<?> query) {
+        int joins = 0;
+        for (Root<?> root : query.getRoots()) {
+            joins += joinsBelow(root);
+        }
+        Counter.builder("table.fetch.joins")
+                .description("Joins created for table fetch queries")
+                .tag("objectType", tag(objectType))
+                .register(registry)
+                .increment(joins);
+    }
+
+    public void countPlanLookup(ObjectType objectType, boolean hit) {
+        Counter.builder("table.fetch.plan.cache")
+                .description("Compiled query plan lookups of table fetches")
+                .tag("objectType", tag(objectType))
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Run a fetch and report its phase times, in milliseconds, in the response
+     */
+    public TableFetchResponse withBreakdown(Supplier<TableFetchResponse> fetch) {
+        Map<Phase, Long> phases = new ConcurrentHashMap<>();
+        breakdown.set(phases);
+        long start = System.nanoTime();
+        try {
+            TableFetchResponse response = fetch.get();
+            Map<String, Double> timings = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                Long nanos = phases.get(phase);
+                if (nanos != null) {
+                    timings.put(phase.tag(), millis(nanos));
+                }
+            }
+            timings.put("total", millis(System.nanoTime() - start));
+            response.setTimings(timings);
+            return response;
+        } finally {
+            breakdown.remove();
+        }
+    }
+
+    /**
+     * @return true while the current thread runs inside {@link #withBreakdown(Supplier)}
+     */
+    public boolean isRecordingBreakdown() {
+        return breakdown.get() != null;
+    }
+
+    public static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private void record(ObjectType objectType, Phase phase, long nanos, Map<Phase, Long> phases) {
+        Timer.builder("table.fetch.phase")
+                .description("Time spent per phase of table fetches")
+                .tag("objectType", tag(objectType))
+                .tag("phase", phase.tag())
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (phases != null) {
+            phases.merge(phase, nanos, Long::sum);
+        }
+    }
+
+    private static int joinsBelow(From<?, ?> from) {
+        int joins = 0;
+        for (From<?, ?> join : from.getJoins()) {
+            joins += 1 + joinsBelow(join);
+        }
+        return joins;
+    }
+
+    private static String tag(ObjectType objectType) {
+        return objectType != null ? objectType.name() : "unknown";
+    }
+}
@@ -0,0 +1,45 @@
+package vn.com.fecredit.app.service;
+
+import vn.com.fecredit.app.service.dto.SpinHistoryPage;
+
+/**
+ * Read-side operations backing the lucky wheel page.
+ */
+public interface WheelService {
+
+    /**
+     * Get the spins a participant has left across all locations of an event.
+     *
+     * @param eventId       The event ID
+     * @param participantId The participant ID
+     * @return The number of spins remaining
+     */
+    long getSpinsRemaining(Long eventId, Long participantId);
+
+    /**
+     * Get a page of spin history for an event, newest first.
+     *
+     * @param eventId       The event ID
+     * @param participantId Optional participant ID to narrow the history
+     * @param cursor        Cursor returned by the previous page, or null for the first page
+     * @param page          Page number, only used when no cursor is given
+     * @param size          Page size
+     * @return The requested page
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    SpinHistoryPage getSpinHistory(Long eventId, Long participantId, String cursor, int page, int size);
+
+    /**
+     * Drop the cached spins-remaining value for a participant in an event.
+     *
+     * @param eventId       The event ID
+     * @param participantId The participant ID
+     */
+    void evictSpinsRemaining(Long eventId, Long participantId);
+
+    /**
+     * Drop every cached spins-remaining value, e.g. after a bulk update that
+     * bypassed entity listeners.
+     */
+    void clearSpinsRemainingCache();
+}
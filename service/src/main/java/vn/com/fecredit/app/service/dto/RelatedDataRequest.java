@@ -0,0 +1,47 @@
+package vn.com.fecredit.app.service.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for loading the related tables of several rows at once.
+ * One query per related table serves every parent id, instead of one fetch per
+ * related table per row.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedDataRequest {
+
+    /**
+     * Type of the parent rows
+     */
+    private ObjectType objectType;
+
+    /**
+     * Ids of the parent rows
+     */
+    @Builder.Default
+    private List<Long> ids = new ArrayList<>();
+
+    /**
+     * Related tables to load; empty loads every related table of the object type
+     */
+    @Builder.Default
+    private List<ObjectType> relatedTypes = new ArrayList<>();
+
+    /**
+     * Columns to return per related table; tables without an entry return all their
+     * basic columns
+     */
+    @Builder.Default
+    private Map<ObjectType, List<ColumnInfo>> viewColumns = new HashMap<>();
+}
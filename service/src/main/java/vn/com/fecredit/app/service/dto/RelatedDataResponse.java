@@ -0,0 +1,32 @@
+package vn.com.fecredit.app.service.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a batch related-data request: rows of each related table,
+ * grouped by the id of the parent row they belong to.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedDataResponse {
+
+    private FetchStatus status;
+
+    private String message;
+
+    /**
+     * Related rows by related table, then by parent id. Parent ids without related
+     * rows are absent.
+     */
+    @Builder.Default
+    private Map<ObjectType, Map<Long, List<TableRow>>> relatedData = new LinkedHashMap<>();
+}
@@ -0,0 +1,17 @@
+package vn.com.fecredit.app.service.dto;
+
+/**
+ * Enum representing how the rows of a table fetch response are encoded.
+ */
+public enum ResponseFormat {
+    /**
+     * One TableRow per row with a field name to value map
+     */
+    ROWS,
+
+    /**
+     * One column header list plus one value array per row, in header order.
+     * Field names are sent once per response instead of once per row.
+     */
+    COLUMNAR
+}
@@ -0,0 +1,35 @@
+package vn.com.fecredit.app.service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to add spins to every ParticipantEvent matching a set of filters.
+ * Filters use the same field paths as table fetch filters, rooted at
+ * ParticipantEvent (e.g. {@code participant.province.id} or
+ * {@code eventLocation.event.id}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpinGrantRequest {
+    /**
+     * Number of spins to add to each matching participant event
+     */
+    private int spins;
+
+    @Builder.Default
+    private List<FilterRequest> filters = new ArrayList<>();
+
+    /**
+     * Width of the participant ID range updated per transaction
+     */
+    @Builder.Default
+    private int chunkSize = 10000;
+}
@@ -0,0 +1,30 @@
+package vn.com.fecredit.app.service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A single spin as shown in the wheel page history panel
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpinHistoryItem {
+    private Long id;
+    private Long participantId;
+    private Long regionId;
+
+    /**
+     * WIN or LOSE
+     */
+    private String outcome;
+
+    private Long rewardId;
+    private String rewardName;
+    private LocalDateTime timestamp;
+}
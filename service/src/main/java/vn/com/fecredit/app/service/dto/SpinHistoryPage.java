@@ -0,0 +1,30 @@
+package vn.com.fecredit.app.service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One keyset page of spin history, newest first.
+ * Pass {@code nextCursor} back as {@code cursor} to read the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpinHistoryPage {
+    @Builder.Default
+    private List<SpinHistoryItem> spins = new ArrayList<>();
+
+    /**
+     * Opaque position of the last returned spin, null when there is no next page
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+    private int size;
+}
@@ -1,5 +1,7 @@
 package vn.com.fecredit.app.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -42,6 +44,42 @@ public class TableFetchRequest {
     @Builder.Default
     private int size = 10;
 
+    /**
+     * Use keyset (cursor) pagination instead of page offsets. Pages are read by seeking
+     * past the previous page's last row, so deep pages cost the same as the first one.
+     * The total count is not computed in this mode.
+     */
+    @Builder.Default
+    private boolean cursorMode = false;
+
+    /**
+     * Cursor returned as {@code nextCursor} by the previous page; null for the first page.
+     * Only used when {@link #cursorMode} is set, and only valid for the same sorts.
+     */
+    private String cursor;
+
+    /**
+     * Skip the total count and only report whether a next page exists, by reading
+     * one row past the page. Totals in the response are left empty.
+     */
+    @Builder.Default
+    private boolean hasNextOnly = false;
+
+    /**
+     * Encoding of the returned rows. COLUMNAR responses carry {@code columns} and
+     * {@code values} instead of {@code rows}.
+     */
+    @Builder.Default
+    private ResponseFormat format = ResponseFormat.ROWS;
+
+    /**
+     * Report the time spent per fetch phase in the response. Set from the debug
+     * timings header, never from the request body.
+     */
+    @JsonIgnore
+    @Builder.Default
+    private boolean includeTimings = false;
+
     /**
      * List of sort specifications (field and direction)
      */
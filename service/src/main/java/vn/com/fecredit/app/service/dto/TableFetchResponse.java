@@ -1,5 +1,10 @@
 package vn.com.fecredit.app.service.dto;
 
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -32,4 +37,38 @@ public class TableFetchResponse extends TableInfo {
      */
     private StatisticsInfo statistics;
 
+    /**
+     * Cursor for the next page when the request used cursor mode; null on the last page
+     */
+    private String nextCursor;
+
+    /**
+     * Whether another page follows, set when the request used cursor mode
+     */
+    private Boolean hasNext;
+
+    /**
+     * Encoding of the rows in this response; null means {@link ResponseFormat#ROWS}
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ResponseFormat format;
+
+    /**
+     * Column names of the {@link #values} arrays, set for columnar responses
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> columns;
+
+    /**
+     * One value array per row in {@link #columns} order, set for columnar responses
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Object[]> values;
+
+    /**
+     * Milliseconds spent per fetch phase and in total, set when the request asked for timings
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Double> timings;
+
 }
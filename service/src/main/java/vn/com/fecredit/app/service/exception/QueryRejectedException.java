@@ -0,0 +1,11 @@
+package vn.com.fecredit.app.service.exception;
+
+/**
+ * Thrown when a table query is refused by the query cost guard, either because it is
+ * over budget for its endpoint or because too many heavy queries are already running.
+ */
+public class QueryRejectedException extends RuntimeException {
+    public QueryRejectedException(String message) {
+        super(message);
+    }
+}
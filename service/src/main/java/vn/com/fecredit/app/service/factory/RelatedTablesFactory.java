@@ -30,4 +30,12 @@ public interface RelatedTablesFactory {
      * @return list of related entity classes
      */
     List<Class<?>> getRelatedEntityClasses(Object entity);
+
+    /**
+     * Gets the entity classes that are related to an entity class
+     * 
+     * @param entityClass the entity class
+     * @return list of related entity classes
+     */
+    List<Class<?>> getRelatedEntityClassesOf(Class<?> entityClass);
 }
\ No newline at end of file
@@ -31,6 +31,9 @@ public class RelatedTablesFactoryImpl implements RelatedTablesFactory {
     // Cache for storing discovered entity relationships
     private final Map<Class<?>, List<String>> entityRelatedTablesCache = new ConcurrentHashMap<>();
 
+    // Cache for storing discovered related entity classes
+    private final Map<Class<?>, List<Class<?>>> entityRelatedClassesCache = new ConcurrentHashMap<>();
+
     // Cache for storing entity class to table name mapping
     private final Map<Class<?>, String> entityTableNameCache = new ConcurrentHashMap<>();
 
@@ -73,6 +76,15 @@ public class RelatedTablesFactoryImpl implements RelatedTablesFactory {
         return discoverRelatedEntityClasses(entityClass);
     }
 
+    @Override
+    public List<Class<?>> getRelatedEntityClassesOf(Class<?> entityClass) {
+        if (entityClass == null) {
+            return List.of();
+        }
+
+        return entityRelatedClassesCache.computeIfAbsent(entityClass, this::discoverRelatedEntityClasses);
+    }
+
     /**
      * Get related tables for a specific entity class
      * 
@@ -2,7 +2,6 @@ package vn.com.fecredit.app.service.impl;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -10,18 +9,24 @@ import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.entity.base.AbstractPersistableEntity;
 import vn.com.fecredit.app.service.dto.TableRow;
 import vn.com.fecredit.app.service.factory.RepositoryFactory;
+import vn.com.fecredit.app.service.impl.table.ValueConverter;
+import vn.com.fecredit.app.service.impl.table.ValueConverters;
 
 /**
  * Service for handling entity to/from data mapping operations
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class EntityMapperService {
 
+    private final ValueConverters valueConverters;
+
     /**
      * Create an entity from TableRow data
      */
@@ -173,40 +178,30 @@ public class EntityMapperService {
             return value;
         }
 
-        String stringValue = value.toString();
-
         if (String.class.equals(fieldType)) {
-            return stringValue;
-        } else if (Long.class.equals(fieldType) || long.class.equals(fieldType)) {
-            return Long.valueOf(stringValue);
-        } else if (Integer.class.equals(fieldType) || int.class.equals(fieldType)) {
-            return Integer.valueOf(stringValue);
-        } else if (Double.class.equals(fieldType) || double.class.equals(fieldType)) {
-            return Double.valueOf(stringValue);
-        } else if (Boolean.class.equals(fieldType) || boolean.class.equals(fieldType)) {
-            return Boolean.valueOf(stringValue);
-        } else if (LocalDateTime.class.equals(fieldType)) {
-            if (stringValue.isEmpty()) {
-                return null;
-            }
-            if (stringValue.contains("T")) {
-                return LocalDateTime.parse(stringValue, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            } else {
-                return LocalDateTime.parse(stringValue + "T00:00:00", DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-            }
-        } else if (fieldType.isEnum()) {
-            // Handle enum conversion
-            try {
-                @SuppressWarnings({ "unchecked", "rawtypes" })
-                Object enumValue = Enum.valueOf((Class<Enum>) fieldType, stringValue);
-                return enumValue;
-            } catch (Exception e) {
+            return value.toString();
+        }
+
+        ValueConverter converter = valueConverters.forType(fieldType);
+        if (converter == null) {
+            return value;
+        }
+
+        String stringValue = value.toString().trim();
+        if (stringValue.isEmpty() && !fieldType.isPrimitive()) {
+            return null;
+        }
+
+        Object converted = converter.parse(stringValue);
+        if (converted == null) {
+            if (fieldType.isEnum()) {
                 log.warn("Failed to convert value to enum: {}", stringValue);
                 return null;
             }
+            throw new IllegalArgumentException(
+                    "Cannot convert '" + stringValue + "' to " + fieldType.getSimpleName());
         }
-
-        return value;
+        return converted;
     }
 
     /**
@@ -19,7 +19,10 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
 import lombok.AllArgsConstructor;
@@ -30,12 +33,16 @@ import vn.com.fecredit.app.config.FileStorageProperties;
 import vn.com.fecredit.app.service.dto.ColumnInfo;
 import vn.com.fecredit.app.service.dto.FetchStatus;
 import vn.com.fecredit.app.service.dto.FieldType;
+import vn.com.fecredit.app.service.dto.SortRequest;
+import vn.com.fecredit.app.service.dto.SortType;
 import vn.com.fecredit.app.service.dto.TableActionRequest;
 import vn.com.fecredit.app.service.dto.TableActionResponse;
 import vn.com.fecredit.app.service.dto.TableFetchRequest;
 import vn.com.fecredit.app.service.dto.TableFetchResponse;
 import vn.com.fecredit.app.service.dto.TableRow;
 import vn.com.fecredit.app.service.dto.UploadFile;
+import vn.com.fecredit.app.service.impl.table.EntityMetadataRegistry;
+import vn.com.fecredit.app.service.impl.table.QueryCostGuard;
 
 /**
  * Service responsible for handling the export of table data to Excel files
@@ -45,7 +52,25 @@ import vn.com.fecredit.app.service.dto.UploadFile;
 @RequiredArgsConstructor
 public class ExportService {
 
+    /**
+     * Rows read per page while exporting
+     */
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
+    /**
+     * Most rows one export writes, just under the row limit of an xlsx sheet
+     */
+    private static final int MAX_EXPORT_ROWS = 1_000_000;
+
+    /**
+     * Rows the streaming workbook keeps in memory before flushing them to disk
+     */
+    private static final int WORKBOOK_WINDOW_ROWS = 100;
+
     private final FileStorageProperties fileStorageProperties;
+    private final AsyncTaskExecutor taskExecutor;
+    private final QueryCostGuard queryCostGuard;
+    private final EntityMetadataRegistry metadataRegistry;
 
     // Helper class for column mapping
     @Getter
@@ -80,27 +105,26 @@ public class ExportService {
             Path failedFilePath = tempDir.resolve(failedFilename);
 
             // Create a CompletableFuture for the export operation
-            CompletableFuture.runAsync(() -> {
-                try {
-                    // First fetch the data to export
-                    TableFetchResponse fetchResponse = fetchDataForExport(request, tableDataService);
-                    
-                    if (fetchResponse.getStatus() != FetchStatus.SUCCESS &&
-                            fetchResponse.getStatus() != FetchStatus.NO_DATA) {
-                        throw new RuntimeException("Failed to fetch data: " + fetchResponse.getMessage());
+            try {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        // Read the data page by page, writing each page to the workbook as it arrives
+                        writeExcelFile(extractingFilePath, request, tableDataService);
+
+                        // If successful, rename to final filename
+                        Files.move(extractingFilePath, completeFilePath, StandardCopyOption.REPLACE_EXISTING);
+                        log.info("Export completed successfully: {}", completeFilePath);
+
+                    } catch (Exception e) {
+                        handleExportError(e, extractingFilePath, failedFilePath);
                     }
-
-                    // Write data to Excel
-                    writeExcelFile(extractingFilePath, request, fetchResponse);
-
-                    // If successful, rename to final filename
-                    Files.move(extractingFilePath, completeFilePath, StandardCopyOption.REPLACE_EXISTING);
-                    log.info("Export completed successfully: {}", completeFilePath);
-
-                } catch (Exception e) {
-                    handleExportError(e, extractingFilePath, failedFilePath);
-                }
-            });
+                }, taskExecutor);
+            } catch (TaskRejectedException e) {
+                // Never started, so the placeholder must not be listed as in progress
+                Files.deleteIfExists(extractingFilePath);
+                log.warn("Export of {} rejected: {}", request.getObjectType(), e.getMessage());
+                return TableActionResponse.error(request, "Too many exports are running, please try again later");
+            }
 
             // Create the download info for immediate response
             UploadFile downloadFile = new UploadFile();
@@ -122,47 +146,100 @@ public class ExportService {
     }
     
     /**
-     * Fetch data for export using table data service
+     * Build the fetch request of an export. Pages need a total order, so the id always
+     * follows the requested sorts. Entities with a single comparable id are read with
+     * keyset pagination, which seeks past the previous page instead of rescanning it.
      */
-    private TableFetchResponse fetchDataForExport(TableActionRequest request, TableDataServiceImpl tableDataService) {
+    private TableFetchRequest createExportFetchRequest(TableActionRequest request, Class<?> rootClass) {
         TableFetchRequest fetchRequest = new TableFetchRequest();
         fetchRequest.setObjectType(request.getObjectType());
         fetchRequest.setEntityName(request.getEntityName());
-        fetchRequest.setPage(0);
-        fetchRequest.setSize(Integer.MAX_VALUE);
-        fetchRequest.setSorts(request.getSorts());
+        fetchRequest.setSize(EXPORT_PAGE_SIZE);
         fetchRequest.setFilters(request.getFilters());
         fetchRequest.setSearch(request.getSearch());
-        
-        return tableDataService.fetchData(fetchRequest);
+
+        List<SortRequest> sorts = new ArrayList<>();
+        if (request.getSorts() != null) {
+            sorts.addAll(request.getSorts());
+        }
+        if (sorts.stream().noneMatch(sort -> "id".equals(sort.getField()))) {
+            sorts.add(new SortRequest("id", SortType.ASCENDING));
+        }
+        fetchRequest.setSorts(sorts);
+
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(rootClass);
+        fetchRequest.setCursorMode(metadata != null && metadata.idAttributes().size() == 1
+                && metadata.idType() != null && Comparable.class.isAssignableFrom(metadata.idType()));
+        return fetchRequest;
     }
-    
+
     /**
-     * Write data to Excel file
+     * Write data to Excel file. Pages are fetched one at a time and written to a streaming
+     * workbook, which keeps only a window of rows in memory and spills the rest to disk.
+     * The export runs in the export lane of the query cost guard, so heavy exports wait
+     * for a permit instead of competing with interactive fetches.
      */
-    private void writeExcelFile(Path filePath, TableActionRequest request, TableFetchResponse fetchResponse) 
+    private void writeExcelFile(Path filePath, TableActionRequest request, TableDataServiceImpl tableDataService)
             throws IOException {
-        try (FileOutputStream outputStream = new FileOutputStream(filePath.toFile());
-                Workbook workbook = new XSSFWorkbook()) {
-
-            Sheet sheet = workbook.createSheet(request.getObjectType().toString());
+        Class<?> rootClass = request.getObjectType() != null
+                ? metadataRegistry.entityClass(request.getObjectType()) : null;
+        TableFetchRequest fetchRequest = createExportFetchRequest(request, rootClass);
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(WORKBOOK_WINDOW_ROWS);
+        try (QueryCostGuard.Permit permit = rootClass != null
+                ? queryCostGuard.admit(fetchRequest, rootClass, QueryCostGuard.Lane.EXPORT)
+                : null;
+                FileOutputStream outputStream = new FileOutputStream(filePath.toFile())) {
+
+            SXSSFSheet sheet = workbook.createSheet(request.getObjectType().toString());
+            sheet.trackAllColumnsForAutoSizing();
+
+            List<ColumnMapping> columnMappings = null;
+            int written = 0;
+            for (int page = 0; written < MAX_EXPORT_ROWS; page++) {
+                fetchRequest.setPage(fetchRequest.isCursorMode() ? 0 : page);
+                TableFetchResponse response = tableDataService.fetchData(fetchRequest);
+                if (response.getStatus() == FetchStatus.ERROR) {
+                    throw new IllegalStateException("Failed to fetch data: " + response.getMessage());
+                }
+                if (columnMappings == null) {
+                    // Create header row with column names
+                    columnMappings = createHeaderRow(workbook, sheet, response);
+                }
+                if (response.getStatus() != FetchStatus.SUCCESS || response.getRows() == null) {
+                    break;
+                }
 
-            // Create header row with column names
-            List<ColumnMapping> columnMappings = createHeaderRow(workbook, sheet, fetchResponse);
+                written = addDataRows(sheet, response.getRows(), columnMappings, written);
 
-            // Add data rows
-            addDataRows(workbook, sheet, fetchResponse, columnMappings);
+                boolean more = fetchRequest.isCursorMode()
+                        ? response.getNextCursor() != null
+                        : response.getRows().size() >= EXPORT_PAGE_SIZE;
+                if (!more) {
+                    break;
+                }
+                if (written >= MAX_EXPORT_ROWS) {
+                    log.warn("Export of {} truncated to {} rows", request.getObjectType(), MAX_EXPORT_ROWS);
+                }
+                fetchRequest.setCursor(response.getNextCursor());
+            }
 
             // Auto-size columns
-            for (ColumnMapping mapping : columnMappings) {
-                sheet.autoSizeColumn(mapping.getColumnIndex());
+            if (columnMappings != null) {
+                for (ColumnMapping mapping : columnMappings) {
+                    sheet.autoSizeColumn(mapping.getColumnIndex());
+                }
             }
 
             // Write to file
             workbook.write(outputStream);
+        } finally {
+            // Remove the temporary files backing the streamed rows
+            workbook.dispose();
+            workbook.close();
         }
     }
-    
+
     /**
      * Handle export errors
      */
@@ -222,32 +299,29 @@ public class ExportService {
     }
 
     /**
-     * Add data rows to the Excel sheet
+     * Add one page of data rows to the Excel sheet, at most up to the export row limit
+     *
+     * @return The number of data rows written so far
      */
-    private void addDataRows(Workbook workbook, Sheet sheet,
-            TableFetchResponse response, List<ColumnMapping> columnMappings) {
-
-        // Create date style for date fields
-        CellStyle dateStyle = workbook.createCellStyle();
-        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
-
-        // Add data rows
-        int rowIndex = 1;
-        if (response.getRows() != null) {
-            for (TableRow tableRow : response.getRows()) {
-                Row row = sheet.createRow(rowIndex++);
+    private int addDataRows(Sheet sheet, List<TableRow> rows, List<ColumnMapping> columnMappings, int written) {
+        for (TableRow tableRow : rows) {
+            if (written >= MAX_EXPORT_ROWS) {
+                break;
+            }
+            // Row 0 is the header
+            Row row = sheet.createRow(++written);
 
-                // Add cells for each column in the same order as the headers
-                for (ColumnMapping mapping : columnMappings) {
-                    Cell cell = row.createCell(mapping.getColumnIndex());
+            // Add cells for each column in the same order as the headers
+            for (ColumnMapping mapping : columnMappings) {
+                Cell cell = row.createCell(mapping.getColumnIndex());
 
-                    // Get value from tableRow data using the field key
-                    Object value = tableRow.getData().get(mapping.getFieldKey());
+                // Get value from tableRow data using the field key
+                Object value = tableRow.getData().get(mapping.getFieldKey());
 
-                    setCellValue(cell, value);
-                }
+                setCellValue(cell, value);
             }
         }
+        return written;
     }
 
     /**
@@ -0,0 +1,243 @@
+package vn.com.fecredit.app.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.ParticipantEventKey;
+import vn.com.fecredit.app.service.ImportProgressTracker;
+import vn.com.fecredit.app.service.SpinGrantService;
+import vn.com.fecredit.app.service.WheelService;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SpinGrantRequest;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.CountCache;
+import vn.com.fecredit.app.service.impl.table.PredicateManager;
+
+/**
+ * Grants spins with set-based UPDATE statements instead of loading and saving
+ * each ParticipantEvent. The matching rows are processed in participant ID
+ * ranges, one short transaction per range, so locks and undo stay small.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpinGrantServiceImpl implements SpinGrantService {
+
+    private static final int MIN_CHUNK_SIZE = 100;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final PredicateManager predicateManager;
+    private final ImportProgressTracker progressTracker;
+    private final WheelService wheelService;
+    private final CountCache countCache;
+    private final ChangeVersions changeVersions;
+
+    @Override
+    public String startGrant(SpinGrantRequest request) {
+        validate(request);
+
+        String jobId = UUID.randomUUID().toString();
+        String username = currentUsername();
+        progressTracker.createJob(jobId, ObjectType.ParticipantEvent.name());
+        progressTracker.startAsyncProcess(jobId, () -> runGrant(request, jobId, username));
+        return jobId;
+    }
+
+    @Override
+    public long grantSpins(SpinGrantRequest request, String jobId) {
+        validate(request);
+        return runGrant(request, jobId, currentUsername());
+    }
+
+    private long runGrant(SpinGrantRequest request, String jobId, String username) {
+        if (jobId != null) {
+            progressTracker.updateStatus(jobId, ImportProgressTracker.Status.IMPORTING);
+            progressTracker.updateMessage(jobId, "Granting " + request.getSpins() + " spins");
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long updated = 0;
+        try {
+            Long[] bounds = transactionTemplate.execute(status -> findParticipantIdBounds(request));
+            if (bounds == null || bounds[0] == null) {
+                completeJob(jobId, 0);
+                return 0;
+            }
+
+            long minId = bounds[0];
+            long maxId = bounds[1];
+            long chunkSize = Math.max(MIN_CHUNK_SIZE, request.getChunkSize());
+            long span = maxId - minId + 1;
+
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long to = Math.min(maxId, from + chunkSize - 1);
+                final long lower = from;
+                Integer count = transactionTemplate.execute(status ->
+                        updateChunk(request, lower, to, username));
+                updated += count != null ? count : 0;
+
+                if (jobId != null) {
+                    progressTracker.updateImportProgress(jobId, (int) ((to - minId + 1) * 100 / span));
+                }
+            }
+
+            completeJob(jobId, updated);
+            log.info("Granted {} spins to {} participant events", request.getSpins(), updated);
+            return updated;
+        } catch (RuntimeException e) {
+            log.error("Bulk spin grant failed after {} rows", updated, e);
+            if (jobId != null) {
+                progressTracker.updateStatus(jobId, ImportProgressTracker.Status.FAILED);
+                progressTracker.updateMessage(jobId, "Spin grant failed: " + e.getMessage());
+                progressTracker.scheduleJobCleanup(jobId);
+            }
+            throw e;
+        } finally {
+            // Bulk statements bypass entity listeners, so drop cached balances wholesale
+            wheelService.clearSpinsRemainingCache();
+            countCache.evict(ObjectType.ParticipantEvent);
+            countCache.evict(ObjectType.Participant);
+            changeVersions.bump(ObjectType.ParticipantEvent);
+            changeVersions.bump(ObjectType.Participant);
+        }
+    }
+
+    /**
+     * Apply the grant to one participant ID range. The matching participant events are
+     * read once, before any balance changes, and both the balance update and the
+     * participant stamp are keyed by those rows, so a filter on the balance itself
+     * cannot make the two statements see different rows.
+     */
+    private int updateChunk(SpinGrantRequest request, long fromId, long toId, String username) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        LocalDateTime now = LocalDateTime.now();
+
+        CriteriaQuery<ParticipantEventKey> matches = cb.createQuery(ParticipantEventKey.class);
+        Root<ParticipantEvent> candidate = matches.from(ParticipantEvent.class);
+        matches.select(candidate.get("id"))
+                .where(matchingPredicates(request, cb, candidate, fromId, toId).toArray(new Predicate[0]));
+        List<ParticipantEventKey> keys = entityManager.createQuery(matches).getResultList();
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        CriteriaUpdate<ParticipantEvent> update = cb.createCriteriaUpdate(ParticipantEvent.class);
+        Root<ParticipantEvent> target = update.from(ParticipantEvent.class);
+        Path<Integer> spinsRemaining = target.get("spinsRemaining");
+        Path<Long> version = target.get("version");
+        update.set(spinsRemaining, cb.sum(spinsRemaining, request.getSpins()))
+                .set(version, cb.sum(version, 1L))
+                .set(target.<LocalDateTime>get("updatedAt"), now)
+                .set(target.<String>get("updatedBy"), username)
+                .where(cb.between(participantIdPath(target), fromId, toId), target.get("id").in(keys));
+        int updated = entityManager.createQuery(update).executeUpdate();
+
+        Set<Long> participantIds = new HashSet<>();
+        for (ParticipantEventKey key : keys) {
+            participantIds.add(key.getParticipantId());
+        }
+        CriteriaUpdate<Participant> stamp = cb.createCriteriaUpdate(Participant.class);
+        Root<Participant> participant = stamp.from(Participant.class);
+        stamp.set(participant.<Integer>get("lastAddingSpin"), request.getSpins())
+                .set(participant.<LocalDateTime>get("updatedAt"), now)
+                .set(participant.<String>get("updatedBy"), username)
+                .where(participant.<Long>get("id").in(participantIds));
+        entityManager.createQuery(stamp).executeUpdate();
+
+        return updated;
+    }
+
+    /**
+     * @param fromId Lowest participant ID of the range, or null for no range
+     * @param toId   Highest participant ID of the range, or null for no range
+     */
+    private List<Predicate> matchingPredicates(SpinGrantRequest request, CriteriaBuilder cb,
+            Root<ParticipantEvent> root, Long fromId, Long toId) {
+        TableFetchRequest filterRequest = TableFetchRequest.builder()
+                .objectType(ObjectType.ParticipantEvent)
+                .filters(request.getFilters())
+                .build();
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (fromId != null && toId != null) {
+            predicates.add(cb.between(participantIdPath(root), fromId, toId));
+        }
+        predicateManager.addDefaultFilters(cb, root, predicates);
+        predicateManager.applyFilters(filterRequest, predicates, cb, root);
+        return predicates;
+    }
+
+    /**
+     * Participant ID range of the matching rows, so chunks outside it are never scanned
+     */
+    private Long[] findParticipantIdBounds(SpinGrantRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ParticipantEvent> root = query.from(ParticipantEvent.class);
+        query.multiselect(cb.min(participantIdPath(root)), cb.max(participantIdPath(root)))
+                .where(matchingPredicates(request, cb, root, null, null).toArray(new Predicate[0]));
+
+        Tuple bounds = entityManager.createQuery(query).getSingleResult();
+        return new Long[] { bounds.get(0, Long.class), bounds.get(1, Long.class) };
+    }
+
+    private Path<Long> participantIdPath(Root<ParticipantEvent> root) {
+        return root.get("id").get("participantId");
+    }
+
+    private void completeJob(String jobId, long updated) {
+        if (jobId == null) {
+            return;
+        }
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalRecords", updated);
+        statistics.put("successCount", updated);
+        statistics.put("errorCount", 0);
+
+        progressTracker.updateImportProgress(jobId, 100);
+        progressTracker.updateStatistics(jobId, statistics);
+        progressTracker.updateMessage(jobId, "Granted spins to " + updated + " participant events");
+        progressTracker.updateStatus(jobId, ImportProgressTracker.Status.COMPLETED);
+        progressTracker.scheduleJobCleanup(jobId);
+    }
+
+    private void validate(SpinGrantRequest request) {
+        if (request == null || request.getSpins() <= 0) {
+            throw new IllegalArgumentException("Spin grant must add at least one spin");
+        }
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+}
@@ -1,20 +1,28 @@
 package vn.com.fecredit.app.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 // Keep other imports
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.PersistenceContext;
@@ -22,25 +30,46 @@ import jakarta.persistence.Tuple;
 // TypedQuery no longer needed
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.entity.base.AbstractStatusAwareEntity;
 import vn.com.fecredit.app.repository.AbstractRepository;
 import vn.com.fecredit.app.service.TableDataService;
+import vn.com.fecredit.app.service.TableFetchMetrics;
+import vn.com.fecredit.app.service.TableFetchMetrics.Phase;
 import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FetchStatus;
 import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.RelatedDataRequest;
+import vn.com.fecredit.app.service.dto.RelatedDataResponse;
+import vn.com.fecredit.app.service.dto.ResponseFormat;
+import vn.com.fecredit.app.service.dto.SortRequest;
 import vn.com.fecredit.app.service.dto.TableFetchRequest;
 import vn.com.fecredit.app.service.dto.TableFetchResponse;
 import vn.com.fecredit.app.service.dto.TableRow;
+import vn.com.fecredit.app.service.exception.QueryRejectedException;
 import vn.com.fecredit.app.service.factory.RepositoryFactory;
+import vn.com.fecredit.app.service.impl.table.BatchFetchRunner;
 import vn.com.fecredit.app.service.impl.table.ColumnInfoProvider;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.CountCache;
 import vn.com.fecredit.app.service.impl.table.EntityManager;
+import vn.com.fecredit.app.service.impl.table.FilterNode;
+import vn.com.fecredit.app.service.impl.table.KeysetCursor;
+import vn.com.fecredit.app.service.impl.table.KeysetPage;
 import vn.com.fecredit.app.service.impl.table.PaginationHelper;
+import vn.com.fecredit.app.service.impl.table.ParallelCountRunner;
 import vn.com.fecredit.app.service.impl.table.PredicateManager;
+import vn.com.fecredit.app.service.impl.table.QueryCostGuard;
 import vn.com.fecredit.app.service.impl.table.QueryManager;
+import vn.com.fecredit.app.service.impl.table.QueryPlan;
+import vn.com.fecredit.app.service.impl.table.QueryPlanCache;
+import vn.com.fecredit.app.service.impl.table.ReferenceDataCache;
+import vn.com.fecredit.app.service.impl.table.RelatedDataLoader;
 import vn.com.fecredit.app.service.impl.table.ResponseBuilder;
+import vn.com.fecredit.app.service.impl.table.TableStreamWriter;
 
 /**
  * Implementation of the TableDataService for fetching paginated table data.
@@ -59,12 +88,25 @@ public class TableDataServiceImpl implements TableDataService {    @PersistenceC
     private final PaginationHelper paginationHelper;
     private final ColumnInfoProvider columnInfoProvider;
     private final QueryManager queryManager;
+    private final CountCache countCache;
+    private final QueryPlanCache queryPlanCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final TableStreamWriter tableStreamWriter;
+    private final ParallelCountRunner parallelCountRunner;
+    private final RelatedDataLoader relatedDataLoader;
+    private final BatchFetchRunner batchFetchRunner;
+    private final QueryCostGuard queryCostGuard;
+    private final TableFetchMetrics tableFetchMetrics;
+    private final ChangeVersions changeVersions;
 
     @Override
     public TableFetchResponse fetchData(TableFetchRequest request) {
         if (request == null) {
             return responseBuilder.createErrorResponse("Request cannot be null");
         }
+        if (request.isIncludeTimings() && !tableFetchMetrics.isRecordingBreakdown()) {
+            return tableFetchMetrics.withBreakdown(() -> fetchData(request));
+        }
 
         try {
             // First try to use ObjectType if provided
@@ -95,6 +137,9 @@ public class TableDataServiceImpl implements TableDataService {    @PersistenceC
             if (request == null) {
                 return responseBuilder.createErrorResponse("Request cannot be null");
             }
+            if (request.isIncludeTimings() && !tableFetchMetrics.isRecordingBreakdown()) {
+                return tableFetchMetrics.withBreakdown(() -> fetchScalarProperties(request));
+            }
 
             ObjectType objectType = request.getObjectType();
             if (objectType == null) {
@@ -122,241 +167,225 @@ public class TableDataServiceImpl implements TableDataService {    @PersistenceC
                 return responseBuilder.createErrorResponse("Unsupported entity: " + objectType);
             }
 
-            // Create query
-            CriteriaQuery<Tuple> query = queryManager.buildCriteriaQuery(request, rootEntityClass);
-
-            // If query is null, create a simple default query to retrieve just IDs
-            if (query == null) {
-                log.warn("Failed to build query with provided parameters, creating simple default query");
-                CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-                query = cb.createTupleQuery();
-                Root<?> root = query.from(rootEntityClass);
-                query.multiselect(root.get("id").alias("id"));
-                query.distinct(true);
-            }
-
-            try {
-                // Get total count - pass the query instead of the request
-                long totalCount = queryManager.countTotalRecords(query);
-
-                // Get paginated results (even if empty)
-                List<Tuple> results = queryManager.executeQueryWithPagination(query, request);
-
-                if (results == null) {
-                    results = Collections.emptyList();
-                    log.warn("Query execution returned null results, using empty list");
-                }
-
-                // Build response - let the response builder handle empty results appropriately
-                return responseBuilder.buildResponse(
-                        request,
-                        results,
-                        rootEntityClass,
-                        totalCount,
-                        customEntityManager.getTableName(rootEntityClass));
-            } catch (Exception e) {
-                log.error("Error executing query: {}", e.getMessage(), e);
-                return responseBuilder.createErrorResponse("Error executing query: " + e.getMessage());
+            // Refuse fetches the cost estimate puts over the interactive budget
+            try (QueryCostGuard.Permit permit = queryCostGuard.admit(request, rootEntityClass,
+                    QueryCostGuard.Lane.INTERACTIVE)) {
+                return queryScalarProperties(request, rootEntityClass);
+            } catch (QueryRejectedException e) {
+                return responseBuilder.createErrorResponse(e.getMessage());
             }
         } catch (Exception e) {
             log.error("Error in fetchScalarProperties", e);
             return responseBuilder.createErrorResponse("Error fetching scalar properties: " + e.getMessage());
-        }    }
-    // Removed unused methods
-
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    private jakarta.persistence.criteria.Predicate recreatePredicateWithNewPath(
-            jakarta.persistence.criteria.Predicate original,
-            CriteriaBuilder cb,
-            Path<?> newPath) {
-        try {
-            String predString = original.toString().toLowerCase();
-            Class<?> pathType = newPath.getJavaType();
-            Object value = extractValue(predString);
-
-            // Convert value to appropriate type
-            Object convertedValue = convertValue(value, pathType);
+        }
+    }
 
-            // Determine predicate type and create appropriate version
-            if (predString.contains(" = ")) {
-                return cb.equal(newPath, convertedValue);
-            }
+    private TableFetchResponse queryScalarProperties(TableFetchRequest request, Class<?> rootEntityClass) {
+        ObjectType objectType = request.getObjectType();
 
-            if (predString.contains(" <> ")) {
-                return cb.notEqual(newPath, convertedValue);
+        // Reuse the compiled plan for this request shape when there is one
+        if (!request.isCursorMode()) {
+            Optional<QueryPlan> plan = tableFetchMetrics.time(objectType, Phase.BUILD_QUERY,
+                    () -> queryPlanCache.getPlan(request, rootEntityClass));
+            tableFetchMetrics.countPlanLookup(objectType, plan.isPresent());
+            if (plan.isPresent()) {
+                return fetchWithPlan(plan.get(), request, rootEntityClass);
             }
+        }
 
-            // Handle numeric comparisons
-            if (Comparable.class.isAssignableFrom(pathType)) {
-                Path<Comparable> comparablePath = (Path<Comparable>) newPath;
-                Comparable comparableValue = (Comparable) convertedValue;
-
-                if (predString.contains(" > ")) {
-                    return cb.greaterThan(comparablePath, comparableValue);
-                }
-
-                if (predString.contains(" >= ")) {
-                    return cb.greaterThanOrEqualTo(comparablePath, comparableValue);
-                }
+        // Build the filter tree once; it is compiled into both the page and the count query
+        FilterNode filter = FilterNode.of(request);
 
-                if (predString.contains(" < ")) {
-                    return cb.lessThan(comparablePath, comparableValue);
-                }
+        // Create query
+        CriteriaQuery<Tuple> query = tableFetchMetrics.time(objectType, Phase.BUILD_QUERY,
+                () -> queryManager.buildCriteriaQuery(request, rootEntityClass, filter));
+        if (query != null) {
+            tableFetchMetrics.countJoins(objectType, query);
+        }
 
-                if (predString.contains(" <= ")) {
-                    return cb.lessThanOrEqualTo(comparablePath, comparableValue);
-                }
-            }
+        // If query is null, create a simple default query to retrieve just IDs
+        if (query == null) {
+            log.warn("Failed to build query with provided parameters, creating simple default query");
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            query = cb.createTupleQuery();
+            Root<?> root = query.from(rootEntityClass);
+            query.multiselect(root.get("id").alias("id"));
+            query.orderBy(cb.asc(root.get("id")));
+            query.distinct(true);
+        }
 
-            // Handle LIKE predicates for strings
-            if (String.class.equals(pathType)) {
-                if (predString.contains(" like ")) {
-                    return cb.like(newPath.as(String.class), (String) convertedValue);
-                }
+        try {
+            if (request.isCursorMode()) {
+                CriteriaQuery<Tuple> keysetQuery = query;
+                KeysetPage<Tuple> page = tableFetchMetrics.time(objectType, Phase.PAGE,
+                        () -> queryManager.executeQueryWithKeyset(keysetQuery, request));
+                tableFetchMetrics.countRows(objectType, page.rows().size());
+                TableFetchResponse response = tableFetchMetrics.time(objectType, Phase.CONVERT,
+                        () -> responseBuilder.buildResponse(
+                                request,
+                                page.rows(),
+                                rootEntityClass,
+                                0L,
+                                customEntityManager.getTableName(rootEntityClass)));
+                responseBuilder.applyKeysetPage(response, page);
+                return response;
             }
 
-            // Handle IS NULL predicates
-            if (predString.contains(" is null")) {
-                return cb.isNull(newPath);
+            if (request.isHasNextOnly()) {
+                CriteriaQuery<Tuple> pageQuery = query;
+                List<Tuple> results = tableFetchMetrics.time(objectType, Phase.PAGE,
+                        () -> queryManager.executePage(pageQuery, request, rootEntityClass, filter, 1));
+                boolean hasNext = results.size() > request.getSize();
+                List<Tuple> pageRows = hasNext ? results.subList(0, request.getSize()) : results;
+                tableFetchMetrics.countRows(objectType, pageRows.size());
+                TableFetchResponse response = tableFetchMetrics.time(objectType, Phase.CONVERT,
+                        () -> responseBuilder.buildResponse(
+                                request,
+                                pageRows,
+                                rootEntityClass,
+                                0L,
+                                customEntityManager.getTableName(rootEntityClass)));
+                responseBuilder.applyHasNext(response, hasNext);
+                return response;
             }
 
-            if (predString.contains(" is not null")) {
-                return cb.isNotNull(newPath);
+            // Get total count - cached per filter signature, evicted by writes - and
+            // paginated results (even if empty), concurrently when enabled
+            CriteriaQuery<Tuple> pageQuery = query;
+            Supplier<Long> count = tableFetchMetrics.timed(objectType, Phase.COUNT,
+                    () -> countCache.getOrCount(request,
+                            () -> queryManager.countTotalRecords(request, rootEntityClass, filter)));
+            ParallelCountRunner.Result<List<Tuple>> result = parallelCountRunner.run(
+                    count::get,
+                    tableFetchMetrics.timed(objectType, Phase.PAGE,
+                            () -> queryManager.executePage(pageQuery, request, rootEntityClass, filter, 0)));
+            long totalCount = result.count();
+            List<Tuple> results = result.page();
+
+            if (results == null) {
+                results = Collections.emptyList();
+                log.warn("Query execution returned null results, using empty list");
             }
-
-            log.debug("Unsupported predicate type: {}", predString);
-            return original;
-
+            tableFetchMetrics.countRows(objectType, results.size());
+
+            // Build response - let the response builder handle empty results appropriately
+            List<Tuple> pageRows = results;
+            return tableFetchMetrics.time(objectType, Phase.CONVERT,
+                    () -> responseBuilder.buildResponse(
+                            request,
+                            pageRows,
+                            rootEntityClass,
+                            totalCount,
+                            customEntityManager.getTableName(rootEntityClass)));
         } catch (Exception e) {
-            log.debug("Failed to recreate predicate with new path: {} - {}", newPath, e.getMessage());
-            return original;
+            log.error("Error executing query: {}", e.getMessage(), e);
+            return responseBuilder.createErrorResponse("Error executing query: " + e.getMessage());
         }
     }
+    // Removed unused methods
 
-    /**
-     * Converts a value to the appropriate type based on the path's Java type
-     */
-    @SuppressWarnings("unchecked")
-    private Object convertValue(Object value, Class<?> targetType) {
-        if (value == null || targetType.isInstance(value)) {
-            return value;
+    @Override
+    public long streamData(TableFetchRequest request, OutputStream out) throws IOException {
+        if (request == null || request.getObjectType() == null) {
+            throw new IllegalArgumentException("No object type specified");
         }
 
-        String stringValue = value.toString().trim();
+        Class<?> rootEntityClass = customEntityManager.findEntityClass(null, request.getObjectType());
+        if (rootEntityClass == null) {
+            throw new IllegalArgumentException("Unsupported entity for object type: " + request.getObjectType());
+        }
+        if (request.isCursorMode()) {
+            throw new IllegalArgumentException("Cursor pagination is not supported when streaming");
+        }
 
-        try {
-            // Handle numeric types with format handling
-            if (targetType == Long.class || targetType == long.class) {
-                stringValue = stringValue.replaceAll("[,_]", ""); // Remove thousands separators
-                return Long.parseLong(stringValue);
-            }
-            if (targetType == Integer.class || targetType == int.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return Integer.parseInt(stringValue);
-            }
-            if (targetType == Double.class || targetType == double.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return Double.parseDouble(stringValue);
-            }
-            if (targetType == Float.class || targetType == float.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return Float.parseFloat(stringValue);
-            }
-            if (targetType == java.math.BigDecimal.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return new java.math.BigDecimal(stringValue);
-            }
+        CriteriaQuery<Tuple> query = queryManager.buildCriteriaQuery(request, rootEntityClass, FilterNode.of(request));
+        if (query == null) {
+            throw new IllegalArgumentException("Could not build a query for " + request.getObjectType());
+        }
 
-            // Handle boolean with various formats
-            if (targetType == Boolean.class || targetType == boolean.class) {
-                stringValue = stringValue.toLowerCase();
-                if (stringValue.matches("true|yes|1|on"))
-                    return true;
-                if (stringValue.matches("false|no|0|off"))
-                    return false;
-                return Boolean.parseBoolean(stringValue);
-            }
+        try (QueryCostGuard.Permit permit = queryCostGuard.admit(request, rootEntityClass, QueryCostGuard.Lane.STREAM)) {
+            return tableStreamWriter.write(query, request, customEntityManager.getTableName(rootEntityClass), out);
+        }
+    }
 
-            // Handle date/time types with multiple formats
-            if (targetType == java.time.LocalDateTime.class) {
-                try {
-                    return java.time.LocalDateTime.parse(stringValue);
-                } catch (Exception e) {
-                    // Try common date-time formats
-                    java.time.format.DateTimeFormatter[] formatters = {
-                            java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-                            java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
-                            java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"),
-                            java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss")
-                    };
-                    for (java.time.format.DateTimeFormatter formatter : formatters) {
-                        try {
-                            return java.time.LocalDateTime.parse(stringValue, formatter);
-                        } catch (Exception ex) {
-                            // Continue to next format
-                        }
-                    }
-                    throw new IllegalArgumentException("Could not parse datetime: " + stringValue);
-                }
-            }
+    @Override
+    public Map<String, Object> getQueryPlanStats() {
+        return queryPlanCache.getStats();
+    }
 
-            if (targetType == java.time.LocalDate.class) {
-                try {
-                    return java.time.LocalDate.parse(stringValue);
-                } catch (Exception e) {
-                    // Try common date formats
-                    java.time.format.DateTimeFormatter[] formatters = {
-                            java.time.format.DateTimeFormatter.ISO_LOCAL_DATE,
-                            java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-                            java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-                            java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy")
-                    };
-                    for (java.time.format.DateTimeFormatter formatter : formatters) {
-                        try {
-                            return java.time.LocalDate.parse(stringValue, formatter);
-                        } catch (Exception ex) {
-                            // Continue to next format
-                        }
-                    }
-                    throw new IllegalArgumentException("Could not parse date: " + stringValue);
-                }
-            }
+    @Override
+    public Map<String, Object> getEntityCacheStats() {
+        return referenceDataCache.getStats();
+    }
 
-            // Handle enums with case-insensitive matching
-            if (targetType.isEnum()) {
-                @SuppressWarnings({ "rawtypes" })
-                Class<Enum> enumType = (Class<Enum>) targetType;
-                try {
-                    return Enum.valueOf(enumType, stringValue.toUpperCase());
-                } catch (IllegalArgumentException e) {
-                    // Try case-insensitive search
-                    for (Object enumConstant : targetType.getEnumConstants()) {
-                        if (enumConstant.toString().equalsIgnoreCase(stringValue)) {
-                            return enumConstant;
-                        }
-                    }
-                    throw new IllegalArgumentException("No enum constant " + targetType.getName() + "." + stringValue);
-                }
-            }
+    @Override
+    public Map<String, Object> getQueryCostStats() {
+        return queryCostGuard.getStats();
+    }
 
-        } catch (Exception e) {
-            log.warn("Failed to convert value '{}' to type {}: {}", stringValue, targetType, e.getMessage());
+    @Override
+    public String getFetchETag(TableFetchRequest request) {
+        return request != null ? changeVersions.etag(request) : null;
+    }
+
+    // No outer transaction: each fetch opens its own, and a caller holding a connection
+    // while its fetches wait for permits could drain the pool
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TableFetchResponse> fetchBatch(List<TableFetchRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
         }
+        // Each fetch catches its own errors, so one failing table does not fail the batch
+        return batchFetchRunner.runAll(requests, this::fetchData);
+    }
 
-        return value;
+    @Override
+    public RelatedDataResponse fetchRelatedData(RelatedDataRequest request) {
+        if (request == null || request.getObjectType() == null) {
+            return RelatedDataResponse.builder().status(FetchStatus.ERROR).message("No object type specified").build();
+        }
+        try {
+            return relatedDataLoader.load(request);
+        } catch (IllegalArgumentException e) {
+            return RelatedDataResponse.builder().status(FetchStatus.ERROR).message(e.getMessage()).build();
+        } catch (Exception e) {
+            log.error("Error in fetchRelatedData", e);
+            return RelatedDataResponse.builder().status(FetchStatus.ERROR)
+                    .message("Error fetching related data: " + e.getMessage()).build();
+        }
     }
 
-    private Object extractValue(String predString) throws Exception {
-        String[] parts = predString.split("[=<>]");
-        if (parts.length > 1) {
-            String value = parts[1].trim();
-            if (value.startsWith("'") && value.endsWith("'")) {
-                value = value.substring(1, value.length() - 1);
-            }
-            return value;
+    /**
+     * Fetch a page through a compiled query plan, binding only the request's values
+     */
+    private TableFetchResponse fetchWithPlan(QueryPlan plan, TableFetchRequest request, Class<?> rootEntityClass) {
+        String tableName = customEntityManager.getTableName(rootEntityClass);
+        ObjectType objectType = request.getObjectType();
+
+        if (request.isHasNextOnly()) {
+            List<Tuple> results = tableFetchMetrics.time(objectType, Phase.PAGE,
+                    () -> queryManager.executePlan(plan, request, 1));
+            boolean hasNext = results.size() > request.getSize();
+            List<Tuple> pageRows = hasNext ? results.subList(0, request.getSize()) : results;
+            tableFetchMetrics.countRows(objectType, pageRows.size());
+            TableFetchResponse response = tableFetchMetrics.time(objectType, Phase.CONVERT,
+                    () -> responseBuilder.buildResponse(request, pageRows, rootEntityClass, 0L, tableName));
+            responseBuilder.applyHasNext(response, hasNext);
+            return response;
         }
-        throw new IllegalArgumentException("Could not extract value from predicate string");
-    }    private <T extends AbstractStatusAwareEntity<ID>, ID extends Serializable> TableFetchResponse fetchByObjectType(
+
+        Supplier<Long> count = tableFetchMetrics.timed(objectType, Phase.COUNT,
+                () -> countCache.getOrCount(request, () -> queryManager.countPlan(plan, request)));
+        ParallelCountRunner.Result<List<Tuple>> result = parallelCountRunner.run(
+                count::get,
+                tableFetchMetrics.timed(objectType, Phase.PAGE, () -> queryManager.executePlan(plan, request, 0)));
+        tableFetchMetrics.countRows(objectType, result.page().size());
+        return tableFetchMetrics.time(objectType, Phase.CONVERT,
+                () -> responseBuilder.buildResponse(request, result.page(), rootEntityClass, result.count(), tableName));
+    }
+
+    private <T extends AbstractStatusAwareEntity<ID>, ID extends Serializable> TableFetchResponse fetchByObjectType(
             TableFetchRequest request) {
         ObjectType objectType = request.getObjectType();
         Pageable pageable = paginationHelper.createPageable(request);
@@ -369,17 +398,36 @@ public class TableDataServiceImpl implements TableDataService {    @PersistenceC
                 // Get the repository for this entity class
                 AbstractRepository<T, ID> repository = repositoryFactory.getRepositoryForClass(entityClass);
 
+                if (request.isCursorMode() && !supportsKeyset(entityClass)) {
+                    return responseBuilder.createErrorResponse("Cursor pagination is not supported for " + objectType);
+                }
+
                 // Get the table name for this object type
-                String tableName = repositoryFactory.getTableNameForObjectType(objectType);                // Fetch the entities using the generic method
-                return fetchEntities(
-                        request,
-                        pageable,
-                        repository,
-                        tableName,
-                        this::createEntitySpecification,                        // Use the new EntityManager to convert entities to rows
-                        entity -> customEntityManager.convertEntityToTableRow(entity, 
-                            new java.util.ArrayList<>(columnInfoProvider.getColumnInfo(objectType, request).values())),
-                        () -> columnInfoProvider.getColumnInfo(objectType, request));
+                String tableName = repositoryFactory.getTableNameForObjectType(objectType);
+
+                // Columnar responses share one header; entities are converted straight to value arrays
+                Collection<ColumnInfo> viewColumns = columnInfoProvider.getColumnInfo(objectType, request).values();
+                List<String> columns = request.getFormat() == ResponseFormat.COLUMNAR
+                        ? responseBuilder.entityColumnHeader(viewColumns)
+                        : null;
+
+                // Fetch the entities using the generic method, if the cost estimate admits the fetch
+                try (QueryCostGuard.Permit permit = queryCostGuard.admit(request, entityClass,
+                        QueryCostGuard.Lane.INTERACTIVE)) {
+                    return fetchEntities(
+                            request,
+                            pageable,
+                            repository,
+                            tableName,
+                            this::createEntitySpecification,                        // Use the new EntityManager to convert entities to rows
+                            entity -> customEntityManager.convertEntityToTableRow(entity, 
+                                new java.util.ArrayList<>(columnInfoProvider.getColumnInfo(objectType, request).values())),
+                            columns,
+                            entity -> customEntityManager.convertEntityToValues(entity, columns, viewColumns.size()),
+                            () -> columnInfoProvider.getColumnInfo(objectType, request));
+                }
+            } catch (QueryRejectedException e) {
+                return responseBuilder.createErrorResponse(e.getMessage());
             } catch (IllegalArgumentException e) {
                 log.error("Error getting repository for entity class {}: {}", entityClass.getName(), e.getMessage());
                 return responseBuilder.createErrorResponse("Error getting repository: " + entityClass.getName());
@@ -397,13 +445,22 @@ public class TableDataServiceImpl implements TableDataService {    @PersistenceC
             String tableName,
             Function<TableFetchRequest, Specification<T>> specificationBuilder,
             Function<T, TableRow> rowConverter,
+            List<String> columns,
+            Function<T, Object[]> valuesConverter,
             Supplier<Map<String, ColumnInfo>> columnInfoProvider) {
 
         try {
             // Create specification for filtering
             Specification<T> spec = specificationBuilder.apply(request);
 
-            // Execute the query using JpaSpecificationExecutor
+            if (request.isCursorMode()) {
+                return fetchEntitiesWithKeyset(request, spec, repository, tableName, rowConverter,
+                        columns, valuesConverter, columnInfoProvider);
+            }
+
+            // Execute the query using JpaSpecificationExecutor; the page phase includes its count query
+            ObjectType objectType = request.getObjectType();
+            long queryStart = System.nanoTime();
             Page<T> page;
             if (repository instanceof JpaSpecificationExecutor) {
                 JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
@@ -411,30 +468,124 @@ public class TableDataServiceImpl implements TableDataService {    @PersistenceC
             } else {
                 log.warn("Repository does not support specifications, using basic pagination");
                 page = repository.findAll(pageable);
-            }            // Convert to response format
+            }
+            tableFetchMetrics.record(objectType, Phase.PAGE, System.nanoTime() - queryStart);
+            tableFetchMetrics.countRows(objectType, page.getNumberOfElements());
+
+            long convertStart = System.nanoTime();
+            if (columns != null) {
+                TableFetchResponse response = responseBuilder.buildEntityResponse(
+                        request, null, page, tableName, columnInfoProvider.get());
+                responseBuilder.applyColumnar(response, columns,
+                        page.getContent().stream().map(valuesConverter).collect(Collectors.toList()));
+                tableFetchMetrics.record(objectType, Phase.CONVERT, System.nanoTime() - convertStart);
+                return response;
+            }
+
+            // Convert to response format
             List<TableRow> rows = page.getContent().stream()
                     .map(rowConverter::apply)
                     .collect(Collectors.toList());
 
             // Build and return response
-            return responseBuilder.buildEntityResponse(request, rows, page, tableName, columnInfoProvider.get());
+            TableFetchResponse response = responseBuilder.buildEntityResponse(
+                    request, rows, page, tableName, columnInfoProvider.get());
+            tableFetchMetrics.record(objectType, Phase.CONVERT, System.nanoTime() - convertStart);
+            return response;
 
         } catch (Exception e) {
             log.error("Error executing query: {}", e.getMessage(), e);
             return responseBuilder.createErrorResponse("Error executing query: " + e.getMessage());
         }
-    }    private <T> Specification<T> createEntitySpecification(TableFetchRequest request) {
-        return (root, query, criteriaBuilder) -> {
-            List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+    }    /**
+     * Fetch one page of entities with keyset pagination: seek past the cursor, read one
+     * extra row to detect a following page, and encode the last row's sort keys as the next cursor.
+     */
+    private <T extends AbstractStatusAwareEntity<ID>, ID extends Serializable> TableFetchResponse fetchEntitiesWithKeyset(
+            TableFetchRequest request,
+            Specification<T> spec,
+            AbstractRepository<T, ID> repository,
+            String tableName,
+            Function<T, TableRow> rowConverter,
+            List<String> columns,
+            Function<T, Object[]> valuesConverter,
+            Supplier<Map<String, ColumnInfo>> columnInfoProvider) {
 
-            // Add default status filter
-            predicateManager.addDefaultFilters(criteriaBuilder, root, predicates);
+        if (!(repository instanceof JpaSpecificationExecutor)) {
+            return responseBuilder.createErrorResponse("Cursor pagination is not supported for " + tableName);
+        }
+        JpaSpecificationExecutor<T> specExecutor = (JpaSpecificationExecutor<T>) repository;
+
+        List<SortRequest> keys = paginationHelper.keysetSorts(request);
+        String cursor = request.getCursor();
+        Specification<T> seekSpec = spec;
+        if (cursor != null && !cursor.isBlank()) {
+            // Validate up front so a stale cursor is reported instead of failing inside the query
+            KeysetCursor.decode(cursor, keys.size());
+            seekSpec = spec.and((root, query, cb) -> predicateManager.buildKeysetPredicate(keys, cursor, cb, root));
+        }
 
-            // Apply filters from the request
-            predicateManager.applyFilters(request, predicates, criteriaBuilder, root);
+        int size = paginationHelper.normalizePageableParams(0, request.getSize())[1];
+        ObjectType objectType = request.getObjectType();
+        // Ordered by the specification rather than a Sort, which cannot state null precedence
+        Specification<T> pageSpec = seekSpec.and(predicateManager.keysetOrdering(keys));
+        List<T> entities = tableFetchMetrics.time(objectType, Phase.PAGE,
+                () -> specExecutor.findBy(pageSpec, query -> query.limit(size + 1).all()));
+
+        boolean hasNext = entities.size() > size;
+        List<T> pageEntities = hasNext ? entities.subList(0, size) : entities;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BeanWrapper last = PropertyAccessorFactory.forBeanPropertyAccess(pageEntities.get(pageEntities.size() - 1));
+            List<Object> values = new ArrayList<>(keys.size());
+            for (SortRequest key : keys) {
+                try {
+                    values.add(last.getPropertyValue(key.getField()));
+                } catch (NullValueInNestedPathException e) {
+                    // Nested keys are left joined, so a missing association sorts as a null key
+                    values.add(null);
+                }
+            }
+            nextCursor = KeysetCursor.encode(values);
+        }
+
+        KeysetPage<T> page = new KeysetPage<>(pageEntities, nextCursor, hasNext);
+        tableFetchMetrics.countRows(objectType, pageEntities.size());
+        long convertStart = System.nanoTime();
+        if (columns != null) {
+            TableFetchResponse response = responseBuilder.buildKeysetEntityResponse(
+                    request, null, page, tableName, columnInfoProvider.get());
+            responseBuilder.applyColumnar(response, columns,
+                    pageEntities.stream().map(valuesConverter).collect(Collectors.toList()));
+            tableFetchMetrics.record(objectType, Phase.CONVERT, System.nanoTime() - convertStart);
+            return response;
+        }
+
+        List<TableRow> rows = pageEntities.stream()
+                .map(rowConverter::apply)
+                .collect(Collectors.toList());
 
-            // Apply search criteria
-            predicateManager.applySearch(request, predicates, criteriaBuilder, root);
+        TableFetchResponse response = responseBuilder.buildKeysetEntityResponse(
+                request, rows, page, tableName, columnInfoProvider.get());
+        tableFetchMetrics.record(objectType, Phase.CONVERT, System.nanoTime() - convertStart);
+        return response;
+    }
+
+    /**
+     * Keyset pagination needs a single comparable id as the final tie-breaker
+     */
+    private boolean supportsKeyset(Class<?> entityClass) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        return entityType.hasSingleIdAttribute()
+                && Comparable.class.isAssignableFrom(entityType.getIdType().getJavaType());
+    }
+
+    private <T> Specification<T> createEntitySpecification(TableFetchRequest request) {
+        // Spring Data applies the specification to both the page and the count query
+        FilterNode filter = FilterNode.of(request);
+        return (root, query, criteriaBuilder) -> {
+            List<jakarta.persistence.criteria.Predicate> predicates = predicateManager.compile(filter, criteriaBuilder, root);
 
             // Return combined predicates
             return criteriaBuilder.and(predicates.toArray(new jakarta.persistence.criteria.Predicate[0]));
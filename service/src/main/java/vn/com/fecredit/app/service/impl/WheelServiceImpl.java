@@ -0,0 +1,242 @@
+package vn.com.fecredit.app.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.ParticipantEventKey;
+import vn.com.fecredit.app.entity.RewardEvent;
+import vn.com.fecredit.app.entity.SpinHistory;
+import vn.com.fecredit.app.entity.enums.CommonStatus;
+import vn.com.fecredit.app.entity.event.SpinBalanceChangedEvent;
+import vn.com.fecredit.app.repository.ParticipantEventRepository;
+import vn.com.fecredit.app.repository.SpinHistoryRepository;
+import vn.com.fecredit.app.service.WheelService;
+import vn.com.fecredit.app.service.dto.SpinHistoryItem;
+import vn.com.fecredit.app.service.dto.SpinHistoryPage;
+
+/**
+ * Serves the wheel page's background refresh: a read-through cache for spins
+ * remaining and keyset pagination over spin history.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WheelServiceImpl implements WheelService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Safety net only; entries are normally evicted by the spin path
+    private static final long SPINS_REMAINING_TTL_SECONDS = 30;
+
+    private final ParticipantEventRepository participantEventRepository;
+    private final SpinHistoryRepository spinHistoryRepository;
+
+    private final Map<String, CachedValue<Long>> spinsRemainingCache = new ConcurrentHashMap<>();
+
+    @Override
+    public long getSpinsRemaining(Long eventId, Long participantId) {
+        String key = cacheKey(eventId, participantId);
+        CachedValue<Long> cached = spinsRemainingCache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.getValue();
+        }
+
+        Long remaining = participantEventRepository.sumSpinsRemaining(eventId, participantId, CommonStatus.ACTIVE);
+        long value = remaining != null ? remaining : 0L;
+        spinsRemainingCache.put(key, new CachedValue<>(value, SPINS_REMAINING_TTL_SECONDS, TimeUnit.SECONDS));
+        return value;
+    }
+
+    @Override
+    public SpinHistoryPage getSpinHistory(Long eventId, Long participantId, String cursor, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        SpinCursor position = decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists without counting
+        Pageable limit = new OffsetLimit(position == null ? (long) Math.max(page, 0) * pageSize : 0, pageSize + 1);
+
+        List<SpinHistory> spins;
+        if (participantId != null) {
+            spins = position == null
+                    ? spinHistoryRepository.findLatestParticipantSpins(
+                            eventId, participantId, CommonStatus.ACTIVE, limit)
+                    : spinHistoryRepository.findParticipantSpinsBefore(
+                            eventId, participantId, CommonStatus.ACTIVE, position.spinTime(), position.id(), limit);
+        } else {
+            spins = position == null
+                    ? spinHistoryRepository.findLatestEventSpins(eventId, CommonStatus.ACTIVE, limit)
+                    : spinHistoryRepository.findEventSpinsBefore(
+                            eventId, CommonStatus.ACTIVE, position.spinTime(), position.id(), limit);
+        }
+
+        boolean hasNext = spins.size() > pageSize;
+        List<SpinHistoryItem> items = new ArrayList<>(Math.min(spins.size(), pageSize));
+        for (int i = 0; i < spins.size() && i < pageSize; i++) {
+            items.add(toItem(spins.get(i)));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            SpinHistoryItem last = items.get(items.size() - 1);
+            nextCursor = encodeCursor(last.getTimestamp(), last.getId());
+        }
+
+        return SpinHistoryPage.builder()
+                .spins(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
+    @Override
+    public void evictSpinsRemaining(Long eventId, Long participantId) {
+        spinsRemainingCache.remove(cacheKey(eventId, participantId));
+    }
+
+    @Override
+    public void clearSpinsRemainingCache() {
+        spinsRemainingCache.clear();
+    }
+
+    /**
+     * Evict the cached balance once the transaction that changed it has committed,
+     * so concurrent readers cannot re-cache the old value from an open transaction.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSpinBalanceChanged(SpinBalanceChangedEvent event) {
+        log.debug("Evicting spins remaining for event {} participant {}", event.getEventId(), event.getParticipantId());
+        evictSpinsRemaining(event.getEventId(), event.getParticipantId());
+    }
+
+    private SpinHistoryItem toItem(SpinHistory spin) {
+        ParticipantEventKey key = spin.getParticipantEvent() != null ? spin.getParticipantEvent().getId() : null;
+        RewardEvent rewardEvent = spin.getRewardEvent();
+
+        return SpinHistoryItem.builder()
+                .id(spin.getId())
+                .participantId(key != null ? key.getParticipantId() : null)
+                .regionId(key != null && key.getEventLocationKey() != null
+                        ? key.getEventLocationKey().getRegionId() : null)
+                .outcome(spin.isWin() ? "WIN" : "LOSE")
+                .rewardId(rewardEvent != null && rewardEvent.getReward() != null ? rewardEvent.getReward().getId() : null)
+                .rewardName(rewardEvent != null && rewardEvent.getReward() != null ? rewardEvent.getReward().getName() : null)
+                .timestamp(spin.getSpinTime())
+                .build();
+    }
+
+    private String cacheKey(Long eventId, Long participantId) {
+        return eventId + ":" + participantId;
+    }
+
+    private String encodeCursor(LocalDateTime spinTime, Long id) {
+        String raw = spinTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor was not issued by {@link #encodeCursor}
+     */
+    private SpinCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new SpinCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid spin history cursor", e);
+        }
+    }
+
+    private record SpinCursor(LocalDateTime spinTime, Long id) {
+    }
+
+    /**
+     * Row offset and limit, where a page request would derive the offset from the limit
+     */
+    private record OffsetLimit(long offset, int limit) implements Pageable {
+
+        @Override
+        public int getPageNumber() {
+            return (int) (offset / limit);
+        }
+
+        @Override
+        public int getPageSize() {
+            return limit;
+        }
+
+        @Override
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Sort getSort() {
+            return Sort.unsorted();
+        }
+
+        @Override
+        public Pageable next() {
+            return new OffsetLimit(offset + limit, limit);
+        }
+
+        @Override
+        public Pageable previousOrFirst() {
+            return hasPrevious() ? new OffsetLimit(Math.max(0, offset - limit), limit) : first();
+        }
+
+        @Override
+        public Pageable first() {
+            return new OffsetLimit(0, limit);
+        }
+
+        @Override
+        public Pageable withPage(int pageNumber) {
+            return new OffsetLimit((long) pageNumber * limit, limit);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return offset > 0;
+        }
+    }
+
+    private static class CachedValue<T> {
+        private final T value;
+        private final long expiryTime;
+
+        CachedValue(T value, long duration, TimeUnit unit) {
+            this.value = value;
+            this.expiryTime = System.currentTimeMillis() + unit.toMillis(duration);
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiryTime;
+        }
+    }
+}
@@ -11,6 +11,9 @@ import vn.com.fecredit.app.service.dto.TableActionResponse;
 import vn.com.fecredit.app.service.dto.TableRow;
 import vn.com.fecredit.app.service.factory.RepositoryFactory;
 import vn.com.fecredit.app.service.impl.EntityMapperService;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.CountCache;
+import vn.com.fecredit.app.service.impl.table.ReferenceDataCache;
 
 /**
  * Handler for ADD actions
@@ -22,6 +25,9 @@ public class AddActionHandler implements TableActionHandler {
 
     private final RepositoryFactory repositoryFactory;
     private final EntityMapperService entityMapperService;
+    private final CountCache countCache;
+    private final ChangeVersions changeVersions;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -36,6 +42,11 @@ public class AddActionHandler implements TableActionHandler {
             // Save the entity
             entity = entityMapperService.saveEntity(entity, repositoryFactory);
 
+            countCache.evictAfterCommit(request.getObjectType());
+
+            changeVersions.bumpAfterCommit(request.getObjectType());
+            referenceDataCache.evictAfterCommit(request.getObjectType());
+
             // Convert the saved entity to a TableRow
             TableRow savedRow = entityMapperService.convertEntityToTableRow(entity);
 
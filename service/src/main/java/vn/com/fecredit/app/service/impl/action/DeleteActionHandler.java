@@ -17,6 +17,9 @@ import vn.com.fecredit.app.service.dto.TableActionRequest;
 import vn.com.fecredit.app.service.dto.TableActionResponse;
 import vn.com.fecredit.app.service.factory.RepositoryFactory;
 import vn.com.fecredit.app.service.impl.EntityMapperService;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.CountCache;
+import vn.com.fecredit.app.service.impl.table.ReferenceDataCache;
 
 /**
  * Handler for DELETE actions
@@ -33,6 +36,9 @@ public class DeleteActionHandler implements TableActionHandler {
     private final EntityMapperService entityMapperService;
     private final vn.com.fecredit.app.service.impl.table.EntityManager customEntityManager;
     private final ObjectMapper objectMapper;
+    private final CountCache countCache;
+    private final ChangeVersions changeVersions;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -61,6 +67,11 @@ public class DeleteActionHandler implements TableActionHandler {
             entityToDelete.setStatus(CommonStatus.DELETED);
             entityManager.merge(entityToDelete);
 
+            countCache.evictAfterCommit(request.getObjectType());
+
+            changeVersions.bumpAfterCommit(request.getObjectType());
+            referenceDataCache.evictAfterCommit(request.getObjectType());
+
             return TableActionResponse.success(
                     request,
                     "Successfully deactivated " + request.getObjectType() + " with ID: " + id,
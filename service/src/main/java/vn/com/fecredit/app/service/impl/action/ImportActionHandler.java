@@ -12,6 +12,9 @@ import vn.com.fecredit.app.service.factory.RepositoryFactory;
 import vn.com.fecredit.app.service.impl.EntityMapperService;
 import vn.com.fecredit.app.service.impl.FileProcessingService;
 import vn.com.fecredit.app.service.impl.TableDataServiceImpl;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.CountCache;
+import vn.com.fecredit.app.service.impl.table.ReferenceDataCache;
 
 /**
  * Handler for IMPORT actions
@@ -26,18 +29,25 @@ public class ImportActionHandler implements TableActionHandler {
     private final FileProcessingService fileProcessingService;
     private final TableDataServiceImpl tableDataService;
     private final EntityMapperService entityMapperService;
+    private final CountCache countCache;
+    private final ChangeVersions changeVersions;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
     public TableActionResponse handle(TableActionRequest request) {
         try {
-            return fileProcessingService.processImportData(
+            TableActionResponse response = fileProcessingService.processImportData(
                 request,
                 entityManager,
                 repositoryFactory,
                 tableDataService,
                 entityMapperService
             );
+            countCache.evictAfterCommit(request.getObjectType());
+            changeVersions.bumpAfterCommit(request.getObjectType());
+            referenceDataCache.evictAfterCommit(request.getObjectType());
+            return response;
         } catch (Exception e) {
             log.error("Error processing IMPORT action", e);
             return TableActionResponse.error(request, "Failed to import data: " + e.getMessage());
@@ -17,6 +17,9 @@ import vn.com.fecredit.app.service.dto.TableActionResponse;
 import vn.com.fecredit.app.service.dto.TableRow;
 import vn.com.fecredit.app.service.factory.RepositoryFactory;
 import vn.com.fecredit.app.service.impl.EntityMapperService;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.CountCache;
+import vn.com.fecredit.app.service.impl.table.ReferenceDataCache;
 
 /**
  * Handler for UPDATE actions
@@ -33,6 +36,9 @@ public class UpdateActionHandler implements TableActionHandler {
     private final EntityMapperService entityMapperService;
     private final vn.com.fecredit.app.service.impl.table.EntityManager customEntityManager;
     private final ObjectMapper objectMapper;
+    private final CountCache countCache;
+    private final ChangeVersions changeVersions;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     @Transactional
@@ -62,6 +68,11 @@ public class UpdateActionHandler implements TableActionHandler {
             // Save the updated entity
             existingEntity = entityMapperService.saveEntity(existingEntity, repositoryFactory);
 
+            countCache.evictAfterCommit(request.getObjectType());
+
+            changeVersions.bumpAfterCommit(request.getObjectType());
+            referenceDataCache.evictAfterCommit(request.getObjectType());
+
             // Convert the updated entity to a TableRow
             TableRow updatedRow = entityMapperService.convertEntityToTableRow(existingEntity);
 
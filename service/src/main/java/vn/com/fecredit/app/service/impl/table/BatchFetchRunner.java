@@ -0,0 +1,91 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the fetches of a batch request concurrently.
+ * <p>
+ * Each fetch runs on a virtual thread in its own read-only transaction, so it has its
+ * own connection and persistence context. At most {@code app.table.batch.max-parallel}
+ * fetches run at a time across all batches, which bounds the connections batches hold
+ * together; other fetches wait for a permit. Callers must not hold a connection while
+ * they wait. Entity metadata comes from the immutable {@link EntityMetadataRegistry},
+ * so the fetches share it without locking.
+ */
+@Component
+public class BatchFetchRunner {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BatchFetchRunner(PlatformTransactionManager transactionManager,
+            @Value("${app.table.batch.max-size:20}") int maxBatchSize,
+            @Value("${app.table.batch.max-parallel:4}") int maxParallel) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxBatchSize = maxBatchSize;
+        this.permits = new Semaphore(Math.max(1, maxParallel));
+    }
+
+    /**
+     * Run a task for every request of a batch
+     *
+     * @param requests The requests of the batch
+     * @param task     Handles one request
+     * @return One result per request, in request order
+     * @throws IllegalArgumentException if the batch has more than {@code app.table.batch.max-size} requests
+     */
+    public <T, R> List<R> runAll(List<T> requests, Function<T, R> task) {
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " requests can be batched");
+        }
+
+        List<CompletableFuture<R>> futures = new ArrayList<>(requests.size());
+        for (T request : requests) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return transactionTemplate.execute(status -> task.apply(request));
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
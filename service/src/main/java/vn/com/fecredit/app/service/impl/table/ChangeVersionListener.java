@@ -0,0 +1,111 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.ObjectType;
+
+/**
+ * Bumps {@link ChangeVersions} for every entity insert, update and delete Hibernate
+ * commits, whichever service wrote it: spins cascading into spin histories, the generic
+ * service saves and the action handlers alike.
+ * <p>
+ * Listeners run after the transaction commits and not at all on rollback, so a fetch
+ * never sees a new version before the data. Bulk and native writes bypass these events
+ * and still bump explicitly.
+ */
+@Component
+@Slf4j
+public class ChangeVersionListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final ChangeVersions changeVersions;
+    private final Map<Class<?>, ObjectType> objectTypes = new HashMap<>();
+
+    public ChangeVersionListener(EntityManagerFactory entityManagerFactory, EntityMetadataRegistry metadataRegistry,
+            ChangeVersions changeVersions) {
+        this.changeVersions = changeVersions;
+        for (ObjectType objectType : ObjectType.values()) {
+            Class<?> entityClass = metadataRegistry.entityClass(objectType);
+            if (entityClass != null) {
+                objectTypes.put(entityClass, objectType);
+            }
+        }
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.info("Change versions follow commits of {} entity types", objectTypes.size());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getPersister());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was written
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was written
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was written
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return objectType(persister.getMappedClass()) != null;
+    }
+
+    private void changed(EntityPersister persister) {
+        ObjectType objectType = objectType(persister.getMappedClass());
+        if (objectType != null) {
+            changeVersions.bump(objectType);
+        }
+    }
+
+    /**
+     * The object type of an entity class, or of the nearest superclass that has one
+     */
+    private ObjectType objectType(Class<?> entityClass) {
+        for (Class<?> current = entityClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            ObjectType objectType = objectTypes.get(current);
+            if (objectType != null) {
+                return objectType;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,216 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.event.SpinBalanceChangedEvent;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortRequest;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Per object type change versions, used to answer conditional table fetches without
+ * running a query.
+ * <p>
+ * Each object type has a counter that only goes up. The {@link ChangeVersionListener}
+ * bumps it for every entity write Hibernate commits, {@link SpinBalanceChangedEvent}s
+ * bump the participant events, and bulk writes bump explicitly. A fetch ETag combines the version
+ * with a hash of the request, so an unchanged grid is recognised with a map lookup.
+ * <p>
+ * Fetches that join or search other tables use the version of all types instead, since a
+ * change to a referenced row changes their result too. Versions are held per instance,
+ * like the {@link CountCache}; the instance start time is part of the ETag so versions
+ * that restart from zero never match old tags. With a read replica, no ETag is issued
+ * until the replica has had time to catch up with the last change.
+ */
+@Component
+@Slf4j
+public class ChangeVersions {
+
+    private final Map<ObjectType, Version> versions = new ConcurrentHashMap<>();
+    private final Version all = new Version();
+    private final CountCache countCache;
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final long settleMillis;
+
+    public ChangeVersions(CountCache countCache,
+            @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+            @Value("${app.datasource.replica.max-lag-seconds:5}") double replicaMaxLagSeconds) {
+        this.countCache = countCache;
+        this.settleMillis = replicaEnabled ? (long) (replicaMaxLagSeconds * 1000) : 0;
+    }
+
+    /**
+     * @param objectType The object type
+     * @return The current change version of the object type
+     */
+    public long current(ObjectType objectType) {
+        Version version = versions.get(objectType);
+        return version != null ? version.value.get() : 0;
+    }
+
+    /**
+     * Bump the version of an object type once the current transaction commits, or
+     * immediately when no transaction is active
+     *
+     * @param objectType The object type that was written
+     */
+    public void bumpAfterCommit(ObjectType objectType) {
+        if (objectType == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(objectType);
+                }
+            });
+        } else {
+            bump(objectType);
+        }
+    }
+
+    /**
+     * Bump the version of an object type
+     *
+     * @param objectType The object type that was written
+     */
+    public void bump(ObjectType objectType) {
+        long version = versions.computeIfAbsent(objectType, k -> new Version()).increment();
+        all.increment();
+        log.debug("Change version of {} is now {}", objectType, version);
+    }
+
+    /**
+     * Spin balances are written outside the action handlers (spins, grants, registrations)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSpinBalanceChanged(SpinBalanceChangedEvent event) {
+        bump(ObjectType.ParticipantEvent);
+    }
+
+    /**
+     * Build the ETag of a fetch from the change version and the request signature. Must
+     * be taken before the fetch runs, so a write committing during the fetch changes it.
+     *
+     * @param request The table fetch request
+     * @return The quoted ETag, or null if the response should not be validated
+     */
+    public String etag(TableFetchRequest request) {
+        ObjectType objectType = request.getObjectType();
+        if (objectType == null) {
+            return null;
+        }
+
+        boolean related = readsOtherTypes(request);
+        Version version = related ? all : versions.computeIfAbsent(objectType, k -> new Version());
+        if (settleMillis > 0 && System.currentTimeMillis() - version.changedAt < settleMillis) {
+            return null;
+        }
+
+        return "\"" + instance + '-' + (related ? "a" : "t") + version.value.get()
+                + '-' + Long.toHexString(hash(signature(request))) + "\"";
+    }
+
+    /**
+     * Whether the request joins other tables through dotted paths or searches by them
+     */
+    private boolean readsOtherTypes(TableFetchRequest request) {
+        if (request.getSearch() != null) {
+            for (ObjectType searchType : request.getSearch().keySet()) {
+                if (searchType != request.getObjectType()) {
+                    return true;
+                }
+            }
+        }
+        if (request.getViewColumns() != null) {
+            for (ColumnInfo column : request.getViewColumns()) {
+                if (isPath(column.getFieldName())) {
+                    return true;
+                }
+            }
+        }
+        if (request.getFilters() != null) {
+            for (FilterRequest filter : request.getFilters()) {
+                if (isPath(filter.getField())) {
+                    return true;
+                }
+            }
+        }
+        if (request.getSorts() != null) {
+            for (SortRequest sort : request.getSorts()) {
+                if (isPath(sort.getField())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPath(String field) {
+        return field != null && field.indexOf('.') >= 0;
+    }
+
+    /**
+     * Everything in the request that shapes the response body
+     */
+    String signature(TableFetchRequest request) {
+        StringBuilder signature = new StringBuilder(countCache.signature(request));
+
+        signature.append(";v=");
+        if (request.getViewColumns() != null) {
+            for (ColumnInfo column : request.getViewColumns()) {
+                signature.append(column.getFieldName()).append(',');
+            }
+        }
+        signature.append(";o=");
+        if (request.getSorts() != null) {
+            for (SortRequest sort : request.getSorts()) {
+                signature.append(sort.getField()).append(':').append(sort.getSortType()).append(',');
+            }
+        }
+
+        return signature.append(";t=").append(request.getObjectType())
+                .append(";e=").append(request.getEntityName())
+                .append(";p=").append(request.getPage())
+                .append(";n=").append(request.getSize())
+                .append(";k=").append(request.isCursorMode()).append(':').append(request.getCursor())
+                .append(";h=").append(request.isHasNextOnly())
+                .append(";r=").append(request.getFormat())
+                .toString();
+    }
+
+    /**
+     * 64-bit FNV-1a; a collision would need the same object type and version as well
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class Version {
+        private final AtomicLong value = new AtomicLong();
+        private volatile long changedAt;
+
+        long increment() {
+            changedAt = System.currentTimeMillis();
+            return value.incrementAndGet();
+        }
+    }
+}
@@ -1,18 +1,14 @@
 package vn.com.fecredit.app.service.impl.table;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.metamodel.Attribute;
-import jakarta.persistence.metamodel.EntityType;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.service.dto.ColumnInfo;
 import vn.com.fecredit.app.service.dto.FieldType;
@@ -21,30 +17,41 @@ import vn.com.fecredit.app.service.dto.TableFetchRequest;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class ColumnInfoProvider {    private final EntityManager entityManager;
-    private final vn.com.fecredit.app.service.impl.table.EntityManager customEntityManager;
+public class ColumnInfoProvider {
 
-    // Add expiration to caches with 1-hour timeout
-    private final Map<Class<?>, CachedValue<Map<String, ColumnInfo>>> columnInfoCache = new ConcurrentHashMap<>();
-    private final Map<ObjectType, CachedValue<Map<String, ColumnInfo>>> objectTypeColumnInfoCache = new ConcurrentHashMap<>();
+    // Built once from the entity metadata registry; entities never change at runtime
+    private final Map<Class<?>, Map<String, ColumnInfo>> columnInfoByClass;
+    private final Map<ObjectType, Map<String, ColumnInfo>> columnInfoByObjectType;
+
+    public ColumnInfoProvider(EntityMetadataRegistry metadataRegistry) {
+        Map<Class<?>, Map<String, ColumnInfo>> byClass = new HashMap<>();
+        for (EntityMetadataRegistry.EntityMetadata metadata : metadataRegistry.all()) {
+            if (metadata.entity()) {
+                byClass.put(metadata.javaType(), buildColumnInfo(metadata, null));
+            }
+        }
+        this.columnInfoByClass = Collections.unmodifiableMap(byClass);
+
+        Map<ObjectType, Map<String, ColumnInfo>> byObjectType = new EnumMap<>(ObjectType.class);
+        for (ObjectType objectType : ObjectType.values()) {
+            Class<?> entityClass = metadataRegistry.entityClass(objectType);
+            byObjectType.put(objectType, entityClass != null
+                    ? buildColumnInfo(metadataRegistry.get(entityClass), objectType)
+                    : new HashMap<>());
+        }
+        this.columnInfoByObjectType = Collections.unmodifiableMap(byObjectType);
+    }
 
     /**
-     * Gets column information for an entity class with improved caching
+     * Gets column information for an entity class
      */
     public Map<String, ColumnInfo> getColumnInfo(Class<?> entityClass) {
         if (entityClass == null) {
             return new HashMap<>();
         }
 
-        CachedValue<Map<String, ColumnInfo>> cached = columnInfoCache.get(entityClass);
-        if (cached != null && !cached.isExpired()) {
-            return cached.getValue();
-        }
-
-        Map<String, ColumnInfo> columns = buildColumnInfo(entityClass);
-        columnInfoCache.put(entityClass, new CachedValue<>(columns, 1, TimeUnit.HOURS));
-        return columns;
+        Map<String, ColumnInfo> columns = columnInfoByClass.get(entityClass);
+        return columns != null ? columns : buildColumnInfoFromFields(entityClass);
     }
 
     /**
@@ -76,104 +83,58 @@ public class ColumnInfoProvider {    private final EntityManager entityManager;
     }
 
     /**
-     * Build column info with optimized processing and fewer exceptions
+     * Build column info from registry metadata
      */
-    private Map<String, ColumnInfo> buildColumnInfo(Class<?> entityClass) {
+    private Map<String, ColumnInfo> buildColumnInfo(EntityMetadataRegistry.EntityMetadata metadata,
+            ObjectType objectType) {
         Map<String, ColumnInfo> columns = new HashMap<>();
-
-        try {
-            // Get entity metadata from JPA
-            EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
-
-            // Process each attribute
-            for (Attribute<?, ?> attribute : entityType.getAttributes()) {
-                String fieldName = attribute.getName();
-                String displayName = getDisplayName(entityClass, fieldName);
-
-                columns.put(fieldName, ColumnInfo.builder()
-                    .fieldName(fieldName)
-                    .displayName(displayName)
-                    .fieldType(determineFieldType(attribute.getJavaType()))
-                    .build());
-            }
-        } catch (Exception e) {
-            log.warn("Error getting column info from JPA metamodel for {}: {}",
-                entityClass.getName(), e.getMessage());
-
-            // Fall back to reflection without exceptions
-            for (Field field : entityClass.getDeclaredFields()) {
-                if (field.isSynthetic()) continue; // Skip synthetic fields
-
-                String fieldName = field.getName();
-                String displayName = getDisplayName(entityClass, fieldName);
-
-                columns.put(fieldName, ColumnInfo.builder()
-                    .fieldName(fieldName)
-                    .displayName(displayName)
-                    .fieldType(determineFieldType(field.getType()))
-                    .build());
+        for (EntityMetadataRegistry.AttributeMetadata attribute : metadata.attributes().values()) {
+            if (attribute.shadowOf() != null) {
+                continue; // internal search column, not table data
             }
+            String fieldName = attribute.name();
+            String displayName = attribute.columnName() != null
+                    ? attribute.columnName()
+                    : formatAsTitleCase(fieldName);
+
+            columns.put(fieldName, ColumnInfo.builder()
+                .objectType(objectType)
+                .fieldName(fieldName)
+                .displayName(displayName)
+                .fieldType(determineFieldType(attribute.javaType()))
+                .build());
         }
-
         return columns;
     }
 
     /**
-     * Gets column information for an object type with caching
+     * Build column info by reflection for classes the JPA metamodel does not know about
      */
-    public Map<String, ColumnInfo> getColumnInfo(ObjectType objectType, TableFetchRequest request) {
-        if (objectType == null) {
-            return new HashMap<>();
-        }
+    private Map<String, ColumnInfo> buildColumnInfoFromFields(Class<?> entityClass) {
+        Map<String, ColumnInfo> columns = new HashMap<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isSynthetic()) continue; // Skip synthetic fields
 
-        CachedValue<Map<String, ColumnInfo>> cached = objectTypeColumnInfoCache.get(objectType);
-        if (cached != null && !cached.isExpired()) {
-            return cached.getValue();
-        }        Map<String, ColumnInfo> columns = new HashMap<>();
-        try {
-            Class<?> entityClass = customEntityManager.resolveEntityClass(null, objectType);
+            String fieldName = field.getName();
+            String displayName = getDisplayName(entityClass, fieldName);
 
-            if (entityClass != null) {
-                columns = getColumnInfo(entityClass);
-                columns.forEach((key, columnInfo) -> {
-                    columnInfo.setObjectType(objectType);
-                });
-            }
-        } catch (Exception e) {
-            log.warn("Error getting column info for object type {}: {}", objectType, e.getMessage());
+            columns.put(fieldName, ColumnInfo.builder()
+                .fieldName(fieldName)
+                .displayName(displayName)
+                .fieldType(determineFieldType(field.getType()))
+                .build());
         }
-
-        objectTypeColumnInfoCache.put(objectType, new CachedValue<>(columns, 1, TimeUnit.HOURS));
         return columns;
     }
 
     /**
-     * Custom cache value with expiration support
+     * Gets column information for an object type
      */
-    private static class CachedValue<T> {
-        private final T value;
-        private final long expirationTime;
-
-        public CachedValue(T value, long duration, TimeUnit unit) {
-            this.value = value;
-            this.expirationTime = System.currentTimeMillis() + unit.toMillis(duration);
-        }
-
-        public T getValue() {
-            return value;
-        }
-
-        public boolean isExpired() {
-            return System.currentTimeMillis() > expirationTime;
+    public Map<String, ColumnInfo> getColumnInfo(ObjectType objectType, TableFetchRequest request) {
+        if (objectType == null) {
+            return new HashMap<>();
         }
-    }
-
-    /**
-     * Clears all caches - useful for testing
-     */
-    public void clearCaches() {
-        columnInfoCache.clear();
-        objectTypeColumnInfoCache.clear();
+        return columnInfoByObjectType.get(objectType);
     }
 
     /**
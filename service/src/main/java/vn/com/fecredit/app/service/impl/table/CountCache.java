@@ -0,0 +1,154 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.DataObject;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Caches total counts of table fetches so paging through the same filtered table
+ * does not re-run {@code count(distinct ...)} on every page.
+ * <p>
+ * Entries are keyed by object type and a normalized signature of the filters, search
+ * and view columns (page, size and sorts do not change the count). Writes made through
+ * the table action handlers evict the object type after commit; other writes are
+ * picked up when the TTL expires.
+ */
+@Component
+@Slf4j
+public class CountCache {
+
+    private final Map<ObjectType, Map<String, CachedCount>> counts = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public CountCache(@Value("${app.table.count-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Get the cached count for a request or compute and cache it
+     *
+     * @param request The table fetch request
+     * @param counter Runs the count query on a miss
+     * @return The total count
+     */
+    public long getOrCount(TableFetchRequest request, LongSupplier counter) {
+        ObjectType objectType = request.getObjectType();
+        if (objectType == null || ttlMillis <= 0) {
+            return counter.getAsLong();
+        }
+
+        String signature = signature(request);
+        Map<String, CachedCount> byType = counts.computeIfAbsent(objectType, k -> new ConcurrentHashMap<>());
+        CachedCount cached = byType.get(signature);
+        if (cached != null && !cached.isExpired()) {
+            log.debug("Count cache hit for {}: {}", objectType, cached.count);
+            return cached.count;
+        }
+
+        long count = counter.getAsLong();
+        byType.put(signature, new CachedCount(count, System.currentTimeMillis() + ttlMillis));
+        return count;
+    }
+
+    /**
+     * Evict all cached counts of an object type once the current transaction commits,
+     * or immediately when no transaction is active
+     *
+     * @param objectType The object type that was written
+     */
+    public void evictAfterCommit(ObjectType objectType) {
+        if (objectType == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(objectType);
+                }
+            });
+        } else {
+            evict(objectType);
+        }
+    }
+
+    /**
+     * Evict all cached counts of an object type
+     *
+     * @param objectType The object type
+     */
+    public void evict(ObjectType objectType) {
+        Map<String, CachedCount> removed = counts.remove(objectType);
+        if (removed != null && !removed.isEmpty()) {
+            log.debug("Evicted {} cached counts for {}", removed.size(), objectType);
+        }
+    }
+
+    /**
+     * Clears all cached counts
+     */
+    public void clear() {
+        counts.clear();
+    }
+
+    /**
+     * Build an order-insensitive signature of everything that affects the count
+     */
+    String signature(TableFetchRequest request) {
+        StringBuilder signature = new StringBuilder();
+
+        List<String> filters = new ArrayList<>();
+        if (request.getFilters() != null) {
+            for (FilterRequest filter : request.getFilters()) {
+                filters.add(filter.getField() + "|" + filter.getFilterType() + "|" + filter.getOperator()
+                        + "|" + filter.getValue() + "|" + filter.getMinValue() + "|" + filter.getMaxValue());
+            }
+        }
+        filters.sort(Comparator.naturalOrder());
+        signature.append("f=").append(filters);
+
+        Map<String, String> search = new TreeMap<>();
+        if (request.getSearch() != null) {
+            for (Map.Entry<ObjectType, DataObject> entry : request.getSearch().entrySet()) {
+                DataObject dataObject = entry.getValue();
+                Map<String, Object> data = dataObject != null && dataObject.getData() != null
+                        ? dataObject.getData().getData() : null;
+                search.put(String.valueOf(entry.getKey()), data != null ? new TreeMap<>(data).toString() : "");
+            }
+        }
+        signature.append(";s=").append(search);
+
+        List<String> columns = new ArrayList<>();
+        if (request.getViewColumns() != null) {
+            for (ColumnInfo column : request.getViewColumns()) {
+                columns.add(column.getFieldName());
+            }
+        }
+        columns.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+        signature.append(";c=").append(columns);
+
+        return signature.toString();
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
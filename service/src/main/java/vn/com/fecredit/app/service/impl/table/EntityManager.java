@@ -17,7 +17,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
-import jakarta.persistence.metamodel.EntityType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.service.dto.ColumnInfo;
@@ -42,15 +41,12 @@ import vn.com.fecredit.app.service.factory.RepositoryFactory;
 @Slf4j
 public class EntityManager {
 
-    private final jakarta.persistence.EntityManager jpaEntityManager;
     private final RepositoryFactory repositoryFactory;
     private final RelatedTablesFactory relatedTablesFactory;
+    private final EntityMetadataRegistry metadataRegistry;
     
-    // Centralized caches for better performance
+    // Object types not backed by a JPA entity, resolved through the slower lookups below
     private final ConcurrentHashMap<ObjectType, Class<?>> entityClassCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Class<?>, String> tableNameCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Class<?>, List<String>> primaryKeyFieldsCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Boolean> fieldExistenceCache = new ConcurrentHashMap<>();
     
     // Standardized package locations to search for entities
     private static final String ENTITY_PACKAGE = "vn.com.fecredit.app.entity";
@@ -69,8 +65,13 @@ public class EntityManager {
      * @return The entity class, or null if not found
      */
     public Class<?> findEntityClass(String entityName, ObjectType objectType) {
-        // First try using ObjectType with cache
+        // First try using ObjectType, registered entities first
         if (objectType != null) {
+            Class<?> registeredClass = metadataRegistry.entityClass(objectType);
+            if (registeredClass != null) {
+                return registeredClass;
+            }
+
             Class<?> cachedClass = entityClassCache.get(objectType);
             if (cachedClass != null) {
                 return cachedClass;
@@ -211,47 +212,22 @@ public class EntityManager {
             return null;
         }
         
-        return tableNameCache.computeIfAbsent(entityClass, clazz -> {
-            // First try to get the table name from @Table annotation
-            Table tableAnnotation = clazz.getAnnotation(Table.class);
-            if (tableAnnotation != null && !tableAnnotation.name().isEmpty()) {
-                log.debug("Found table name from @Table annotation for {}: {}", 
-                        clazz.getSimpleName(), tableAnnotation.name());
-                return tableAnnotation.name();
-            }
-            
-            // Then try to get it from JPA metamodel
-            try {
-                EntityType<?> entityType = jpaEntityManager.getMetamodel().entity(clazz);
-                String tableName = entityType.getName();
-                
-                // Check if the name already ends with 's' to avoid double pluralization
-                if (!tableName.toLowerCase().endsWith("s")) {
-                    tableName = tableName + "s";
-                }
-                
-                log.debug("Found table name from JPA metamodel for {}: {}", 
-                        clazz.getSimpleName(), tableName.toLowerCase());
-                return tableName.toLowerCase();
-            } catch (Exception e) {
-                // Fall back to class simple name with plural 's'
-                String simpleName = clazz.getSimpleName();
-                String tableName = simpleName.toLowerCase();
-                
-                // Check if the name already ends with 's' to avoid double pluralization
-                if (!tableName.endsWith("s")) {
-                    tableName = tableName + "s";
-                }
-                
-                log.debug("Using default table name for {}: {}", 
-                        clazz.getSimpleName(), tableName);
-                return tableName;
-            }
-        });
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(entityClass);
+        if (metadata != null && metadata.tableName() != null) {
+            return metadata.tableName();
+        }
+
+        // Not a JPA entity: use the @Table annotation or the pluralized class name
+        Table tableAnnotation = entityClass.getAnnotation(Table.class);
+        if (tableAnnotation != null && !tableAnnotation.name().isEmpty()) {
+            return tableAnnotation.name();
+        }
+        String tableName = entityClass.getSimpleName().toLowerCase();
+        return tableName.endsWith("s") ? tableName : tableName + "s";
     }
     
     /**
-     * Find primary key fields for an entity class with caching.
+     * Find primary key fields for an entity class.
      * This method consolidates functionality from EntityFinder.
      *
      * @param entityClass The entity class to analyze
@@ -262,41 +238,30 @@ public class EntityManager {
             return new ArrayList<>();
         }
         
-        // Use cache for better performance
-        return primaryKeyFieldsCache.computeIfAbsent(entityClass, clazz -> {
-            List<String> pkFields = new ArrayList<>();
-            
-            // Check all fields for @Id annotation
-            List<Field> allFields = new ArrayList<>();
-            Class<?> currentClass = clazz;
-            while (currentClass != null && currentClass != Object.class) {
-                allFields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
-                currentClass = currentClass.getSuperclass();
-            }
-    
-            for (Field field : allFields) {
-                if (field.isAnnotationPresent(Id.class)) {
-                    pkFields.add(field.getName());
-                    log.debug("Found @Id field in {}: {}", 
-                            clazz.getSimpleName(), field.getName());
-                }
-            }
-    
-            // If no @Id fields found, assume "id" is the primary key
-            if (pkFields.isEmpty()) {
-                pkFields.add("id");
-                log.debug("No @Id fields found in {}, using default 'id'", 
-                        clazz.getSimpleName());
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(entityClass);
+        if (metadata != null && metadata.entity()) {
+            return new ArrayList<>(metadata.idAttributes());
+        }
+
+        // Not a JPA entity: check all fields for @Id annotation
+        List<String> pkFields = new ArrayList<>();
+        for (Field field : getAllFields(entityClass)) {
+            if (field.isAnnotationPresent(Id.class)) {
+                pkFields.add(field.getName());
             }
-    
-            return pkFields;
-        });
+        }
+
+        // If no @Id fields found, assume "id" is the primary key
+        if (pkFields.isEmpty()) {
+            pkFields.add("id");
+        }
+        return pkFields;
     }
 
     // Method determineEntityClassName removed, functionality merged into findEntityClassByObjectType
     
     /**
-     * Check if a class contains a field with the given name, with caching.
+     * Check if a class contains a field with the given name.
      * This method consolidates functionality from EntityConverter.
      *
      * @param clazz The class to check
@@ -308,33 +273,13 @@ public class EntityManager {
             return false;
         }
         
-        // Create cache key
-        String cacheKey = clazz.getName() + ":" + fieldName;
-        
-        // Check cache first to avoid recursive calls
-        Boolean cached = fieldExistenceCache.get(cacheKey);
-        if (cached != null) {
-            return cached;
-        }
-        
-        // Check all fields in this class
-        for (Field field : clazz.getDeclaredFields()) {
-            if (field.getName().equals(fieldName)) {
-                fieldExistenceCache.put(cacheKey, true);
-                return true;
-            }
-        }
-
-        // Check superclass recursively
-        Class<?> superClass = clazz.getSuperclass();
-        if (superClass != null && superClass != Object.class) {
-            boolean exists = containsField(superClass, fieldName);
-            fieldExistenceCache.put(cacheKey, exists);
-            return exists;
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(clazz);
+        if (metadata != null) {
+            return metadata.attribute(fieldName) != null;
         }
 
-        fieldExistenceCache.put(cacheKey, false);
-        return false;
+        // Not a managed type: fall back to the declared fields
+        return findFieldInClassHierarchy(clazz, fieldName) != null;
     }
 
     /**
@@ -395,7 +340,6 @@ public class EntityManager {
      */
     public void clearCaches() {
         entityClassCache.clear();
-        tableNameCache.clear();
     }
 
     /**
@@ -448,6 +392,40 @@ public class EntityManager {
         return row;
     }
 
+    /**
+     * Converts an entity to a value array for a columnar response, without building a row map.
+     * Values follow the given column order. Columns after the view columns, the appended "id"
+     * and "relatedTables", are filled the same way as {@link #convertEntityToTableRow} fills them.
+     *
+     * @param viewColumnCount Number of leading columns that are view columns
+     */
+    public <T> Object[] convertEntityToValues(T entity, List<String> columns, int viewColumnCount) {
+        Object[] values = new Object[columns.size()];
+        if (entity == null) {
+            return values;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            String fieldName = columns.get(i);
+            try {
+                if (i >= viewColumnCount && "id".equals(fieldName)) {
+                    Object id = extractIdValue(entity);
+                    values[i] = id != null ? id.toString() : null;
+                } else if ("relatedTables".equals(fieldName)) {
+                    List<String> relatedTables = relatedTablesFactory.hasRelatedTables(entity)
+                            ? relatedTablesFactory.getRelatedTables(entity) : null;
+                    values[i] = relatedTables != null && !relatedTables.isEmpty() ? relatedTables : null;
+                } else {
+                    values[i] = extractFieldValue(entity, fieldName);
+                }
+            } catch (Exception e) {
+                log.warn("Could not extract field {} from entity {}: {}",
+                    fieldName, entity.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return values;
+    }
+
     /**
      * Extract ID value from an entity using reflection
      */
@@ -575,7 +553,7 @@ public class EntityManager {
     }
     
     /**
-     * Get the type of the ID field for an entity class with caching
+     * Get the type of the ID field for an entity class
      * This method consolidates functionality from EntityConverter.
      * 
      * @param entityClass The entity class
@@ -586,6 +564,11 @@ public class EntityManager {
             return Long.class; // Default fallback
         }
         
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(entityClass);
+        if (metadata != null && metadata.idType() != null) {
+            return metadata.idType();
+        }
+
         try {
             // Try to find the id field by name
             Field idField = findFieldInClassHierarchy(entityClass, "id");
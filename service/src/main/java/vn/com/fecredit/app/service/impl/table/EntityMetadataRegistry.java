@@ -0,0 +1,336 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.search.NormalizedShadow;
+import vn.com.fecredit.app.entity.search.SearchMode;
+import vn.com.fecredit.app.service.dto.ObjectType;
+
+/**
+ * Immutable entity metadata for the table engine, built once at startup from the JPA
+ * metamodel.
+ * <p>
+ * Holds attributes and their types, id attributes, table names, the object type to
+ * entity mapping and the relationship paths between entities. Lookups are plain reads
+ * of unmodifiable maps, so the request path needs neither reflection nor expiring caches.
+ */
+@Component
+@Slf4j
+public class EntityMetadataRegistry {
+
+    /**
+     * Metadata of one attribute
+     *
+     * @param name        attribute name
+     * @param javaType    declared Java type (the collection type for plural attributes)
+     * @param targetType  entity or element type reached through the attribute
+     * @param association true for entity-valued attributes
+     * @param collection  true for plural attributes
+     * @param embedded    true for embedded attributes
+     * @param columnName  {@code @Column} name declared on the managed class itself, or null
+     * @param shadowOf    attribute this one is the normalized search shadow of, or null
+     * @param shadowMode  free-text search mode of the shadowed attribute, or null
+     */
+    public record AttributeMetadata(
+            String name,
+            Class<?> javaType,
+            Class<?> targetType,
+            boolean association,
+            boolean collection,
+            boolean embedded,
+            String columnName,
+            String shadowOf,
+            SearchMode shadowMode) {
+    }
+
+    /**
+     * Metadata of one managed type (entity or embeddable)
+     *
+     * @param javaType     managed class
+     * @param entity       true for entities, false for embeddables
+     * @param tableName    table name used by the table engine, null for embeddables
+     * @param idType       id type, null for embeddables
+     * @param idAttributes id attribute names
+     * @param attributes   attributes by name, in declaration order
+     */
+    public record EntityMetadata(
+            Class<?> javaType,
+            boolean entity,
+            String tableName,
+            Class<?> idType,
+            List<String> idAttributes,
+            Map<String, AttributeMetadata> attributes) {
+
+        /**
+         * @return the attribute, or null if the type has no such attribute
+         */
+        public AttributeMetadata attribute(String name) {
+            return attributes.get(name);
+        }
+
+        /**
+         * @return the attribute matching the name case-insensitively, or null
+         */
+        public AttributeMetadata attributeIgnoreCase(String name) {
+            AttributeMetadata exact = attributes.get(name);
+            if (exact != null || name == null) {
+                return exact;
+            }
+            for (AttributeMetadata attribute : attributes.values()) {
+                if (attribute.name().equalsIgnoreCase(name)) {
+                    return attribute;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Map<Class<?>, EntityMetadata> byClass;
+    private final Map<ObjectType, Class<?>> byObjectType;
+    private final Map<Class<?>, Map<Class<?>, String>> relationshipPaths;
+
+    public EntityMetadataRegistry(EntityManager entityManager) {
+        Map<Class<?>, EntityMetadata> types = new HashMap<>();
+        for (ManagedType<?> managedType : entityManager.getMetamodel().getManagedTypes()) {
+            Class<?> javaType = managedType.getJavaType();
+            if (javaType == null || javaType == Map.class) {
+                continue; // dynamic models have no class to key on
+            }
+            types.put(javaType, buildMetadata(managedType));
+        }
+        this.byClass = Collections.unmodifiableMap(types);
+
+        Map<String, Class<?>> entitiesByName = new HashMap<>();
+        for (EntityMetadata metadata : types.values()) {
+            if (metadata.entity()) {
+                entitiesByName.put(metadata.javaType().getSimpleName().toLowerCase(Locale.ROOT), metadata.javaType());
+            }
+        }
+        Map<ObjectType, Class<?>> objectTypes = new HashMap<>();
+        for (ObjectType objectType : ObjectType.values()) {
+            Class<?> entityClass = entitiesByName.get(objectType.name().toLowerCase(Locale.ROOT));
+            if (entityClass != null) {
+                objectTypes.put(objectType, entityClass);
+            }
+        }
+        this.byObjectType = Collections.unmodifiableMap(objectTypes);
+
+        Map<Class<?>, Map<Class<?>, String>> paths = new HashMap<>();
+        for (Class<?> source : entitiesByName.values()) {
+            Map<Class<?>, String> fromSource = new HashMap<>();
+            for (Class<?> target : entitiesByName.values()) {
+                String path = findRelationshipPath(source, target, new HashSet<>(), "");
+                if (path != null) {
+                    fromSource.put(target, path);
+                }
+            }
+            paths.put(source, Collections.unmodifiableMap(fromSource));
+        }
+        this.relationshipPaths = Collections.unmodifiableMap(paths);
+
+        log.info("Entity metadata registry built: {} managed types, {} object types",
+                byClass.size(), byObjectType.size());
+    }
+
+    /**
+     * Get metadata of a managed class
+     *
+     * @param javaType The entity or embeddable class
+     * @return The metadata, or null if the class is not managed by JPA
+     */
+    public EntityMetadata get(Class<?> javaType) {
+        return javaType != null ? byClass.get(javaType) : null;
+    }
+
+    /**
+     * Get the entity class registered for an object type
+     *
+     * @param objectType The object type
+     * @return The entity class, or null if no entity has the object type's name
+     */
+    public Class<?> entityClass(ObjectType objectType) {
+        return objectType != null ? byObjectType.get(objectType) : null;
+    }
+
+    /**
+     * Get the association path from one entity to another, following associations in
+     * declaration order
+     *
+     * @param source The entity to start from
+     * @param target The entity to reach
+     * @return Dotted path, empty if source and target are the same, or null if unreachable
+     */
+    public String relationshipPath(Class<?> source, Class<?> target) {
+        Map<Class<?>, String> fromSource = relationshipPaths.get(source);
+        return fromSource != null ? fromSource.get(target) : null;
+    }
+
+    /**
+     * @return metadata of all managed types
+     */
+    public Collection<EntityMetadata> all() {
+        return byClass.values();
+    }
+
+    private EntityMetadata buildMetadata(ManagedType<?> managedType) {
+        Class<?> javaType = managedType.getJavaType();
+        boolean entity = managedType instanceof EntityType<?>;
+
+        // Declaration order: the class's own fields first, then inherited ones
+        List<Attribute<?, ?>> ordered = new ArrayList<>(managedType.getAttributes());
+        Map<String, Integer> declarationOrder = declarationOrder(javaType);
+        ordered.sort((a, b) -> Integer.compare(
+                declarationOrder.getOrDefault(a.getName(), Integer.MAX_VALUE),
+                declarationOrder.getOrDefault(b.getName(), Integer.MAX_VALUE)));
+
+        Map<String, AttributeMetadata> attributes = new LinkedHashMap<>();
+        for (Attribute<?, ?> attribute : ordered) {
+            attributes.put(attribute.getName(), buildAttribute(javaType, attribute));
+        }
+
+        String tableName = null;
+        Class<?> idType = null;
+        List<String> idAttributes = List.of();
+        if (entity) {
+            EntityType<?> entityType = (EntityType<?>) managedType;
+            tableName = tableName(entityType);
+            try {
+                idType = entityType.getIdType() != null ? entityType.getIdType().getJavaType() : null;
+            } catch (IllegalArgumentException e) {
+                log.debug("Could not read id type of {}: {}", javaType.getSimpleName(), e.getMessage());
+            }
+            idAttributes = idAttributes(entityType);
+        }
+
+        return new EntityMetadata(javaType, entity, tableName, idType, idAttributes,
+                Collections.unmodifiableMap(attributes));
+    }
+
+    private AttributeMetadata buildAttribute(Class<?> ownerType, Attribute<?, ?> attribute) {
+        boolean collection = attribute.isCollection();
+        Class<?> targetType = attribute instanceof PluralAttribute<?, ?, ?> plural
+                ? plural.getElementType().getJavaType()
+                : ((SingularAttribute<?, ?>) attribute).getType().getJavaType();
+
+        String columnName = null;
+        NormalizedShadow shadow = null;
+        Member member = attribute.getJavaMember();
+        if (member instanceof Field field && field.getDeclaringClass() == ownerType) {
+            Column column = field.getAnnotation(Column.class);
+            if (column != null && !column.name().isEmpty()) {
+                columnName = column.name();
+            }
+            shadow = field.getAnnotation(NormalizedShadow.class);
+        }
+
+        return new AttributeMetadata(
+                attribute.getName(),
+                attribute.getJavaType(),
+                targetType,
+                attribute.isAssociation(),
+                collection,
+                attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED,
+                columnName,
+                shadow != null ? shadow.of() : null,
+                shadow != null ? shadow.mode() : null);
+    }
+
+    private static Map<String, Integer> declarationOrder(Class<?> javaType) {
+        Map<String, Integer> order = new HashMap<>();
+        int index = 0;
+        for (Class<?> current = javaType; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                order.putIfAbsent(field.getName(), index++);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Table name as the table engine reports it: {@code @Table} name, otherwise the
+     * pluralized lower-case entity name
+     */
+    private static String tableName(EntityType<?> entityType) {
+        Table table = entityType.getJavaType().getAnnotation(Table.class);
+        if (table != null && !table.name().isEmpty()) {
+            return table.name();
+        }
+        String tableName = entityType.getName();
+        if (!tableName.toLowerCase().endsWith("s")) {
+            tableName = tableName + "s";
+        }
+        return tableName.toLowerCase();
+    }
+
+    private static List<String> idAttributes(IdentifiableType<?> type) {
+        List<String> names = new ArrayList<>();
+        try {
+            if (type.hasSingleIdAttribute()) {
+                for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+                    if (attribute.isId()) {
+                        names.add(attribute.getName());
+                    }
+                }
+            } else {
+                for (SingularAttribute<?, ?> attribute : type.getIdClassAttributes()) {
+                    names.add(attribute.getName());
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Could not read id attributes of {}: {}", type.getJavaType().getSimpleName(), e.getMessage());
+        }
+        return names.isEmpty() ? List.of("id") : List.copyOf(names);
+    }
+
+    /**
+     * Depth-first search over associations, as JoinManager used to do per request
+     */
+    private String findRelationshipPath(Class<?> source, Class<?> target, Set<Class<?>> visited, String currentPath) {
+        if (source.equals(target)) {
+            return currentPath;
+        }
+        if (!visited.add(source)) {
+            return null; // Prevent cycles
+        }
+
+        EntityMetadata metadata = byClass.get(source);
+        if (metadata != null) {
+            for (AttributeMetadata attribute : metadata.attributes().values()) {
+                if (!attribute.association()) {
+                    continue;
+                }
+                String nextPath = currentPath.isEmpty() ? attribute.name() : currentPath + "." + attribute.name();
+                String result = findRelationshipPath(attribute.targetType(), target, visited, nextPath);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
+        visited.remove(source);
+        return null;
+    }
+}
@@ -0,0 +1,96 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import vn.com.fecredit.app.service.dto.DataObject;
+import vn.com.fecredit.app.service.dto.FilterOperator;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Filter expression tree built once from a table fetch request.
+ * <p>
+ * Nodes hold field paths and raw request values only. {@link PredicateManager#compile}
+ * turns the tree into predicates against whichever root it is given, so the page
+ * query and the count query get the same restrictions without copying predicates
+ * from one criteria query into another.
+ */
+public sealed interface FilterNode
+        permits FilterNode.And, FilterNode.NotDeleted, FilterNode.Comparison, FilterNode.SearchMatch {
+
+    /**
+     * All children must match
+     *
+     * @param children child nodes
+     */
+    record And(List<FilterNode> children) implements FilterNode {
+    }
+
+    /**
+     * Default filter excluding soft-deleted rows of status-aware entities
+     */
+    record NotDeleted() implements FilterNode {
+    }
+
+    /**
+     * A request filter: field, operator and value
+     *
+     * @param field    dotted field path
+     * @param operator comparison operator
+     * @param value    raw filter value, converted to the field type on compile
+     */
+    record Comparison(String field, FilterOperator operator, Object value) implements FilterNode {
+    }
+
+    /**
+     * A search criterion: field and search value (simple, collection or operator map)
+     *
+     * @param field dotted field path
+     * @param value raw search value
+     */
+    record SearchMatch(String field, Object value) implements FilterNode {
+    }
+
+    /**
+     * Build the filter tree of a request: default filter, then request filters, then
+     * search criteria grouped under one AND node
+     *
+     * @param request The table fetch request
+     * @return Root node of the filter tree
+     */
+    static FilterNode of(TableFetchRequest request) {
+        List<FilterNode> children = new ArrayList<>();
+        children.add(new NotDeleted());
+
+        if (request.getFilters() != null) {
+            for (FilterRequest filter : request.getFilters()) {
+                if (filter.getField() != null && filter.getOperator() != null) {
+                    children.add(new Comparison(filter.getField(), filter.getOperator(), filter.getValue()));
+                }
+            }
+        }
+
+        List<FilterNode> search = new ArrayList<>();
+        if (request.getSearch() != null) {
+            for (Map.Entry<ObjectType, DataObject> entry : request.getSearch().entrySet()) {
+                DataObject dataObject = entry.getValue();
+                if (dataObject == null || dataObject.getData() == null || dataObject.getData().getData() == null) {
+                    continue;
+                }
+                for (Map.Entry<String, Object> field : dataObject.getData().getData().entrySet()) {
+                    if (field.getKey() != null && field.getValue() != null) {
+                        search.add(new SearchMatch(field.getKey(), field.getValue()));
+                    }
+                }
+            }
+        }
+        if (!search.isEmpty()) {
+            children.add(new And(List.copyOf(search)));
+        }
+
+        return new And(List.copyOf(children));
+    }
+}
@@ -0,0 +1,198 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.entity.SearchIndexedEntity;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.mapping.SearchMapping;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.util.common.SearchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves free-text searches on indexed string fields to entity ids.
+ * <p>
+ * Fields annotated with {@code @FullTextField} are indexed as trigrams by Hibernate Search,
+ * which keeps the index in step with entity writes. A search on such a field becomes
+ * {@code id IN (...)} in the table query, so the database reads matching rows by primary
+ * key instead of scanning for {@code LIKE '%x%'}. The index is used only when it can
+ * narrow the search: while it is being rebuilt, for strings shorter than a trigram, or when
+ * too many ids match, searches fall back to the plain LIKE predicate.
+ */
+@Component
+@Slf4j
+public class FullTextSearchIndex {
+
+    /**
+     * Shortest search string the trigram index can narrow down
+     */
+    static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final boolean reindexOnStartup;
+    private final int maxIds;
+
+    private final Map<Class<?>, Set<String>> indexedFields = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public FullTextSearchIndex(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+            @Value("${app.search.enabled:true}") boolean enabled,
+            @Value("${app.search.reindex-on-startup:false}") boolean reindexOnStartup,
+            @Value("${app.search.max-ids:10000}") int maxIds) {
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.reindexOnStartup = reindexOnStartup;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Find the ids of entities whose field contains the text.
+     *
+     * @param entityClass Entity class
+     * @param field       Field name
+     * @param text        Search text
+     * @return Matching ids (a superset of the LIKE matches), or empty if the index
+     *         cannot be used for this search
+     */
+    public Optional<List<Object>> findIds(Class<?> entityClass, String field, String text) {
+        if (!isReady() || text == null || text.length() < MIN_QUERY_LENGTH || !isIndexed(entityClass, field)) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Object> ids = Search.session(entityManager).search(entityClass)
+                    .select(f -> f.id())
+                    .where(f -> f.match().field(field).matching(text).minimumShouldMatchPercent(100))
+                    .fetchHits(maxIds + 1);
+            if (ids.size() > maxIds) {
+                log.debug("Full-text search on {}.{} matched more than {} ids, using LIKE",
+                        entityClass.getSimpleName(), field, maxIds);
+                return Optional.empty();
+            }
+            return Optional.of(ids);
+        } catch (SearchException e) {
+            log.warn("Full-text search on {}.{} failed, using LIKE: {}",
+                    entityClass.getSimpleName(), field, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Check whether a field of an entity is in the full-text index
+     *
+     * @param entityClass Entity class
+     * @param field       Field name
+     * @return true if the field is indexed
+     */
+    public boolean isIndexed(Class<?> entityClass, String field) {
+        return entityClass != null && indexedFields.computeIfAbsent(entityClass, this::loadIndexedFields).contains(field);
+    }
+
+    /**
+     * @return true when the index is enabled and not being rebuilt
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Make the index usable once the application has started, rebuilding it first if it
+     * was requested or any indexed entity has no documents yet (such as on first start)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        if (reindexOnStartup || hasEmptyIndex()) {
+            rebuildAsync();
+        } else {
+            ready = true;
+            log.info("Full-text search index is ready");
+        }
+    }
+
+    /**
+     * Rebuild the index in the background; searches use LIKE until it completes
+     *
+     * @return Completes when the rebuild ends
+     */
+    public CompletionStage<?> rebuildAsync() {
+        ready = false;
+        log.info("Rebuilding full-text search index");
+        return massIndexer().start().whenComplete((result, error) -> {
+            if (error != null) {
+                log.error("Full-text search index rebuild failed: {}", error.getMessage(), error);
+            } else {
+                ready = true;
+                log.info("Full-text search index rebuilt");
+            }
+        });
+    }
+
+    /**
+     * Rebuild the index and wait for it to complete
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void rebuild() throws InterruptedException {
+        ready = false;
+        massIndexer().startAndWait();
+        ready = true;
+    }
+
+    private MassIndexer massIndexer() {
+        // Few loader threads so indexing cannot take over the connection pool
+        return Search.mapping(entityManagerFactory).scope(Object.class).massIndexer()
+                .threadsToLoadObjects(2)
+                .batchSizeToLoadObjects(LOAD_BATCH_SIZE);
+    }
+
+    private boolean hasEmptyIndex() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            SearchSession session = Search.session(em);
+            for (SearchIndexedEntity<?> entity : Search.mapping(entityManagerFactory).allIndexedEntities()) {
+                if (session.search(entity.javaClass()).where(f -> f.matchAll()).fetchTotalHitCount() == 0) {
+                    log.info("Full-text search index has no {} documents", entity.name());
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            em.close();
+        }
+    }
+
+    private Set<String> loadIndexedFields(Class<?> entityClass) {
+        SearchMapping mapping = Search.mapping(entityManagerFactory);
+        for (SearchIndexedEntity<?> entity : mapping.allIndexedEntities()) {
+            if (entity.javaClass().equals(entityClass)) {
+                return entity.indexManager().descriptor().staticFields().stream()
+                        .map(IndexFieldDescriptor::absolutePath)
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+        }
+        return Set.of();
+    }
+}
@@ -8,7 +8,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Component;
 
@@ -24,8 +23,6 @@ import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
-import jakarta.persistence.metamodel.Attribute;
-import jakarta.persistence.metamodel.ManagedType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.service.dto.ColumnInfo;
@@ -59,9 +56,18 @@ public class JoinManager {
     
     // Repository factory for resolving entity classes
     private final RepositoryFactory repositoryFactory;
-    
-    // Cache for relationship paths to improve performance
-    private final ConcurrentHashMap<String, String> relationshipPathCache = new ConcurrentHashMap<>();
+
+    // Immutable attribute and relationship metadata built from the JPA metamodel
+    private final EntityMetadataRegistry metadataRegistry;
+
+    // Relationships that cannot be derived by walking associations forward
+    private static final Map<String, Map<String, String>> KNOWN_RELATIONSHIPS = Map.of(
+            "event", Map.of(
+                    "eventlocation", "locations",
+                    "participantevent", "participantEvents",
+                    "participant", "participantEvents.participant",
+                    "region", "locations.region",
+                    "province", "locations.region.provinces"));
     
     /**
      * Information about a relationship between entities
@@ -487,65 +493,41 @@ public class JoinManager {
      * Finds the correct attribute name, handling plural/singular and case variations
      */
     private String findAttributeName(Class<?> entityClass, String attributeName) {
-        try {
-            ManagedType<?> type = entityManager.getMetamodel().managedType(entityClass);
-
-            // Try exact match first
-            try {
-                Attribute<?, ?> attribute = type.getAttribute(attributeName);
-                return attribute.getName();
-            } catch (IllegalArgumentException e) {
-                // Continue with other variations
-            }
-
-            // Try removing plural 's'
-            if (attributeName.endsWith("s")) {
-                String singular = attributeName.substring(0, attributeName.length() - 1);
-                try {
-                    Attribute<?, ?> attribute = type.getAttribute(singular);
-                    return attribute.getName();
-                } catch (IllegalArgumentException e) {
-                    // Continue with other variations
-                }
-            }
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(entityClass);
+        if (metadata == null) {
+            return null;
+        }
 
-            // Try adding plural 's'
-            try {
-                Attribute<?, ?> attribute = type.getAttribute(attributeName + "s");
-                return attribute.getName();
-            } catch (IllegalArgumentException e) {
-                // Continue with other variations
+        // Try exact match first, then without and with a plural 's'
+        if (metadata.attribute(attributeName) != null) {
+            return attributeName;
+        }
+        if (attributeName.endsWith("s")) {
+            String singular = attributeName.substring(0, attributeName.length() - 1);
+            if (metadata.attribute(singular) != null) {
+                return singular;
             }
-
-            return null;
-        } catch (Exception e) {
-            log.debug("Error finding attribute name: {}", e.getMessage());
-            return null;
         }
+        if (metadata.attribute(attributeName + "s") != null) {
+            return attributeName + "s";
+        }
+        return null;
     }
 
     /**
      * Gets the relationship path between an entity class and an object type
      */
     public String getRelationshipPath(Class<?> entityClass, ObjectType targetObjectType) {
-        String cacheKey = entityClass.getName() + "->" + targetObjectType.name();
-        
-        // Check cache first
-        if (relationshipPathCache.containsKey(cacheKey)) {
-            return relationshipPathCache.get(cacheKey);
-        }
-        
         try {
             // Try to find matching entity class for target object type
             Class<?> targetEntityClass = customEntityManager.resolveEntityClass(null, targetObjectType);
             if (targetEntityClass == null) {
                 log.debug("No entity class found for object type: {}", targetObjectType);
-                relationshipPathCache.put(cacheKey, null); // Cache negative result
                 return null;
             }
             
-            // Find relationship path
-            String relationPath = findRelationshipPath(entityClass, targetEntityClass, new HashSet<>(), "");
+            // Paths along associations are precomputed by the registry
+            String relationPath = metadataRegistry.relationshipPath(entityClass, targetEntityClass);
             
             // If direct path not found, check for known relationships
             if (relationPath == null) {
@@ -557,12 +539,10 @@ public class JoinManager {
                 relationPath = findBidirectionalPath(entityClass, targetEntityClass);
             }
             
-            relationshipPathCache.put(cacheKey, relationPath);
             return relationPath;
         } catch (Exception e) {
             log.warn("Error finding relationship path between {} and {}: {}", 
                     entityClass.getSimpleName(), targetObjectType, e.getMessage());
-            relationshipPathCache.put(cacheKey, null); // Cache negative result
             return null;
         }
     }
@@ -571,18 +551,8 @@ public class JoinManager {
      * Look for known relationships between entity types
      */
     private String findKnownRelationship(Class<?> sourceClass, Class<?> targetClass) {
-        String sourceName = sourceClass.getSimpleName().toLowerCase();
-        String targetName = targetClass.getSimpleName().toLowerCase();
-        
-        Map<String, Map<String, String>> knownRelationships = getKnownRelationships();
-        if (knownRelationships.containsKey(sourceName)) {
-            Map<String, String> targetPaths = knownRelationships.get(sourceName);
-            if (targetPaths.containsKey(targetName)) {
-                return targetPaths.get(targetName);
-            }
-        }
-        
-        return null;
+        Map<String, String> targetPaths = KNOWN_RELATIONSHIPS.get(sourceClass.getSimpleName().toLowerCase());
+        return targetPaths != null ? targetPaths.get(targetClass.getSimpleName().toLowerCase()) : null;
     }
     
     /**
@@ -590,106 +560,28 @@ public class JoinManager {
      * with the source type
      */
     private String findBidirectionalPath(Class<?> sourceClass, Class<?> targetClass) {
-        try {
-            String sourceName = sourceClass.getSimpleName().toLowerCase();
+        EntityMetadataRegistry.EntityMetadata target = metadataRegistry.get(targetClass);
+        if (target == null) {
+            return null;
+        }
 
-            // Look for fields in the target entity that reference the source type
-            for (jakarta.persistence.metamodel.Attribute<?, ?> attr :
-                    entityManager.getMetamodel().entity(targetClass).getAttributes()) {
-                if (attr.isAssociation() && isMatchingEntityType(attr, sourceClass)) {
-                    // Found a back-reference - check for mappedBy fields on target side
-                    return attr.getName() + "." + sourceName;
-                }
+        String sourceName = sourceClass.getSimpleName().toLowerCase();
+
+        // Look for fields in the target entity that reference the source type
+        for (EntityMetadataRegistry.AttributeMetadata attr : target.attributes().values()) {
+            if (attr.association() && isMatchingEntityType(attr.javaType(), sourceClass)) {
+                // Found a back-reference - check for mappedBy fields on target side
+                return attr.name() + "." + sourceName;
             }
-        } catch (Exception e) {
-            // Ignore errors when checking bidirectional relationships
         }
         return null;
     }
     
-    /**
-     * Returns known relationships between entity types
-     * This could be moved to a configuration file or database table
-     */
-    private Map<String, Map<String, String>> getKnownRelationships() {
-        Map<String, Map<String, String>> relationships = new HashMap<>();
-
-        // Event relationships
-        Map<String, String> eventRelationships = new HashMap<>();
-        eventRelationships.put("eventlocation", "locations");
-        eventRelationships.put("participantevent", "participantEvents");
-        eventRelationships.put("participant", "participantEvents.participant");
-        eventRelationships.put("region", "locations.region");
-        eventRelationships.put("province", "locations.region.provinces");
-        relationships.put("event", eventRelationships);
-
-        // Add more entity relationships here
-
-        return relationships;
-    }
-    
     /**
      * More robust attribute type checking
      */
-    private boolean isMatchingEntityType(jakarta.persistence.metamodel.Attribute<?, ?> attr, Class<?> targetClass) {
-        try {
-            Class<?> attrType = attr.getJavaType();
-            return targetClass.isAssignableFrom(attrType) || attrType.isAssignableFrom(targetClass);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-
-
-    /**
-     * Recursively finds the path between two entity classes
-     */
-    private String findRelationshipPath(Class<?> sourceClass, Class<?> targetClass, 
-            Set<Class<?>> visited, String currentPath) {
-        
-        if (sourceClass.equals(targetClass)) {
-            return currentPath;
-        }
-        
-        if (visited.contains(sourceClass)) {
-            return null; // Prevent cycles
-        }
-        
-        visited.add(sourceClass);
-        
-        for (Field field : sourceClass.getDeclaredFields()) {
-            // Check if field has relationship annotation
-            if (field.isAnnotationPresent(OneToOne.class) || 
-                field.isAnnotationPresent(OneToMany.class) || 
-                field.isAnnotationPresent(ManyToOne.class) || 
-                field.isAnnotationPresent(ManyToMany.class)) {
-                
-                Class<?> fieldType = field.getType();
-                String nextPath = currentPath.isEmpty() ? field.getName() : currentPath + "." + field.getName();
-                
-                // Handle collection types
-                if (List.class.isAssignableFrom(fieldType) || Set.class.isAssignableFrom(fieldType)) {
-                    if (field.getGenericType() instanceof ParameterizedType) {
-                        ParameterizedType paramType = (ParameterizedType) field.getGenericType();
-                        Class<?> genericType = (Class<?>) paramType.getActualTypeArguments()[0];
-                        
-                        String result = findRelationshipPath(genericType, targetClass, visited, nextPath);
-                        if (result != null) {
-                            return result;
-                        }
-                    }
-                } else {
-                    String result = findRelationshipPath(fieldType, targetClass, visited, nextPath);
-                    if (result != null) {
-                        return result;
-                    }
-                }
-            }
-        }
-        
-        visited.remove(sourceClass);
-        return null;
+    private boolean isMatchingEntityType(Class<?> attrType, Class<?> targetClass) {
+        return targetClass.isAssignableFrom(attrType) || attrType.isAssignableFrom(targetClass);
     }
 
     /**
@@ -720,38 +612,26 @@ public class JoinManager {
             Class<?> currentClass = rootClass;
             
             for (int i = 0; i < pathSegments.length - 1; i++) {
-                Field field = findField(currentClass, pathSegments[i]);
-                if (field == null) {
+                EntityMetadataRegistry.AttributeMetadata attribute = findAttribute(currentClass, pathSegments[i]);
+                if (attribute == null) {
                     log.debug("Could not find field '{}' in class {}", 
                         pathSegments[i], currentClass.getSimpleName());
                     break;
                 }
                 
-                Class<?> fieldType = field.getType();
-                
-                // If it's a collection, get the generic type
-                if (java.util.Collection.class.isAssignableFrom(fieldType)) {
-                    java.lang.reflect.Type genericType = field.getGenericType();
-                    if (genericType instanceof ParameterizedType) {
-                        ParameterizedType paramType = (ParameterizedType) genericType;
-                        java.lang.reflect.Type[] typeArgs = paramType.getActualTypeArguments();
-                        if (typeArgs != null && typeArgs.length > 0) {
-                            fieldType = (Class<?>) typeArgs[0];
-                        }
-                    }
-                }
-                
-                currentClass = fieldType;
+                // Collections resolve to their element type
+                currentClass = attribute.targetType();
             }
             
             // Try to find the last segment as a field in the current class
-            Field lastField = findField(currentClass, pathSegments[pathSegments.length - 1]);
+            EntityMetadataRegistry.AttributeMetadata lastField =
+                    findAttribute(currentClass, pathSegments[pathSegments.length - 1]);
             
             // If the last field exists and is not an entity or collection, don't join to it
             if (lastField != null) {
-                Class<?> lastFieldType = lastField.getType();
-                boolean isEntity = lastFieldType.isAnnotationPresent(jakarta.persistence.Entity.class);
-                boolean isCollection = java.util.Collection.class.isAssignableFrom(lastFieldType);
+                Class<?> lastFieldType = lastField.javaType();
+                boolean isEntity = lastField.association() && !lastField.collection();
+                boolean isCollection = lastField.collection();
                 
                 if (!isEntity && !isCollection) {
                     // Last segment is a basic attribute, don't include it in join
@@ -886,16 +766,15 @@ public class JoinManager {
     public Map<String, Class<?>> getJoinableFields(Class<?> entityClass) {
         Map<String, Class<?>> joinableFields = new HashMap<>();
         
-        try {
-            ManagedType<?> managedType = entityManager.getMetamodel().managedType(entityClass);
-            
-            for (Attribute<?, ?> attribute : managedType.getAttributes()) {
-                if (attribute.isAssociation()) {
-                    joinableFields.put(attribute.getName(), attribute.getJavaType());
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(entityClass);
+        if (metadata != null) {
+            for (EntityMetadataRegistry.AttributeMetadata attribute : metadata.attributes().values()) {
+                if (attribute.association()) {
+                    joinableFields.put(attribute.name(), attribute.javaType());
                 }
             }
-        } catch (Exception e) {
-            log.warn("Error analyzing metamodel for {}: {}", entityClass.getSimpleName(), e.getMessage());
+        } else {
+            log.debug("No metamodel entry for {}, analyzing fields", entityClass.getSimpleName());
             
             // Fall back to reflection-based analysis
             for (Field field : entityClass.getDeclaredFields()) {
@@ -923,13 +802,6 @@ public class JoinManager {
         return joinableFields;
     }
 
-    /**
-     * Clears all caches
-     */
-    public void clearCaches() {
-        relationshipPathCache.clear();
-    }
-
     /**
      * Resolves a path expression from the provided join map
      * 
@@ -1059,8 +931,8 @@ public class JoinManager {
                 // Process all parts except the last one (which is the property)
                 for (int i = 0; i < fieldParts.length - 1; i++) {
                     String joinField = fieldParts[i];
-                    Field field = findField(currentClass, joinField);
-                    if (field != null && isRelationshipField(field) && currentPath != null) {
+                    EntityMetadataRegistry.AttributeMetadata field = findAttribute(currentClass, joinField);
+                    if (field != null && field.association() && currentPath != null) {
                         String joinKey = currentPath.getModel().getBindableJavaType().getName() + "." + joinField;
                         Join<?, ?> join = joinCache.get(joinKey);
 
@@ -1079,7 +951,7 @@ public class JoinManager {
                             }
                         }
                         currentPath = join;
-                        currentClass = getRelatedEntityClass(field);
+                        currentClass = field.targetType();
                     } else {
                         log.warn("Field {} is not a relationship in entity {}", joinField, currentClass.getSimpleName());
                         break;
@@ -1090,40 +962,10 @@ public class JoinManager {
     }
 
     /**
-     * Find a field in a class by name
-     */
-    private Field findField(Class<?> clazz, String fieldName) {
-        try {
-            return clazz.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            return null;
-        }
-    }
-
-    /**
-     * Check if a field represents a relationship
-     */
-    private boolean isRelationshipField(Field field) {
-        return field != null && (
-            field.isAnnotationPresent(OneToOne.class) ||
-                field.isAnnotationPresent(OneToMany.class) ||
-                field.isAnnotationPresent(ManyToOne.class) ||
-                field.isAnnotationPresent(ManyToMany.class)
-        );
-    }
-
-    /**
-     * Get the class of the related entity for a relationship field
+     * Find an attribute of a managed class by name
      */
-    private Class<?> getRelatedEntityClass(Field field) {
-        if (field.isAnnotationPresent(OneToOne.class) || field.isAnnotationPresent(ManyToOne.class)) {
-            return field.getType();
-        } else if (field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class)) {
-            ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
-            return (Class<?>) parameterizedType.getActualTypeArguments()[0];
-        }
-        return null;
+    private EntityMetadataRegistry.AttributeMetadata findAttribute(Class<?> clazz, String fieldName) {
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(clazz);
+        return metadata != null ? metadata.attribute(fieldName) : null;
     }
-    
-
 }
@@ -0,0 +1,81 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque cursor used by keyset (seek) pagination.
+ * <p>
+ * Holds the sort-key values of the last row of a page, in sort order, with the
+ * {@code id} tie-breaker last. Each value is stored as its string form and is
+ * converted back to the column type when the seek predicate is built.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = ".";
+    private static final String NULL_MARKER = "~";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Encode the key values of a boundary row
+     *
+     * @param values sort-key values followed by the id
+     * @return URL-safe cursor string
+     */
+    public static String encode(List<?> values) {
+        List<String> parts = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value == null) {
+                parts.add(NULL_MARKER);
+            } else {
+                String text = value instanceof Enum<?> e ? e.name() : value.toString();
+                parts.add(base64(text));
+            }
+        }
+        return base64(String.join(SEPARATOR, parts));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode(List)}
+     *
+     * @param cursor       the cursor string
+     * @param expectedKeys number of keys the current sort produces
+     * @return key values as strings, {@code null} for null keys
+     * @throws IllegalArgumentException if the cursor is malformed or was built for another sort
+     */
+    public static List<String> decode(String cursor, int expectedKeys) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != expectedKeys) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        List<String> values = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            if (NULL_MARKER.equals(part)) {
+                values.add(null);
+            } else {
+                try {
+                    values.add(new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid cursor", e);
+                }
+            }
+        }
+        return values;
+    }
+
+    private static String base64(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query
+ *
+ * @param rows       rows of the page, at most the requested size
+ * @param nextCursor cursor for the following page, null when there is none
+ * @param hasNext    whether another page follows
+ */
+public record KeysetPage<T>(List<T> rows, String nextCursor, boolean hasNext) {
+}
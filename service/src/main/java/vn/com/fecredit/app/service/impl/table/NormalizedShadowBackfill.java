@@ -0,0 +1,121 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
+
+/**
+ * Fills in shadow columns that are still null, then lets the search planner use them.
+ * <p>
+ * Entity writes keep shadow columns up to date, but rows written before a shadow column
+ * existed, or by SQL outside the application, have none. Runs once on a background thread
+ * after startup, so a large table does not hold up serving requests; until it is done,
+ * lookups match {@code lower(column)} as before. Each batch of {@value #BATCH_SIZE} rows is
+ * read and then written by a single UPDATE in its own transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NormalizedShadowBackfill implements SmartInitializingSingleton {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final SearchPlanner searchPlanner;
+    private final QueryPlanCache queryPlanCache;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Thread.ofVirtual().name("search-shadow-backfill").start(this::run);
+    }
+
+    private void run() {
+        try {
+            backfill();
+            searchPlanner.markReady();
+            // Plans compiled so far have no shadow conditions
+            queryPlanCache.clear();
+        } catch (Exception e) {
+            // Lookups keep using lower(column) until the next start
+            log.error("Could not fill search shadow columns: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Normalize every shadow column whose source is set but whose shadow is null
+     *
+     * @return Number of rows updated
+     */
+    public long backfill() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long total = 0;
+        for (Map.Entry<Class<?>, Map<String, EntityMetadataRegistry.AttributeMetadata>> entity
+                : searchPlanner.shadows().entrySet()) {
+            Class<?> entityClass = entity.getKey();
+            String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+            for (Map.Entry<String, EntityMetadataRegistry.AttributeMetadata> field : entity.getValue().entrySet()) {
+                String source = field.getKey();
+                String shadow = field.getValue().name();
+                int updated;
+                do {
+                    Integer count = transactionTemplate.execute(status -> fillBatch(entityClass, entityName, source, shadow));
+                    updated = count != null ? count : 0;
+                    total += updated;
+                } while (updated == BATCH_SIZE);
+            }
+        }
+
+        if (total > 0) {
+            log.info("Filled {} search shadow values", total);
+        }
+        return total;
+    }
+
+    /**
+     * Normalize one batch: the values are read, normalized in Java like entity writes are,
+     * and written back with one {@code case id when ... then ... end} update
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int fillBatch(Class<?> entityClass, String entityName, String source, String shadow) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select e.id, e." + source + " from " + entityName + " e"
+                                + " where e." + shadow + " is null and e." + source + " is not null",
+                        Object[].class)
+                .setMaxResults(BATCH_SIZE)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate update = cb.createCriteriaUpdate(entityClass);
+        Root root = update.from(entityClass);
+        CriteriaBuilder.SimpleCase<Object, String> values = cb.selectCase(root.get("id"));
+        List<Object> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            values.when(row[0], SearchNormalizer.normalize(row[1].toString()));
+            ids.add(row[0]);
+        }
+        update.set(root.get(shadow), values.otherwise(root.get(shadow)))
+                .where(root.get("id").in(ids));
+        entityManager.createQuery(update).executeUpdate();
+        return rows.size();
+    }
+}
@@ -45,6 +45,34 @@ public class PaginationHelper {
         return PageRequest.of(request.getPage(), request.getSize(), sort);
     }
     
+    /**
+     * Sort keys used by keyset pagination: the requested sorts followed by {@code id}
+     * as a unique tie-breaker. Sorts after an explicit {@code id} sort are dropped
+     * since they can never decide the order.
+     *
+     * @param request The table fetch request
+     * @return Sort keys, id last
+     */
+    public List<SortRequest> keysetSorts(TableFetchRequest request) {
+        List<SortRequest> keys = new ArrayList<>();
+        if (request.getSorts() != null) {
+            for (SortRequest sortRequest : request.getSorts()) {
+                String field = sortRequest.getField();
+                if (field == null || field.isEmpty()) {
+                    continue;
+                }
+                SortType sortType = sortRequest.getSortType() == SortType.DESCENDING
+                        ? SortType.DESCENDING : SortType.ASCENDING;
+                keys.add(new SortRequest(field, sortType));
+                if ("id".equals(field)) {
+                    return keys;
+                }
+            }
+        }
+        keys.add(new SortRequest("id", SortType.ASCENDING));
+        return keys;
+    }
+
     /**
      * Normalize page and size values to prevent invalid pagination parameters
      * 
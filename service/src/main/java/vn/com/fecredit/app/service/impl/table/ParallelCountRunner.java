@@ -0,0 +1,98 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the count query of a table fetch alongside its page query.
+ * <p>
+ * The count runs on a virtual thread in its own read-only transaction, so it uses a
+ * separate connection and persistence context, while the page query runs on the
+ * calling thread. A fetch then takes about max(count, page) instead of their sum.
+ * Each parallel fetch holds two connections, so at most
+ * {@code app.table.parallel-count.max-concurrent} fetches run this way; the rest,
+ * and every fetch when the mode is disabled, run the two queries one after the other.
+ * <p>
+ * The count does not see uncommitted writes of the calling transaction.
+ */
+@Component
+public class ParallelCountRunner {
+
+    /**
+     * Count and page of one fetch
+     *
+     * @param count total count
+     * @param page  page rows
+     */
+    public record Result<T>(long count, T page) {
+    }
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ParallelCountRunner(PlatformTransactionManager transactionManager,
+            @Value("${app.table.parallel-count.enabled:false}") boolean enabled,
+            @Value("${app.table.parallel-count.max-concurrent:4}") int maxConcurrent) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * Run a count and a page query, concurrently when possible
+     *
+     * @param count Runs the count query
+     * @param page  Runs the page query on the calling thread
+     * @return The count and the page
+     */
+    public <T> Result<T> run(LongSupplier count, Supplier<T> page) {
+        if (!enabled || !permits.tryAcquire()) {
+            long total = count.getAsLong();
+            return new Result<>(total, page.get());
+        }
+
+        CompletableFuture<Long> countFuture;
+        try {
+            countFuture = CompletableFuture.supplyAsync(
+                    () -> transactionTemplate.execute(status -> count.getAsLong()), executor);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        // Hold the permit until the count finishes, even if the page query fails
+        countFuture.whenComplete((total, error) -> permits.release());
+
+        T rows = page.get();
+        try {
+            Long total = countFuture.join();
+            return new Result<>(total != null ? total : 0L, rows);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
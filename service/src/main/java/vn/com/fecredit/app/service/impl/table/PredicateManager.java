@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -15,15 +17,21 @@ import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import vn.com.fecredit.app.entity.base.AbstractStatusAwareEntity;
+import vn.com.fecredit.app.entity.search.SearchMode;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
 import vn.com.fecredit.app.service.dto.DataObject;
 import vn.com.fecredit.app.service.dto.FilterOperator;
 import vn.com.fecredit.app.service.dto.FilterRequest;
 import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortRequest;
+import vn.com.fecredit.app.service.dto.SortType;
 import vn.com.fecredit.app.service.dto.TableFetchRequest;
 import vn.com.fecredit.app.service.dto.TableRow;
 
@@ -31,13 +39,17 @@ import vn.com.fecredit.app.service.dto.TableRow;
  * Consolidated class for all Predicate-related operations.
  * This class combines functionality from:
  * - PredicateBuilder
- * - PredicateCopier
  * - PredicateHandler
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class PredicateManager {
 
+    private final FullTextSearchIndex fullTextSearchIndex;
+    private final SearchPlanner searchPlanner;
+    private final ValueConverters valueConverters;
+
     /**
      * Adds default filters to a list of predicates
      */
@@ -65,52 +77,65 @@ public class PredicateManager {
         }
         
         for (FilterRequest filter : request.getFilters()) {
-            String fieldName = filter.getField();
-            Object value = filter.getValue();
-            FilterOperator operator = filter.getOperator();
-            
-            if (fieldName == null || operator == null) {
+            if (filter.getField() == null || filter.getOperator() == null) {
                 continue;
             }
-            
-            try {
-                // Parse path for nested attributes
-                Path<?> path;
-                if (fieldName.contains(".")) {
-                    String[] parts = fieldName.split("\\.");
-                    From<?, ?> from = root;
-                    Map<String, Join<?, ?>> joins = new HashMap<>();
-                    
-                    // Create joins for all but the last part
-                    String joinPath = "";
-                    for (int i = 0; i < parts.length - 1; i++) {
-                        if (!joinPath.isEmpty()) {
-                            joinPath += ".";
-                        }
-                        joinPath += parts[i];
-                        
-                        // Get or create join
-                        if (joins.containsKey(joinPath)) {
-                            from = joins.get(joinPath);
-                        } else {
-                            Join<?, ?> join = from.join(parts[i], JoinType.LEFT);
-                            joins.put(joinPath, join);
-                            from = join;
-                        }
+            applyFilter(filter.getField(), filter.getOperator(), filter.getValue(), predicates, cb, root);
+        }
+    }
+
+    /**
+     * Applies a single field filter to a list of predicates
+     */
+    private void applyFilter(String fieldName, FilterOperator operator, Object value,
+            List<Predicate> predicates, CriteriaBuilder cb, Root<?> root) {
+        try {
+            // Parse path for nested attributes
+            Path<?> path;
+            From<?, ?> from = root;
+            String attributeName = fieldName;
+            if (fieldName.contains(".")) {
+                String[] parts = fieldName.split("\\.");
+                Map<String, Join<?, ?>> joins = new HashMap<>();
+                
+                // Create joins for all but the last part
+                String joinPath = "";
+                for (int i = 0; i < parts.length - 1; i++) {
+                    if (!joinPath.isEmpty()) {
+                        joinPath += ".";
                     }
+                    joinPath += parts[i];
                     
-                    // Get the field from the last join
-                    path = from.get(parts[parts.length - 1]);
-                } else {
-                    path = root.get(fieldName);
+                    // Get or create join
+                    if (joins.containsKey(joinPath)) {
+                        from = joins.get(joinPath);
+                    } else {
+                        Join<?, ?> join = from.join(parts[i], JoinType.LEFT);
+                        joins.put(joinPath, join);
+                        from = join;
+                    }
                 }
                 
-                // Apply the filter based on operator
-                applyOperator(predicates, cb, path, operator, value);
-                
-            } catch (Exception e) {
-                log.warn("Error applying filter on field {}: {}", fieldName, e.getMessage());
+                // Get the field from the last join
+                attributeName = parts[parts.length - 1];
+                path = from.get(attributeName);
+            } else {
+                path = root.get(fieldName);
             }
+            
+            // Equality and prefix lookups on shadowed fields also match the indexed shadow column
+            if (path.getJavaType() == String.class && value instanceof String text) {
+                SearchPlanner.Plan plan = searchPlanner.plan(from.getJavaType(), attributeName, operator, text);
+                if (plan.usesShadow()) {
+                    predicates.add(createShadowPredicate(cb, from, plan));
+                }
+            }
+
+            // Apply the filter based on operator
+            applyOperator(predicates, cb, path, operator, value);
+            
+        } catch (Exception e) {
+            log.warn("Error applying filter on field {}: {}", fieldName, e.getMessage());
         }
     }
 
@@ -232,18 +257,7 @@ public class PredicateManager {
                     continue;
                 }
                 
-                // Handle nested search keys using dot notation
-                if (fieldName.contains(".")) {
-                    handleNestedSearch(root, joins, searchPredicates, cb, fieldName, value);
-                } else {
-                    // Handle simple field search
-                    try {
-                        Path<?> path = root.get(fieldName);
-                        createSearchPredicate(cb, path, value).ifPresent(searchPredicates::add);
-                    } catch (Exception e) {
-                        log.debug("Error creating search predicate for field {}: {}", fieldName, e.getMessage());
-                    }
-                }
+                applySearchField(root, joins, searchPredicates, cb, fieldName, value);
             }
         }
         
@@ -253,6 +267,24 @@ public class PredicateManager {
         }
     }
 
+    /**
+     * Applies the search criterion of one field, sharing joins between search fields
+     */
+    private void applySearchField(Root<?> root, Map<String, Join<?, ?>> joins,
+            List<Predicate> predicates, CriteriaBuilder cb, String fieldName, Object value) {
+        // Handle nested search keys using dot notation
+        if (fieldName.contains(".")) {
+            handleNestedSearch(root, joins, predicates, cb, fieldName, value);
+        } else {
+            // Handle simple field search
+            try {
+                applySearchPredicates(cb, root, fieldName, value, predicates);
+            } catch (Exception e) {
+                log.debug("Error creating search predicate for field {}: {}", fieldName, e.getMessage());
+            }
+        }
+    }
+
     /**
      * Handles nested search with dot notation
      */
@@ -286,8 +318,7 @@ public class PredicateManager {
         // Get the field from the last join
         String fieldName = parts[parts.length - 1];
         try {
-            Path<?> fieldPath = from.get(fieldName);
-            createSearchPredicate(cb, fieldPath, value).ifPresent(predicates::add);
+            applySearchPredicates(cb, from, fieldName, value, predicates);
         } catch (Exception e) {
             log.debug("Error creating search predicate for nested field {}: {}", key, e.getMessage());
         }
@@ -341,6 +372,56 @@ public class PredicateManager {
         }
     }
 
+    /**
+     * Adds the predicates of one search field, letting the search planner pick how
+     * string values are matched
+     */
+    private void applySearchPredicates(CriteriaBuilder cb, From<?, ?> from, String fieldName, Object value,
+            List<Predicate> predicates) {
+        Path<?> path = from.get(fieldName);
+        if (path.getJavaType() == String.class && value instanceof String text && !text.isEmpty()) {
+            SearchPlanner.Plan plan = searchPlanner.plan(from.getJavaType(), fieldName, null, text);
+            if (plan.usesShadow()) {
+                predicates.add(createShadowPredicate(cb, from, plan));
+                String lower = text.toLowerCase();
+                Expression<String> lowerField = cb.lower(path.as(String.class));
+                predicates.add(plan.mode() == SearchMode.EXACT
+                        ? cb.equal(lowerField, lower)
+                        : cb.like(lowerField, lower + "%"));
+                return;
+            }
+        }
+
+        createSearchPredicate(cb, path, value).ifPresent(predicates::add);
+        createIndexedIdPredicate(cb, from, fieldName, value).ifPresent(predicates::add);
+    }
+
+    /**
+     * Matches the normalized shadow column: equality for EXACT, a prefix LIKE for PREFIX.
+     * LIKE is exact under any collation; on PostgreSQL a {@code varchar_pattern_ops}
+     * index keeps it an index range scan.
+     */
+    private Predicate createShadowPredicate(CriteriaBuilder cb, From<?, ?> from, SearchPlanner.Plan plan) {
+        Path<String> shadow = from.get(plan.shadowField());
+        if (plan.mode() == SearchMode.EXACT) {
+            return cb.equal(shadow, plan.normalized());
+        }
+        return cb.like(shadow, plan.prefixPattern(), SearchNormalizer.LIKE_ESCAPE);
+    }
+
+    /**
+     * Narrows a string search on a full-text indexed field to the ids the index matched.
+     * The LIKE predicate is kept, so the index only has to return a superset of the matches.
+     */
+    private java.util.Optional<Predicate> createIndexedIdPredicate(CriteriaBuilder cb, From<?, ?> from,
+            String fieldName, Object value) {
+        if (!(value instanceof String text)) {
+            return java.util.Optional.empty();
+        }
+        return fullTextSearchIndex.findIds(from.getJavaType(), fieldName, text)
+                .map(ids -> ids.isEmpty() ? cb.disjunction() : from.get("id").in(ids));
+    }
+
     /**
      * Creates a search predicate based on the field type and value
      * 
@@ -872,285 +953,135 @@ public class PredicateManager {
     }
 
     /**
-     * Copies a predicate from one query to another, preserving its structure
+     * Converts a value to the appropriate type, leaving it unchanged if it cannot be converted
      */
-    public Predicate copyPredicate(
-            Predicate original,
-            CriteriaBuilder cb,
-            Root<?> newRoot,
-            Map<String, Join<?, ?>> joinMap) {
-
-        if (original == null) {
-            return null;
-        }
-
-        // Handle composite predicates (AND/OR)
-        if (original.getOperator() != null) {
-            List<Predicate> predicates = new ArrayList<>();
-            for (Expression<Boolean> expr : original.getExpressions()) {
-                if (expr instanceof Predicate) {
-                    predicates.add(copyPredicate((Predicate) expr, cb, newRoot, joinMap));
-                }
-            }
-            return original.getOperator() == Predicate.BooleanOperator.AND
-                    ? cb.and(predicates.toArray(new Predicate[0]))
-                    : cb.or(predicates.toArray(new Predicate[0]));
-        }
-
-        try {
-            String predString = original.toString().toLowerCase();
-
-            // Extract the path information from the predicate string
-            String[] parts = predString.split("\\s+"); // Split on whitespace
-            String pathPart = parts[0]; // The first part should be the path
-
-            // Try to extract full path
-            String[] pathElements = pathPart.split("\\.");
-            if (pathElements.length > 1) {
-                // This is a joined path
-                Path<?> currentPath = null;
-                StringBuilder currentJoinKey = new StringBuilder();
-
-                // Start with root or find first join
-                for (int i = 0; i < pathElements.length - 1; i++) {
-                    if (currentJoinKey.length() > 0) {
-                        currentJoinKey.append(".");
-                    }
-                    currentJoinKey.append(pathElements[i]);
-
-                    Join<?, ?> join = joinMap.get(currentJoinKey.toString());
-                    if (join != null) {
-                        currentPath = join;
-                    } else if (i == 0) {
-                        currentPath = newRoot.get(pathElements[i]);
-                    } else if (currentPath instanceof From) {
-                        Join<?, ?> newJoin = ((From<?, ?>) currentPath).join(pathElements[i], JoinType.INNER);
-                        joinMap.put(currentJoinKey.toString(), newJoin);
-                        currentPath = newJoin;
-                    }
-                }
-
-                // Get the final attribute if we found a path
-                if (currentPath != null) {
-                    String finalAttribute = pathElements[pathElements.length - 1];
-                    if (finalAttribute.indexOf(" ") > 0) { // Remove any trailing spaces/operators
-                        finalAttribute = finalAttribute.substring(0, finalAttribute.indexOf(" "));
-                    }
-                    return recreatePredicateWithNewPath(original, cb, currentPath.get(finalAttribute));
-                }
-            } else {
-                // This is a root path
-                String attributeName = pathElements[0];
-                if (attributeName.indexOf(" ") > 0) {
-                    attributeName = attributeName.substring(0, attributeName.indexOf(" "));
-                }
-                return recreatePredicateWithNewPath(original, cb, newRoot.get(attributeName));
-            }
-        } catch (Exception e) {
-            log.debug("Error copying predicate, will use original: {}", e.getMessage());
-        }
-
-        return original;
+    Object convertValue(Object value, Class<?> targetType) {
+        return valueConverters.convert(value, targetType);
     }
 
     /**
-     * Recreates a predicate with a new path
+     * Build the seek predicate for keyset pagination, i.e. {@code (k1, k2, ..., id) > (:v1, :v2, ..., :id)}
+     * expanded into OR/AND form with each key compared in its own sort direction.
+     * <p>
+     * Null key values sort last when ascending and first when descending, the PostgreSQL
+     * default. Other databases differ, so the query must be ordered with
+     * {@link #keysetOrder(CriteriaBuilder, Expression, boolean)}, which states that precedence.
+     *
+     * @param cb           The criteria builder
+     * @param keys         Sort-key expressions, id last
+     * @param descending   Sort direction per key
+     * @param cursorValues Boundary row values decoded from the cursor
+     * @return Predicate selecting the rows after the boundary row
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private Predicate recreatePredicateWithNewPath(
-            Predicate original,
-            CriteriaBuilder cb,
-            Path<?> newPath) {
-        try {
-            String predString = original.toString().toLowerCase();
-            Class<?> pathType = newPath.getJavaType();
-            Object value = extractValue(predString);
+    public Predicate buildKeysetPredicate(CriteriaBuilder cb, List<? extends Expression<?>> keys,
+            List<Boolean> descending, List<String> cursorValues) {
+        List<Predicate> branches = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
 
-            // Convert value to appropriate type
-            Object convertedValue = convertValue(value, pathType);
+        for (int i = 0; i < keys.size(); i++) {
+            Expression key = keys.get(i);
+            Object value = cursorValues.get(i) == null ? null : convertValue(cursorValues.get(i), key.getJavaType());
+            boolean desc = Boolean.TRUE.equals(descending.get(i));
 
-            // Determine predicate type and create appropriate version
-            if (predString.contains(" = ")) {
-                return cb.equal(newPath, convertedValue);
+            Predicate after;
+            if (value == null) {
+                after = desc ? cb.isNotNull(key) : null;
+            } else if (desc) {
+                after = cb.lessThan(key, (Comparable) value);
+            } else {
+                after = cb.or(cb.greaterThan(key, (Comparable) value), cb.isNull(key));
             }
 
-            if (predString.contains(" <> ")) {
-                return cb.notEqual(newPath, convertedValue);
+            if (after != null) {
+                List<Predicate> branch = new ArrayList<>(equalPrefix);
+                branch.add(after);
+                branches.add(cb.and(branch.toArray(new Predicate[0])));
             }
 
-            // Handle numeric comparisons
-            if (Comparable.class.isAssignableFrom(pathType)) {
-                Path<Comparable> comparablePath = (Path<Comparable>) newPath;
-                Comparable comparableValue = (Comparable) convertedValue;
-
-                if (predString.contains(" > ")) {
-                    return cb.greaterThan(comparablePath, comparableValue);
-                }
-
-                if (predString.contains(" >= ")) {
-                    return cb.greaterThanOrEqualTo(comparablePath, comparableValue);
-                }
-
-                if (predString.contains(" < ")) {
-                    return cb.lessThan(comparablePath, comparableValue);
-                }
-
-                if (predString.contains(" <= ")) {
-                    return cb.lessThanOrEqualTo(comparablePath, comparableValue);
-                }
-            }
+            equalPrefix.add(value == null ? cb.isNull(key) : cb.equal(key, value));
+        }
 
-            // Handle LIKE predicates for strings
-            if (String.class.equals(pathType)) {
-                if (predString.contains(" like ")) {
-                    return cb.like(newPath.as(String.class), (String) convertedValue);
-                }
-            }
+        return branches.isEmpty() ? cb.disjunction() : cb.or(branches.toArray(new Predicate[0]));
+    }
 
-            // Handle IS NULL predicates
-            if (predString.contains(" is null")) {
-                return cb.isNull(newPath);
-            }
+    /**
+     * Order by a keyset sort key with the null precedence the seek predicate assumes
+     *
+     * @param cb         The criteria builder
+     * @param key        Sort-key expression
+     * @param descending Whether the key sorts descending
+     * @return Nulls last when ascending, nulls first when descending
+     */
+    public Order keysetOrder(CriteriaBuilder cb, Expression<?> key, boolean descending) {
+        HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+        return descending ? hcb.desc(key, true) : hcb.asc(key, false);
+    }
 
-            if (predString.contains(" is not null")) {
-                return cb.isNotNull(newPath);
+    /**
+     * Build the ordering specification of a keyset page against an entity root, using
+     * {@link #keysetOrder(CriteriaBuilder, Expression, boolean)} for each key
+     *
+     * @param keys Sort keys, id last
+     * @return Specification that only sets the ORDER BY; use with an unsorted query
+     */
+    public <T> Specification<T> keysetOrdering(List<SortRequest> keys) {
+        return (root, query, cb) -> {
+            List<Order> orders = new ArrayList<>(keys.size());
+            for (SortRequest key : keys) {
+                orders.add(keysetOrder(cb, resolveOuterPath(root, key.getField()),
+                        key.getSortType() == SortType.DESCENDING));
             }
-
-            log.debug("Unsupported predicate type: {}", predString);
-            return original;
-
-        } catch (Exception e) {
-            log.debug("Failed to recreate predicate with new path: {} - {}", newPath, e.getMessage());
-            return original;
-        }
+            query.orderBy(orders);
+            return null;
+        };
     }
 
     /**
-     * Extracts a value from a predicate string
+     * Build the seek predicate for keyset pagination directly against an entity root.
+     * Nested sort fields are resolved through left joins, reusing joins already on the root.
+     *
+     * @param keys   Sort keys, id last
+     * @param cursor Cursor returned by the previous page
+     * @param cb     The criteria builder
+     * @param root   The root entity
+     * @return Predicate selecting the rows after the cursor
+     * @throws IllegalArgumentException if the cursor is invalid for these keys
      */
-    private Object extractValue(String predString) throws Exception {
-        String[] parts = predString.split("[=<>]");
-        if (parts.length > 1) {
-            String value = parts[1].trim();
-            if (value.startsWith("'") && value.endsWith("'")) {
-                value = value.substring(1, value.length() - 1);
-            }
-            return value;
+    public Predicate buildKeysetPredicate(List<SortRequest> keys, String cursor,
+            CriteriaBuilder cb, Root<?> root) {
+        List<String> values = KeysetCursor.decode(cursor, keys.size());
+        List<Expression<?>> paths = new ArrayList<>(keys.size());
+        List<Boolean> descending = new ArrayList<>(keys.size());
+        for (SortRequest key : keys) {
+            paths.add(resolveOuterPath(root, key.getField()));
+            descending.add(key.getSortType() == SortType.DESCENDING);
         }
-        throw new IllegalArgumentException("Could not extract value from predicate string");
+        return buildKeysetPredicate(cb, paths, descending, values);
     }
 
     /**
-     * Converts a value to the appropriate type
+     * Resolve a possibly nested attribute path using left joins
      */
-    @SuppressWarnings("unchecked")
-    private Object convertValue(Object value, Class<?> targetType) {
-        if (value == null || targetType.isInstance(value)) {
-            return value;
+    private Path<?> resolveOuterPath(Root<?> root, String fieldName) {
+        if (!fieldName.contains(".")) {
+            return root.get(fieldName);
         }
 
-        String stringValue = value.toString().trim();
-
-        try {
-            // Handle numeric types with format handling
-            if (targetType == Long.class || targetType == long.class) {
-                stringValue = stringValue.replaceAll("[,_]", ""); // Remove thousands separators
-                return Long.parseLong(stringValue);
-            }
-            if (targetType == Integer.class || targetType == int.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return Integer.parseInt(stringValue);
-            }
-            if (targetType == Double.class || targetType == double.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return Double.parseDouble(stringValue);
-            }
-            if (targetType == Float.class || targetType == float.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return Float.parseFloat(stringValue);
-            }
-            if (targetType == java.math.BigDecimal.class) {
-                stringValue = stringValue.replaceAll("[,_]", "");
-                return new java.math.BigDecimal(stringValue);
-            }
-
-            // Handle boolean with various formats
-            if (targetType == Boolean.class || targetType == boolean.class) {
-                stringValue = stringValue.toLowerCase();
-                if (stringValue.matches("true|yes|1|on"))
-                    return true;
-                if (stringValue.matches("false|no|0|off"))
-                    return false;
-                return Boolean.parseBoolean(stringValue);
-            }
-
-            // Handle date/time types with multiple formats
-            if (targetType == java.time.LocalDateTime.class) {
-                try {
-                    return java.time.LocalDateTime.parse(stringValue);
-                } catch (Exception e) {
-                    // Try common date-time formats
-                    java.time.format.DateTimeFormatter[] formatters = {
-                            java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-                            java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
-                            java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"),
-                            java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss")
-                    };
-                    for (java.time.format.DateTimeFormatter formatter : formatters) {
-                        try {
-                            return java.time.LocalDateTime.parse(stringValue, formatter);
-                        } catch (Exception ex) {
-                            // Continue to next format
-                        }
-                    }
-                    throw new IllegalArgumentException("Could not parse datetime: " + stringValue);
-                }
-            }
-
-            if (targetType == java.time.LocalDate.class) {
-                try {
-                    return java.time.LocalDate.parse(stringValue);
-                } catch (Exception e) {
-                    // Try common date formats
-                    java.time.format.DateTimeFormatter[] formatters = {
-                            java.time.format.DateTimeFormatter.ISO_LOCAL_DATE,
-                            java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-                            java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-                            java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy")
-                    };
-                    for (java.time.format.DateTimeFormatter formatter : formatters) {
-                        try {
-                            return java.time.LocalDate.parse(stringValue, formatter);
-                        } catch (Exception ex) {
-                            // Continue to next format
-                        }
-                    }
-                    throw new IllegalArgumentException("Could not parse date: " + stringValue);
-                }
-            }
-
-            // Handle enums with case-insensitive matching
-            if (targetType.isEnum()) {
-                @SuppressWarnings({ "rawtypes" })
-                Class<Enum> enumType = (Class<Enum>) targetType;
-                try {
-                    return Enum.valueOf(enumType, stringValue.toUpperCase());
-                } catch (IllegalArgumentException e) {
-                    // Try case-insensitive search
-                    for (Object enumConstant : targetType.getEnumConstants()) {
-                        if (enumConstant.toString().equalsIgnoreCase(stringValue)) {
-                            return enumConstant;
-                        }
-                    }
-                    throw new IllegalArgumentException("No enum constant " + targetType.getName() + "." + stringValue);
+        String[] parts = fieldName.split("\\.");
+        From<?, ?> from = root;
+        for (int i = 0; i < parts.length - 1; i++) {
+            String part = parts[i];
+            Join<?, ?> existing = null;
+            for (Join<?, ?> join : from.getJoins()) {
+                if (join.getAttribute().getName().equals(part) && join.getJoinType() == JoinType.LEFT) {
+                    existing = join;
+                    break;
                 }
             }
-
-        } catch (Exception e) {
-            log.debug("Failed to convert value '{}' to type {}: {}", stringValue, targetType, e.getMessage());
+            from = existing != null ? existing : from.join(part, JoinType.LEFT);
         }
-
-        return value;
+        return from.get(parts[parts.length - 1]);
     }
 
     /**
@@ -1162,17 +1093,48 @@ public class PredicateManager {
      * @return List of predicates
      */
     public List<Predicate> buildPredicates(TableFetchRequest request, CriteriaBuilder cb, Root<?> root) {
+        return compile(FilterNode.of(request), cb, root);
+    }
+
+    /**
+     * Compile a filter tree into top-level predicates against the given root.
+     * Compiling the same tree against the page query root and the count query root
+     * yields identical restrictions.
+     *
+     * @param filter The filter tree built from the request
+     * @param cb The criteria builder
+     * @param root The root entity
+     * @return List of predicates to be combined with AND
+     */
+    public List<Predicate> compile(FilterNode filter, CriteriaBuilder cb, Root<?> root) {
         List<Predicate> predicates = new ArrayList<>();
-        
-        // Add default filters (e.g., non-deleted status)
-        addDefaultFilters(cb, root, predicates);
-        
-        // Apply request filters
-        applyFilters(request, predicates, cb, root);
-        
-        // Apply search criteria
-        applySearch(request, predicates, cb, root);
-        
+        Map<String, Join<?, ?>> searchJoins = new HashMap<>();
+        if (filter instanceof FilterNode.And and) {
+            for (FilterNode child : and.children()) {
+                compileNode(child, cb, root, searchJoins, predicates);
+            }
+        } else if (filter != null) {
+            compileNode(filter, cb, root, searchJoins, predicates);
+        }
         return predicates;
     }
+
+    private void compileNode(FilterNode node, CriteriaBuilder cb, Root<?> root,
+            Map<String, Join<?, ?>> searchJoins, List<Predicate> predicates) {
+        if (node instanceof FilterNode.And and) {
+            List<Predicate> children = new ArrayList<>();
+            for (FilterNode child : and.children()) {
+                compileNode(child, cb, root, searchJoins, children);
+            }
+            if (!children.isEmpty()) {
+                predicates.add(cb.and(children.toArray(new Predicate[0])));
+            }
+        } else if (node instanceof FilterNode.NotDeleted) {
+            addDefaultFilters(cb, root, predicates);
+        } else if (node instanceof FilterNode.Comparison comparison) {
+            applyFilter(comparison.field(), comparison.operator(), comparison.value(), predicates, cb, root);
+        } else if (node instanceof FilterNode.SearchMatch search) {
+            applySearchField(root, searchJoins, predicates, cb, search.field(), search.value());
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package vn.com.fecredit.app.service.impl.table;
+
+/**
+ * Estimated cost of a table query, see {@link QueryCostEstimator}
+ *
+ * @param joins            distinct association joins the query needs
+ * @param maxJoinDepth     longest chain of joins from the root entity
+ * @param estimatedRows    estimated rows in the root table, -1 without catalog statistics
+ * @param pageSize         requested page size, 0 for all rows
+ * @param unindexedFilters root filters no index can serve
+ * @param score            rows the query is expected to touch, weighted by joins; -1 when
+ *                         the rows are unknown
+ */
+public record QueryCost(
+        int joins,
+        int maxJoinDepth,
+        long estimatedRows,
+        int pageSize,
+        int unindexedFilters,
+        long score) {
+}
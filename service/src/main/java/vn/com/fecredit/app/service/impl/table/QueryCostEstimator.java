@@ -0,0 +1,232 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FilterOperator;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortRequest;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Estimates what a table fetch will cost before it runs.
+ * <p>
+ * The estimate counts the joins the view columns, filters, sorts and related-entity
+ * search need, the rows of the root table (from {@code pg_class} statistics on
+ * PostgreSQL), and the root filters that no index can serve. A filter served by an
+ * index is assumed to keep a tenth of the rows; any filter that needs a scan means the
+ * whole table is read. The score is the rows read plus the rows returned, times one
+ * plus the number of joins.
+ * <p>
+ * Without catalog statistics (other databases, or a table never analyzed) the rows and
+ * the score are unknown, reported as -1: counting the table would cost more than the
+ * query being estimated.
+ */
+@Component
+@Slf4j
+public class QueryCostEstimator {
+
+    /**
+     * Share of rows assumed to pass one indexed filter
+     */
+    private static final double INDEXED_SELECTIVITY = 0.1;
+
+    private final EntityManager entityManager;
+    private final EntityMetadataRegistry metadataRegistry;
+    private final SearchPlanner searchPlanner;
+    private final FullTextSearchIndex fullTextSearchIndex;
+    private final boolean postgres;
+    private final long statsTtlMillis;
+
+    private final Map<Class<?>, RowEstimate> rowEstimates = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<String>> leadingIndexColumns = new ConcurrentHashMap<>();
+
+    public QueryCostEstimator(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+            EntityMetadataRegistry metadataRegistry, SearchPlanner searchPlanner,
+            FullTextSearchIndex fullTextSearchIndex,
+            @Value("${app.table.cost.stats-ttl-seconds:300}") long statsTtlSeconds) {
+        this.entityManager = entityManager;
+        this.metadataRegistry = metadataRegistry;
+        this.searchPlanner = searchPlanner;
+        this.fullTextSearchIndex = fullTextSearchIndex;
+        this.postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.statsTtlMillis = statsTtlSeconds * 1000;
+    }
+
+    /**
+     * Estimate the cost of a fetch
+     *
+     * @param request   The table fetch request
+     * @param rootClass Root entity class
+     * @return The estimated cost
+     */
+    public QueryCost estimate(TableFetchRequest request, Class<?> rootClass) {
+        // Joins: every association prefix of a dotted path, shared between uses
+        List<String> paths = new ArrayList<>();
+        if (request.getViewColumns() != null) {
+            request.getViewColumns().stream().map(ColumnInfo::getFieldName).forEach(paths::add);
+        }
+        if (request.getFilters() != null) {
+            request.getFilters().stream().map(FilterRequest::getField).forEach(paths::add);
+        }
+        if (request.getSorts() != null) {
+            request.getSorts().stream().map(SortRequest::getField).forEach(paths::add);
+        }
+        if (request.getSearch() != null) {
+            for (ObjectType objectType : request.getSearch().keySet()) {
+                String path = metadataRegistry.relationshipPath(rootClass, metadataRegistry.entityClass(objectType));
+                if (path != null && !path.isEmpty()) {
+                    paths.add(path + ".id");
+                }
+            }
+        }
+
+        Set<String> joins = new HashSet<>();
+        int maxJoinDepth = 0;
+        for (String path : paths) {
+            if (path == null) {
+                continue;
+            }
+            String[] parts = path.split("\\.");
+            StringBuilder prefix = new StringBuilder();
+            for (int i = 0; i < parts.length - 1; i++) {
+                prefix.append(i > 0 ? "." : "").append(parts[i]);
+                joins.add(prefix.toString());
+            }
+            maxJoinDepth = Math.max(maxJoinDepth, parts.length - 1);
+        }
+
+        // Rows read: indexed filters narrow the table, any unindexed filter scans it
+        int indexedFilters = 0;
+        int unindexedFilters = 0;
+        if (request.getFilters() != null) {
+            for (FilterRequest filter : request.getFilters()) {
+                if (filter.getField() == null || filter.getOperator() == null || filter.getField().contains(".")) {
+                    continue;
+                }
+                if (isIndexed(rootClass, filter.getField(), filter.getOperator())) {
+                    indexedFilters++;
+                } else {
+                    unindexedFilters++;
+                }
+            }
+        }
+
+        long estimatedRows = estimatedRows(rootClass);
+        int pageSize = Math.max(0, request.getSize());
+        if (estimatedRows < 0) {
+            return new QueryCost(joins.size(), maxJoinDepth, -1, pageSize, unindexedFilters, -1);
+        }
+        double rowsRead = unindexedFilters > 0
+                ? estimatedRows
+                : estimatedRows * Math.pow(INDEXED_SELECTIVITY, indexedFilters);
+        long readRows = pageSize > 0 ? Math.max((long) rowsRead, Math.min(pageSize, estimatedRows)) : estimatedRows;
+        long score = (readRows + pageSize) * (1 + joins.size());
+
+        return new QueryCost(joins.size(), maxJoinDepth, estimatedRows, pageSize, unindexedFilters, score);
+    }
+
+    private boolean isIndexed(Class<?> rootClass, String field, FilterOperator operator) {
+        if ("id".equals(field)) {
+            return true;
+        }
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(rootClass);
+        EntityMetadataRegistry.AttributeMetadata attribute = metadata != null ? metadata.attribute(field) : null;
+        if (attribute == null) {
+            return false;
+        }
+
+        switch (operator) {
+            case CONTAINS, ENDS_WITH:
+                return fullTextSearchIndex.isReady() && fullTextSearchIndex.isIndexed(rootClass, field);
+            case NE, NOT_NULL, NOT_IN:
+                return false;
+            default:
+                break;
+        }
+        if (attribute.javaType() == String.class) {
+            // String filters compare lower(column), which only a shadow column can serve
+            return searchPlanner.shadowFor(rootClass, field, operator) != null;
+        }
+
+        String column = attribute.columnName() != null ? attribute.columnName() : snakeCase(field);
+        return leadingIndexColumns.computeIfAbsent(rootClass, this::findLeadingIndexColumns).contains(column);
+    }
+
+    private Set<String> findLeadingIndexColumns(Class<?> entityClass) {
+        Set<String> columns = new HashSet<>();
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            Table table = type.getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+            for (Index index : table.indexes()) {
+                String leading = index.columnList().split(",")[0].trim().split("\\s+")[0];
+                columns.add(leading.toLowerCase(Locale.ROOT));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Rows of the root table from the catalog statistics, or -1 if there are none
+     */
+    private long estimatedRows(Class<?> rootClass) {
+        if (!postgres) {
+            return -1;
+        }
+        RowEstimate cached = rowEstimates.get(rootClass);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.rows();
+        }
+
+        long rows = -1;
+        try {
+            rows = planStatistics(rootClass);
+        } catch (RuntimeException e) {
+            log.warn("Could not read row statistics of {}: {}", rootClass.getSimpleName(), e.getMessage());
+        }
+        rowEstimates.put(rootClass, new RowEstimate(rows, System.currentTimeMillis() + statsTtlMillis));
+        return rows;
+    }
+
+    /**
+     * Row estimate the PostgreSQL planner keeps; negative if the table was never analyzed
+     */
+    private long planStatistics(Class<?> rootClass) {
+        EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(rootClass);
+        if (metadata == null || metadata.tableName() == null) {
+            return -1;
+        }
+        List<?> result = entityManager
+                .createNativeQuery("select cast(reltuples as bigint) from pg_class where relname = :table")
+                .setParameter("table", metadata.tableName())
+                .getResultList();
+        return result.isEmpty() ? -1 : ((Number) result.get(0)).longValue();
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private record RowEstimate(long rows, long expiresAt) {
+    }
+}
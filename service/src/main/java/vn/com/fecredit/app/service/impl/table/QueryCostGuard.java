@@ -0,0 +1,165 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.exception.QueryRejectedException;
+
+/**
+ * Admission control for table queries, based on {@link QueryCostEstimator}.
+ * <p>
+ * Every lane rejects queries with too many or too deep joins. Interactive fetches are
+ * also limited in page size and score; over-budget fetches are rejected with a hint to
+ * use the export action, which runs in the background lane. Queries scoring above
+ * {@code app.table.cost.heavy-score} need one of {@code app.table.cost.max-heavy-concurrent}
+ * permits: interactive and streaming queries are rejected when none is free, exports
+ * wait for one. Heavy admin queries therefore cannot take every pooled connection
+ * from spin traffic. Fetches made while the same thread holds a permit, such as the
+ * pages of an export, run under that permit and its lane. Without catalog statistics
+ * the score is unknown, and only the join and page size limits apply.
+ */
+@Component
+@Slf4j
+public class QueryCostGuard {
+
+    /**
+     * Endpoint class a query is run for
+     */
+    public enum Lane {
+        /** Paged fetches and batch fetches */
+        INTERACTIVE,
+        /** Streamed fetches */
+        STREAM,
+        /** Background exports */
+        EXPORT
+    }
+
+    /**
+     * Held while an admitted query runs
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Permit NESTED = () -> {
+    };
+
+    private final QueryCostEstimator estimator;
+    private final int maxJoins;
+    private final int maxJoinDepth;
+    private final int maxPageSize;
+    private final long maxInteractiveScore;
+    private final long maxStreamScore;
+    private final long heavyScore;
+    private final Semaphore heavyPermits;
+
+    private final ThreadLocal<Lane> activeLane = new ThreadLocal<>();
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong heavy = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public QueryCostGuard(QueryCostEstimator estimator,
+            @Value("${app.table.cost.max-joins:6}") int maxJoins,
+            @Value("${app.table.cost.max-join-depth:3}") int maxJoinDepth,
+            @Value("${app.table.cost.max-page-size:1000}") int maxPageSize,
+            @Value("${app.table.cost.max-interactive-score:5000000}") long maxInteractiveScore,
+            @Value("${app.table.cost.max-stream-score:50000000}") long maxStreamScore,
+            @Value("${app.table.cost.heavy-score:500000}") long heavyScore,
+            @Value("${app.table.cost.max-heavy-concurrent:2}") int maxHeavyConcurrent) {
+        this.estimator = estimator;
+        this.maxJoins = maxJoins;
+        this.maxJoinDepth = maxJoinDepth;
+        this.maxPageSize = maxPageSize;
+        this.maxInteractiveScore = maxInteractiveScore;
+        this.maxStreamScore = maxStreamScore;
+        this.heavyScore = heavyScore;
+        this.heavyPermits = new Semaphore(Math.max(1, maxHeavyConcurrent));
+    }
+
+    /**
+     * Admit a query or reject it
+     *
+     * @param request   The table fetch request
+     * @param rootClass Root entity class
+     * @param lane      Endpoint class the query runs for
+     * @return Permit to close when the query has finished
+     * @throws QueryRejectedException if the query is over budget or no heavy permit is free
+     */
+    public Permit admit(TableFetchRequest request, Class<?> rootClass, Lane lane) {
+        Lane outer = activeLane.get();
+        if (outer != null) {
+            lane = outer;
+        }
+        QueryCost cost = estimator.estimate(request, rootClass);
+
+        if (cost.joins() > maxJoins || cost.maxJoinDepth() > maxJoinDepth) {
+            throw reject(cost, "Query needs " + cost.joins() + " joins up to " + cost.maxJoinDepth()
+                    + " levels deep; at most " + maxJoins + " joins and " + maxJoinDepth + " levels are allowed");
+        }
+        if (lane == Lane.INTERACTIVE && cost.pageSize() > maxPageSize) {
+            throw reject(cost, "Page size " + cost.pageSize() + " exceeds " + maxPageSize
+                    + "; use cursor pagination or export");
+        }
+        long maxScore = switch (lane) {
+            case INTERACTIVE -> maxInteractiveScore;
+            case STREAM -> maxStreamScore;
+            case EXPORT -> Long.MAX_VALUE;
+        };
+        if (cost.score() > maxScore) {
+            throw reject(cost, "Query is too expensive to " + (lane == Lane.STREAM ? "stream" : "run interactively")
+                    + "; add indexed filters or use export");
+        }
+
+        if (outer != null) {
+            return NESTED;
+        }
+
+        boolean heavyQuery = cost.score() >= heavyScore;
+        if (heavyQuery) {
+            if (lane == Lane.EXPORT) {
+                heavyPermits.acquireUninterruptibly();
+            } else if (!heavyPermits.tryAcquire()) {
+                throw reject(cost, "Too many expensive queries are running; try again shortly");
+            }
+            heavy.incrementAndGet();
+            log.info("Admitted heavy {} query on {}: {}", lane, rootClass.getSimpleName(), cost);
+        }
+        admitted.incrementAndGet();
+
+        activeLane.set(lane);
+        return () -> {
+            activeLane.remove();
+            if (heavyQuery) {
+                heavyPermits.release();
+            }
+        };
+    }
+
+    /**
+     * Get admission statistics
+     *
+     * @return Map of admitted, heavy and rejected query counts and free heavy permits
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("admitted", admitted.get());
+        stats.put("heavy", heavy.get());
+        stats.put("rejected", rejected.get());
+        stats.put("heavyPermitsAvailable", heavyPermits.availablePermits());
+        return stats;
+    }
+
+    private QueryRejectedException reject(QueryCost cost, String message) {
+        rejected.incrementAndGet();
+        log.warn("Rejected query: {} ({})", message, cost);
+        return new QueryRejectedException(message);
+    }
+}
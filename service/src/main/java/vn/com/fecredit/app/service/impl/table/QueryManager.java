@@ -1,12 +1,13 @@
 package vn.com.fecredit.app.service.impl.table;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +16,7 @@ import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
@@ -23,6 +25,7 @@ import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
 import vn.com.fecredit.app.service.dto.ColumnInfo;
 import vn.com.fecredit.app.service.dto.ObjectType;
 import vn.com.fecredit.app.service.dto.SortRequest;
@@ -36,7 +39,6 @@ import vn.com.fecredit.app.service.dto.TableFetchRequest;
  * - QueryHandler
  * - QueryBuilder
  * - CriteriaQueryBuilder
- * - CountQueryExecutor
  */
 @Component
 @RequiredArgsConstructor
@@ -47,6 +49,12 @@ public class QueryManager {
     private final PaginationHelper paginationHelper;
     private final PredicateManager predicateManager;
     private final JoinManager joinManager;
+    private final EntityMetadataRegistry metadataRegistry;
+
+    /**
+     * Largest page fetched in two phases; the ids of a page are bound as an IN list
+     */
+    static final int MAX_TWO_PHASE_IDS = 1000;
 
     /**
      * Builds a criteria query with all necessary filters, joins, and selections
@@ -56,6 +64,19 @@ public class QueryManager {
      * @return The built criteria query
      */
     public CriteriaQuery<Tuple> buildCriteriaQuery(TableFetchRequest request, Class<?> rootEntityClass) {
+        return request == null ? null : buildCriteriaQuery(request, rootEntityClass, FilterNode.of(request));
+    }
+
+    /**
+     * Builds a criteria query whose restrictions are compiled from a filter tree
+     *
+     * @param request The table fetch request containing columns, sorts and pagination
+     * @param rootEntityClass The entity class to build the query from
+     * @param filter The filter tree built from the request
+     * @return The built criteria query
+     */
+    public CriteriaQuery<Tuple> buildCriteriaQuery(TableFetchRequest request, Class<?> rootEntityClass,
+            FilterNode filter) {
         if (request == null || rootEntityClass == null) {
             log.error("Cannot build criteria query with null request or root entity class");
             return null;
@@ -83,7 +104,7 @@ public class QueryManager {
             }
 
             // Apply predicates
-            List<Predicate> predicates = predicateManager.buildPredicates(request, cb, root);
+            List<Predicate> predicates = predicateManager.compile(filter, cb, root);
             if (!predicates.isEmpty()) {
                 query.where(predicates.toArray(new Predicate[0]));
             }
@@ -113,6 +134,19 @@ public class QueryManager {
      * @return List of tuple results with pagination applied
      */
     public List<Tuple> executeQueryWithPagination(CriteriaQuery<Tuple> query, TableFetchRequest request) {
+        return executeQueryWithPagination(query, request, 0);
+    }
+
+    /**
+     * Executes a query with pagination applied, reading extra rows past the page.
+     * Reading one extra row tells whether a next page exists without counting.
+     *
+     * @param query The criteria query to execute
+     * @param request The table fetch request containing pagination info
+     * @param lookahead Number of rows to read beyond the page size
+     * @return List of tuple results, up to page size plus lookahead
+     */
+    public List<Tuple> executeQueryWithPagination(CriteriaQuery<Tuple> query, TableFetchRequest request, int lookahead) {
         try {
             Pageable pageable = paginationHelper.createPageable(request);
 
@@ -136,7 +170,7 @@ public class QueryManager {
             // Get a typed query and apply pagination
             TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
                     .setFirstResult(firstResult)
-                    .setMaxResults(maxResults);
+                    .setMaxResults(maxResults + Math.max(0, lookahead));
 
             // Execute the query with timeout
             typedQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
@@ -156,47 +190,357 @@ public class QueryManager {
     }
     
     /**
-     * Counts the total number of records that match the criteria
+     * Executes a page of a joined query in two phases: first the distinct root ids of the
+     * page, with filters, sorts and pagination applied, then the view columns of exactly
+     * those ids. Pages are exact even when a one-to-many join repeats a root, and the
+     * database sorts ids instead of wide joined rows. Queries without joins, and pages
+     * larger than {@value #MAX_TWO_PHASE_IDS} rows, run as a single query.
      *
-     * @param query The data query whose structure should be used for counting
+     * @param query The criteria query built from the request and filter tree
+     * @param request The table fetch request containing pagination info
+     * @param rootEntityClass The entity class the query selects from
+     * @param filter The filter tree the query was built from
+     * @param lookahead Number of rows to read beyond the page size
+     * @return List of tuple results in page order, one per root entity
+     */
+    public List<Tuple> executePage(CriteriaQuery<Tuple> query, TableFetchRequest request,
+            Class<?> rootEntityClass, FilterNode filter, int lookahead) {
+        Root<?> queryRoot = query.getRoots().isEmpty() ? null : query.getRoots().iterator().next();
+        int size = request.getSize();
+        if (queryRoot == null || queryRoot.getJoins().isEmpty() || size <= 0 || size > MAX_TWO_PHASE_IDS) {
+            return executeQueryWithPagination(query, request, lookahead);
+        }
+
+        try {
+            List<Object> ids = selectPageIds(request, rootEntityClass, filter,
+                    Math.max(0, request.getPage()) * size, size + Math.max(0, lookahead));
+            if (ids.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            // Hydrate the page: same selections, joins and filters, restricted to the ids
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Tuple> hydrateQuery = buildCriteriaQuery(request, rootEntityClass, filter);
+            Root<?> root = hydrateQuery.getRoots().iterator().next();
+            Predicate restriction = hydrateQuery.getRestriction();
+            Predicate inPage = root.get("id").in(ids);
+            hydrateQuery.where(restriction != null ? cb.and(restriction, inPage) : inPage);
+            hydrateQuery.orderBy(Collections.emptyList());
+
+            TypedQuery<Tuple> typedQuery = entityManager.createQuery(hydrateQuery);
+            typedQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+            List<Tuple> results = inIdOrder(ids, typedQuery.getResultList());
+
+            log.info("Two-phase query executed successfully, returning {} results", results.size());
+            return results;
+        } catch (Exception e) {
+            log.error("Error executing two-phase query: {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Keep the first row of each root and restore the order of the page ids
+     */
+    private static List<Tuple> inIdOrder(List<Object> ids, List<Tuple> tuples) {
+        Map<Object, Tuple> byId = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            byId.putIfAbsent(tuple.get("id"), tuple);
+        }
+        List<Tuple> results = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Tuple tuple = byId.get(id);
+            if (tuple != null) {
+                results.add(tuple);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Selects the distinct root ids of a page. Sorting by a joined column that repeats
+     * per root uses its lowest value ascending and its highest value descending; the id
+     * breaks ties so pages do not overlap.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<Object> selectPageIds(TableFetchRequest request, Class<?> rootEntityClass, FilterNode filter,
+            int firstResult, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> idQuery = cb.createQuery(Object.class);
+        Root<?> root = idQuery.from(rootEntityClass);
+
+        // Same joins as the page query, so inner joins restrict the ids the same way
+        Map<String, Join<?, ?>> joinMap = joinManager.createJoinsFromSearchMapAndViewColumns(
+                request.getSearch(), request.getViewColumns(), root);
+
+        List<Predicate> predicates = predicateManager.compile(filter, cb, root);
+        if (!predicates.isEmpty()) {
+            idQuery.where(predicates.toArray(new Predicate[0]));
+        }
+
+        Path<Object> idPath = root.get("id");
+        List<Order> orders = new ArrayList<>();
+        if (request.getSorts() != null) {
+            for (SortRequest sortRequest : request.getSorts()) {
+                String fieldName = sortRequest.getField();
+                if (fieldName == null || fieldName.isEmpty() || "id".equals(fieldName)) {
+                    continue;
+                }
+                Path<?> path = safelyResolvePath(fieldName, root, joinMap);
+                if (path == null) {
+                    continue;
+                }
+                Expression<Comparable> key = (Expression<Comparable>) path;
+                orders.add(sortRequest.getSortType() == SortType.DESCENDING
+                        ? cb.desc(cb.greatest(key))
+                        : cb.asc(cb.least(key)));
+            }
+        }
+        boolean idDescending = request.getSorts() != null && request.getSorts().stream()
+                .anyMatch(sort -> "id".equals(sort.getField()) && sort.getSortType() == SortType.DESCENDING);
+        orders.add(idDescending ? cb.desc(idPath) : cb.asc(idPath));
+
+        idQuery.select(idPath).groupBy(idPath).orderBy(orders);
+
+        TypedQuery<Object> typedQuery = entityManager.createQuery(idQuery)
+                .setFirstResult(Math.max(0, firstResult))
+                .setMaxResults(maxResults);
+        typedQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Opens a forward-only, read-only scroll over a query so rows can be written out as the
+     * driver delivers them instead of being collected into a list. The page offset applies as
+     * usual; a size of zero or less reads to the end of the result.
+     *
+     * @param query The criteria query to execute
+     * @param request The table fetch request containing pagination info
+     * @param fetchSize JDBC fetch size, the number of rows held per round trip
+     * @return The open scroll; the caller must close it
+     */
+    @SuppressWarnings("unchecked")
+    public ScrollableResults<Tuple> scrollQuery(CriteriaQuery<Tuple> query, TableFetchRequest request, int fetchSize) {
+        query.distinct(true);
+
+        Query<Tuple> hibernateQuery = entityManager.createQuery(query).unwrap(Query.class);
+        if (request.getSize() > 0) {
+            hibernateQuery.setFirstResult(Math.max(0, request.getPage()) * request.getSize());
+            hibernateQuery.setMaxResults(request.getSize());
+        }
+        hibernateQuery.setFetchSize(fetchSize);
+        hibernateQuery.setReadOnly(true);
+        hibernateQuery.setTimeout(300); // seconds; large exports take longer than a page
+
+        return hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    /**
+     * Executes a query with keyset (seek) pagination. The cursor from the previous page
+     * becomes a {@code WHERE (sort keys, id) > (cursor values)} restriction, so the database
+     * never skips rows regardless of how deep the page is. One extra row is read to tell
+     * whether another page follows.
+     *
+     * @param query The criteria query built in cursor mode
+     * @param request The table fetch request containing the cursor and page size
+     * @return The page of tuples and the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is invalid or a sort key cannot be selected
+     */
+    public KeysetPage<Tuple> executeQueryWithKeyset(CriteriaQuery<Tuple> query, TableFetchRequest request) {
+        int size = paginationHelper.normalizePageableParams(0, request.getSize())[1];
+        List<SortRequest> keys = paginationHelper.keysetSorts(request);
+
+        // Sort keys are selected under their field alias, see addKeysetSelections
+        Map<String, Expression<?>> selectedByAlias = new HashMap<>();
+        Selection<?> selectionRoot = query.getSelection();
+        List<Selection<?>> items = selectionRoot.isCompoundSelection()
+                ? selectionRoot.getCompoundSelectionItems()
+                : List.of(selectionRoot);
+        for (Selection<?> selection : items) {
+            if (selection.getAlias() != null && selection instanceof Expression<?> expression) {
+                selectedByAlias.put(selection.getAlias(), expression);
+            }
+        }
+
+        List<String> aliases = new ArrayList<>(keys.size());
+        List<Expression<?>> keyExpressions = new ArrayList<>(keys.size());
+        List<Boolean> descending = new ArrayList<>(keys.size());
+        for (SortRequest key : keys) {
+            String alias = key.getField().replace(".", "_");
+            Expression<?> expression = selectedByAlias.get(alias);
+            if (expression == null) {
+                throw new IllegalArgumentException("Cannot use field for cursor pagination: " + key.getField());
+            }
+            aliases.add(alias);
+            keyExpressions.add(expression);
+            descending.add(key.getSortType() == SortType.DESCENDING);
+        }
+
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            List<String> values = KeysetCursor.decode(request.getCursor(), keys.size());
+            Predicate seek = predicateManager.buildKeysetPredicate(cb, keyExpressions, descending, values);
+            Predicate restriction = query.getRestriction();
+            query.where(restriction != null ? cb.and(restriction, seek) : seek);
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query)
+                .setMaxResults(size + 1);
+        typedQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+        List<Tuple> results = typedQuery.getResultList();
+
+        boolean hasNext = results.size() > size;
+        List<Tuple> rows = hasNext ? results.subList(0, size) : results;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            List<Object> values = new ArrayList<>(aliases.size());
+            for (String alias : aliases) {
+                values.add(last.get(alias));
+            }
+            nextCursor = KeysetCursor.encode(values);
+        }
+
+        log.info("Keyset query returned {} results, hasNext={}", rows.size(), hasNext);
+        return new KeysetPage<>(rows, nextCursor, hasNext);
+    }
+
+    /**
+     * Counts the total number of records that match the criteria. The count query gets
+     * the same joins as the page query and its restrictions are compiled from the same
+     * filter tree, so both agree without copying predicates between queries.
+     *
+     * @param request The table fetch request
+     * @param rootEntityClass The entity class being counted
+     * @param filter The filter tree built from the request
      * @return The total count of matching records
      */
-    public long countTotalRecords(CriteriaQuery<Tuple> query) {
+    public long countTotalRecords(TableFetchRequest request, Class<?> rootEntityClass, FilterNode filter) {
         try {
-            log.debug("Creating count query from original query");
             CriteriaBuilder cb = entityManager.getCriteriaBuilder();
             CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<?> countRoot = countQuery.from(rootEntityClass);
 
-            // Get the root from original query and create corresponding root for count query
-            Root<?> originalRoot = query.getRoots().iterator().next();
-            Root<?> countRoot = countQuery.from(originalRoot.getJavaType());
-            
-            // Copy all joins from original query to count query
-            Map<String, Join<?, ?>> joinMap = joinManager.copyJoins(originalRoot, countRoot);
-            
-            // Copy restrictions from original query
-            Predicate originalRestriction = query.getRestriction();
-            if (originalRestriction != null) {
-                // Copy the predicate to work with the new root and joins
-                Predicate copiedPredicate = predicateManager.copyPredicate(originalRestriction, cb, countRoot, joinMap);
-                countQuery.where(copiedPredicate);
+            // Same joins as the page query, so inner joins restrict the count the same way
+            joinManager.createJoinsFromSearchMapAndViewColumns(
+                    request.getSearch(), request.getViewColumns(), countRoot);
+
+            List<Predicate> predicates = predicateManager.compile(filter, cb, countRoot);
+            if (!predicates.isEmpty()) {
+                countQuery.where(predicates.toArray(new Predicate[0]));
             }
-            
-            // Set count selection with distinct if the original query was distinct
-            countQuery.select(query.isDistinct() 
-                ? cb.countDistinct(countRoot)
-                : cb.count(countRoot));
-            
-            // Execute count query
+
+            // Count distinct roots, matching the distinct page query
+            countQuery.select("Event".equals(rootEntityClass.getSimpleName())
+                    ? cb.countDistinct(countRoot.get("id"))
+                    : cb.countDistinct(countRoot));
+
             Long result = entityManager.createQuery(countQuery).getSingleResult();
             return result != null ? result : 0L;
-            
+
         } catch (Exception e) {
             log.error("Error executing count query: {}", e.getMessage(), e);
             return 0L;
         }
     }
-    
+
+    /**
+     * Executes a compiled query plan with pagination applied. Plans with joins read the
+     * page in two phases like {@link #executePage}: the page ids, then their rows.
+     *
+     * @param plan The compiled plan for the request's shape
+     * @param request The table fetch request supplying filter values and pagination
+     * @param lookahead Number of rows to read beyond the page size
+     * @return List of tuple results, up to page size plus lookahead
+     */
+    public List<Tuple> executePlan(QueryPlan plan, TableFetchRequest request, int lookahead) {
+        try {
+            Pageable pageable = paginationHelper.createPageable(request);
+            int firstResult = Math.max(0, (int) pageable.getOffset());
+            int maxResults = pageable.getPageSize() > 0 ? pageable.getPageSize() : 10;
+
+            if (plan.pageIdsHql() != null && maxResults <= MAX_TWO_PHASE_IDS) {
+                TypedQuery<Object> idQuery = entityManager.createQuery(plan.pageIdsHql(), Object.class)
+                        .setFirstResult(firstResult)
+                        .setMaxResults(maxResults + Math.max(0, lookahead));
+                bindPlan(idQuery, plan, request);
+                idQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+                List<Object> ids = idQuery.getResultList();
+                if (ids.isEmpty()) {
+                    return Collections.emptyList();
+                }
+
+                TypedQuery<Tuple> hydrateQuery = entityManager.createQuery(plan.hydrateHql(), Tuple.class);
+                bindPlan(hydrateQuery, plan, request);
+                hydrateQuery.setParameter(QueryPlan.PAGE_IDS_PARAM, ids);
+                hydrateQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+                List<Tuple> results = inIdOrder(ids, hydrateQuery.getResultList());
+
+                log.info("Two-phase plan query executed successfully, returning {} results", results.size());
+                return results;
+            }
+
+            TypedQuery<Tuple> typedQuery = entityManager.createQuery(plan.selectHql(), Tuple.class)
+                    .setFirstResult(firstResult)
+                    .setMaxResults(maxResults + Math.max(0, lookahead));
+            bindPlan(typedQuery, plan, request);
+            typedQuery.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+            List<Tuple> results = typedQuery.getResultList();
+
+            if (request.getObjectType() != null && request.getObjectType() == ObjectType.Event) {
+                results = deduplicateResults(results);
+            }
+
+            log.info("Plan query executed successfully, returning {} results", results.size());
+            return results;
+        } catch (Exception e) {
+            log.error("Error executing query plan: {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Counts the records matching a compiled query plan
+     *
+     * @param plan The compiled plan for the request's shape
+     * @param request The table fetch request supplying filter values
+     * @return The total count of matching records
+     */
+    public long countPlan(QueryPlan plan, TableFetchRequest request) {
+        try {
+            TypedQuery<Long> countQuery = entityManager.createQuery(plan.countHql(), Long.class);
+            bindPlan(countQuery, plan, request);
+            Long result = countQuery.getSingleResult();
+            return result != null ? result : 0L;
+        } catch (Exception e) {
+            log.error("Error executing plan count query: {}", e.getMessage(), e);
+            return 0L;
+        }
+    }
+
+    /**
+     * Binds the status and filter values of a request to the plan's named parameters
+     */
+    private void bindPlan(TypedQuery<?> query, QueryPlan plan, TableFetchRequest request) {
+        if (plan.statusParam() != null) {
+            query.setParameter(plan.statusParam(), plan.statusValue());
+        }
+        for (QueryPlan.Binding binding : plan.bindings()) {
+            Object value = request.getFilters().get(binding.filterIndex()).getValue();
+            Object bound = switch (binding.kind()) {
+                case VALUE -> predicateManager.convertValue(value, binding.targetType());
+                case LOWER -> value.toString().toLowerCase();
+                case CONTAINS -> "%" + value.toString().toLowerCase() + "%";
+                case STARTS_WITH -> value.toString().toLowerCase() + "%";
+                case ENDS_WITH -> "%" + value.toString().toLowerCase();
+                case NORMALIZED -> SearchNormalizer.normalize(value.toString());
+                case NORMALIZED_PREFIX -> SearchNormalizer.prefixPattern(SearchNormalizer.normalize(value.toString()));
+            };
+            query.setParameter(binding.parameter(), bound);
+        }
+    }
+
     /**
      * Create selections from the provided view columns
      */
@@ -222,6 +566,11 @@ public class QueryManager {
             }
         }
         
+        // Keyset pagination reads the sort keys of the last row, so they must be selected
+        if (request.isCursorMode()) {
+            addKeysetSelections(request, root, joinMap, selections);
+        }
+
         // If no columns specified, return just ID
         if (viewColumns == null || viewColumns.isEmpty()) {
             return selections;
@@ -267,6 +616,31 @@ public class QueryManager {
         return selections;
     }
     
+    /**
+     * Adds selections for keyset sort keys that are not already selected as view columns
+     */
+    private void addKeysetSelections(
+            TableFetchRequest request,
+            Root<?> root,
+            Map<String, Join<?, ?>> joinMap,
+            List<Selection<?>> selections) {
+
+        List<ColumnInfo> viewColumns = request.getViewColumns();
+        for (SortRequest key : paginationHelper.keysetSorts(request)) {
+            String fieldName = key.getField();
+            boolean selected = "id".equals(fieldName) || (viewColumns != null && viewColumns.stream()
+                    .anyMatch(col -> fieldName.equals(col.getFieldName())));
+            if (selected) {
+                continue;
+            }
+
+            Path<?> path = safelyResolvePath(fieldName, root, joinMap);
+            if (path != null) {
+                selections.add(path.alias(fieldName.replace(".", "_")));
+            }
+        }
+    }
+
     /**
      * Creates ordering (ORDER BY) clauses based on sort requests
      */
@@ -277,7 +651,9 @@ public class QueryManager {
             Map<String, Join<?, ?>> joinMap) {
         
         List<Order> orders = new ArrayList<>();
-        List<SortRequest> sortRequests = request.getSorts();
+        List<SortRequest> sortRequests = request.isCursorMode()
+                ? paginationHelper.keysetSorts(request)
+                : request.getSorts();
         
         if (sortRequests == null || sortRequests.isEmpty()) {
             // Default sort by ID if available
@@ -302,7 +678,10 @@ public class QueryManager {
                 
                 if (path != null) {
                     SortType sortType = sortRequest.getSortType();
-                    if (sortType == SortType.DESCENDING) {
+                    if (request.isCursorMode()) {
+                        // Same null precedence as the seek predicate
+                        orders.add(predicateManager.keysetOrder(cb, path, sortType == SortType.DESCENDING));
+                    } else if (sortType == SortType.DESCENDING) {
                         orders.add(cb.desc(path));
                     } else {
                         orders.add(cb.asc(path));
@@ -395,7 +774,8 @@ public class QueryManager {
     }
 
     /**
-     * Safely resolves a path from a field name, handling nested properties better
+     * Safely resolves a path from a field name, handling nested properties better.
+     * Attribute types come from {@link EntityMetadataRegistry}, so no reflection runs per request.
      * 
      * @param fieldName The field name to resolve
      * @param root The root entity
@@ -418,45 +798,19 @@ public class QueryManager {
             
             // Check if path ends with a basic attribute, not an entity
             boolean endsWithBasicAttribute = true;
-            try {
-                Class<?> rootClass = root.getJavaType();
-                Class<?> currentClass = rootClass;
-                
-                // Navigate through the path to find the type of the last segment
-                for (int i = 0; i < parts.length - 1; i++) {
-                    Field field = findField(currentClass, parts[i]);
-                    if (field == null) {
-                        break;
-                    }
-                    
-                    Class<?> fieldType = field.getType();
-                    
-                    // If it's a collection, get the generic type
-                    if (java.util.Collection.class.isAssignableFrom(fieldType)) {
-                        java.lang.reflect.Type genericType = field.getGenericType();
-                        if (genericType instanceof ParameterizedType) {
-                            ParameterizedType paramType = (ParameterizedType) genericType;
-                            java.lang.reflect.Type[] typeArgs = paramType.getActualTypeArguments();
-                            if (typeArgs != null && typeArgs.length > 0) {
-                                fieldType = (Class<?>) typeArgs[0];
-                            }
-                        }
-                    }
-                    
-                    currentClass = fieldType;
-                }
-                
-                // Check if the last part is a basic attribute or an entity
-                Field lastField = findField(currentClass, parts[parts.length - 1]);
-                if (lastField != null) {
-                    Class<?> lastFieldType = lastField.getType();
-                    endsWithBasicAttribute = !lastFieldType.isAnnotationPresent(jakarta.persistence.Entity.class) && 
-                                           !java.util.Collection.class.isAssignableFrom(lastFieldType);
-                }
-            } catch (Exception e) {
-                log.debug("Error determining if path ends with basic attribute: {}", e.getMessage());
-                // Default to true if we can't determine
-                endsWithBasicAttribute = true;
+            Class<?> currentClass = root.getJavaType();
+            for (int i = 0; i < parts.length - 1 && currentClass != null; i++) {
+                EntityMetadataRegistry.EntityMetadata metadata = metadataRegistry.get(currentClass);
+                EntityMetadataRegistry.AttributeMetadata attribute = metadata != null ? metadata.attribute(parts[i]) : null;
+                // Element type for collections
+                currentClass = attribute != null ? attribute.targetType() : null;
+            }
+            EntityMetadataRegistry.EntityMetadata owner = metadataRegistry.get(currentClass);
+            EntityMetadataRegistry.AttributeMetadata lastAttribute = owner != null
+                    ? owner.attribute(parts[parts.length - 1])
+                    : null;
+            if (lastAttribute != null) {
+                endsWithBasicAttribute = !lastAttribute.association() && !lastAttribute.collection();
             }
             
             // Find the appropriate join for the path
@@ -567,23 +921,4 @@ public class QueryManager {
             return null;
         }
     }
-    
-    /**
-     * Find a field in a class by name, handling inheritance
-     */
-    private Field findField(Class<?> clazz, String fieldName) {
-        if (clazz == null || fieldName == null) {
-            return null;
-        }
-        
-        try {
-            return clazz.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            // Try superclass if exists
-            if (clazz.getSuperclass() != null && clazz.getSuperclass() != Object.class) {
-                return findField(clazz.getSuperclass(), fieldName);
-            }
-            return null;
-        }
-    }
 }
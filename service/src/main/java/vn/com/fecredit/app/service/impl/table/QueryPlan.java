@@ -0,0 +1,66 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.List;
+
+/**
+ * Compiled query plan for one request shape.
+ * <p>
+ * Holds the HQL for the page and count queries with named parameters, plus how to
+ * turn each filter value of a request with this shape into its parameter. Plans are
+ * immutable and shared across requests; only the bound values differ.
+ *
+ * @param selectHql   page query returning tuples aliased like the criteria builder does
+ * @param countHql    count query with the same joins and restrictions
+ * @param pageIdsHql  query for the distinct root ids of a page, in page order, or null when
+ *                    the plan has no joins and pages can be read in one query
+ * @param hydrateHql  the page query without ordering, restricted to the ids bound to
+ *                    {@value #PAGE_IDS_PARAM}; null when pageIdsHql is
+ * @param statusParam name of the default status parameter, or null if the entity has no status
+ * @param statusValue value bound to the status parameter
+ * @param bindings    filter parameters, in filter order
+ */
+public record QueryPlan(
+        String selectHql,
+        String countHql,
+        String pageIdsHql,
+        String hydrateHql,
+        String statusParam,
+        Object statusValue,
+        List<Binding> bindings) {
+
+    /**
+     * Name of the parameter the hydrate query takes the page ids from
+     */
+    public static final String PAGE_IDS_PARAM = "pageIds";
+
+    /**
+     * How a filter value is turned into a parameter value
+     */
+    public enum BindingKind {
+        /** Converted to the attribute type */
+        VALUE,
+        /** Lower-cased string */
+        LOWER,
+        /** Lower-cased string wrapped as {@code %value%} */
+        CONTAINS,
+        /** Lower-cased string suffixed with {@code %} */
+        STARTS_WITH,
+        /** Lower-cased string prefixed with {@code %} */
+        ENDS_WITH,
+        /** String normalized for a shadow column */
+        NORMALIZED,
+        /** Escaped LIKE pattern of a prefix lookup on a shadow column */
+        NORMALIZED_PREFIX
+    }
+
+    /**
+     * One named parameter fed from a request filter
+     *
+     * @param parameter   parameter name in the HQL
+     * @param filterIndex index of the filter in the request
+     * @param kind        how to derive the bound value
+     * @param targetType  attribute type the value is converted to
+     */
+    public record Binding(String parameter, int filterIndex, BindingKind kind, Class<?> targetType) {
+    }
+}
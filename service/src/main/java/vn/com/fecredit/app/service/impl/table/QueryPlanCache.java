@@ -0,0 +1,123 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.SortRequest;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Caches compiled query plans by request shape.
+ * <p>
+ * The shape is the object type, root entity, view columns, filter fields and operators
+ * (plus whether the value is null, which changes the predicate) and sort fields with
+ * direction. Requests with the same shape reuse the same HQL and only bind values.
+ * Shapes the compiler rejects are cached too, so they go straight to the criteria builder.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanCache {
+
+    private static final int MAX_PLANS = 1000;
+
+    private final QueryPlanCompiler compiler;
+
+    private final Map<String, Optional<QueryPlan>> plans = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bypassed = new AtomicLong();
+
+    /**
+     * Get the plan for the request's shape, compiling it on first use
+     *
+     * @param request     The table fetch request
+     * @param entityClass Root entity class
+     * @return The plan, or empty if the request must use the criteria builder
+     */
+    public Optional<QueryPlan> getPlan(TableFetchRequest request, Class<?> entityClass) {
+        if (request.getSearch() != null && !request.getSearch().isEmpty()) {
+            bypassed.incrementAndGet();
+            return Optional.empty();
+        }
+
+        String key = shapeKey(request, entityClass);
+        Optional<QueryPlan> plan = plans.get(key);
+        if (plan != null) {
+            hits.incrementAndGet();
+            return plan;
+        }
+
+        misses.incrementAndGet();
+        if (plans.size() >= MAX_PLANS) {
+            log.info("Query plan cache reached {} entries, clearing", MAX_PLANS);
+            plans.clear();
+        }
+        return plans.computeIfAbsent(key, k -> compiler.compile(request, entityClass));
+    }
+
+    /**
+     * Get plan cache statistics
+     *
+     * @return Map of hits, misses, bypassed requests and cached plans
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("bypassed", bypassed.get());
+        stats.put("size", plans.size());
+        stats.put("compiled", plans.values().stream().filter(Optional::isPresent).count());
+        return stats;
+    }
+
+    /**
+     * Clears all cached plans
+     */
+    public void clear() {
+        plans.clear();
+    }
+
+    /**
+     * Build the shape key; order matters because it drives aliases, parameters and ordering
+     */
+    String shapeKey(TableFetchRequest request, Class<?> entityClass) {
+        StringBuilder key = new StringBuilder()
+                .append(request.getObjectType()).append('|')
+                .append(entityClass.getName());
+
+        key.append("|c=");
+        if (request.getViewColumns() != null) {
+            for (ColumnInfo column : request.getViewColumns()) {
+                key.append(column.getFieldName()).append(',');
+            }
+        }
+
+        key.append("|f=");
+        if (request.getFilters() != null) {
+            for (FilterRequest filter : request.getFilters()) {
+                key.append(filter.getField()).append(':')
+                        .append(filter.getOperator()).append(':')
+                        .append(filter.getValue() == null ? "null" : "value").append(',');
+            }
+        }
+
+        key.append("|s=");
+        if (request.getSorts() != null) {
+            for (SortRequest sort : request.getSorts()) {
+                key.append(sort.getField()).append(':').append(sort.getSortType()).append(',');
+            }
+        }
+
+        return key.toString();
+    }
+}
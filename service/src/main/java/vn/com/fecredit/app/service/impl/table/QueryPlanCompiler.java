@@ -0,0 +1,354 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.base.AbstractStatusAwareEntity;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FilterOperator;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.SortRequest;
+import vn.com.fecredit.app.service.dto.SortType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.impl.table.QueryPlan.Binding;
+import vn.com.fecredit.app.service.impl.table.QueryPlan.BindingKind;
+
+/**
+ * Compiles the shape of a table fetch request into HQL with named parameters.
+ * <p>
+ * Produces the same selections, aliases, left joins, restrictions and ordering as
+ * {@link QueryManager#buildCriteriaQuery}. Paths are validated against the JPA
+ * metamodel, so only real attribute names ever reach the HQL text. Shapes it cannot
+ * express (search criteria, entity-valued columns, unknown fields) are left to the
+ * criteria builder.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanCompiler {
+
+    private static final String ROOT = "r";
+    private static final String STATUS_PARAM = "status";
+
+    private final EntityManager entityManager;
+    private final SearchPlanner searchPlanner;
+
+    /**
+     * Compile a plan for the request's shape
+     *
+     * @param request     Request whose shape is compiled; filter values are ignored
+     * @param entityClass Root entity class
+     * @return The plan, or empty if the shape must go through the criteria builder
+     */
+    public Optional<QueryPlan> compile(TableFetchRequest request, Class<?> entityClass) {
+        if (request.getSearch() != null && !request.getSearch().isEmpty()) {
+            return Optional.empty();
+        }
+
+        EntityType<?> entityType;
+        try {
+            entityType = entityManager.getMetamodel().entity(entityClass);
+            entityType.getAttribute("id");
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        PathResolver resolver = new PathResolver(entityType);
+
+        // Selections: id first unless requested explicitly, then view columns
+        List<String> selections = new ArrayList<>();
+        List<ColumnInfo> viewColumns = request.getViewColumns();
+        boolean idRequested = viewColumns != null && viewColumns.stream()
+                .anyMatch(col -> "id".equals(col.getFieldName()));
+        if (!idRequested) {
+            selections.add(ROOT + ".id as id");
+        }
+        if (viewColumns != null) {
+            for (ColumnInfo column : viewColumns) {
+                String fieldName = column.getFieldName();
+                if (fieldName == null || fieldName.isEmpty()) {
+                    continue;
+                }
+                String expression = resolver.resolve(fieldName);
+                if (expression == null) {
+                    return Optional.empty();
+                }
+                selections.add(expression + " as " + fieldName.replace(".", "_"));
+            }
+        }
+
+        // Restrictions: default status filter, then request filters
+        List<String> conditions = new ArrayList<>();
+        String statusParam = null;
+        Object statusValue = null;
+        if (AbstractStatusAwareEntity.class.isAssignableFrom(entityClass)) {
+            statusParam = STATUS_PARAM;
+            statusValue = deletedStatus(entityType);
+            conditions.add(ROOT + ".status <> :" + STATUS_PARAM);
+        }
+
+        List<Binding> bindings = new ArrayList<>();
+        List<FilterRequest> filters = request.getFilters() != null ? request.getFilters() : List.of();
+        for (int i = 0; i < filters.size(); i++) {
+            FilterRequest filter = filters.get(i);
+            FilterOperator operator = filter.getOperator();
+            if (filter.getField() == null || operator == null) {
+                continue;
+            }
+            String expression = resolver.resolve(filter.getField());
+            if (expression == null) {
+                return Optional.empty();
+            }
+            if (resolver.lastType == String.class && filter.getValue() != null) {
+                addShadowCondition(conditions, bindings, expression, resolver.lastOwner, operator, i);
+            }
+            addCondition(conditions, bindings, expression, resolver.lastType, operator, filter.getValue() == null, i);
+        }
+
+        // Ordering: requested sorts, or id when none. The page id query orders groups of
+        // joined rows, by the lowest value ascending and the highest descending, with the
+        // id breaking ties, as QueryManager.executePage does.
+        List<String> orders = new ArrayList<>();
+        List<String> idOrders = new ArrayList<>();
+        boolean idDescending = false;
+        if (request.getSorts() != null) {
+            for (SortRequest sort : request.getSorts()) {
+                if (sort.getField() == null || sort.getField().isEmpty()) {
+                    continue;
+                }
+                String expression = resolver.resolve(sort.getField());
+                if (expression == null) {
+                    return Optional.empty();
+                }
+                boolean descending = sort.getSortType() == SortType.DESCENDING;
+                orders.add(expression + (descending ? " desc" : " asc"));
+                if ("id".equals(sort.getField())) {
+                    idDescending = descending;
+                } else {
+                    idOrders.add(descending ? "max(" + expression + ") desc" : "min(" + expression + ") asc");
+                }
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add(ROOT + ".id asc");
+        }
+        idOrders.add(ROOT + ".id" + (idDescending ? " desc" : " asc"));
+
+        String from = " from " + entityType.getName() + " " + ROOT + resolver.joins;
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        String countTarget = "Event".equals(entityClass.getSimpleName()) ? ROOT + ".id" : ROOT;
+
+        String selectHql = "select distinct " + String.join(", ", selections) + from + where
+                + " order by " + String.join(", ", orders);
+        String countHql = "select count(distinct " + countTarget + ")" + from + where;
+
+        // Joined plans page their distinct root ids first, so a to-many join cannot shorten
+        // or repeat a page
+        String pageIdsHql = null;
+        String hydrateHql = null;
+        if (resolver.joins.length() > 0) {
+            pageIdsHql = "select " + ROOT + ".id" + from + where + " group by " + ROOT + ".id"
+                    + " order by " + String.join(", ", idOrders);
+            hydrateHql = "select " + String.join(", ", selections) + from
+                    + (where.isEmpty() ? " where " : where + " and ") + ROOT + ".id in :" + QueryPlan.PAGE_IDS_PARAM;
+        }
+
+        log.debug("Compiled query plan for {}: {}", entityType.getName(), selectHql);
+        return Optional.of(new QueryPlan(selectHql, countHql, pageIdsHql, hydrateHql, statusParam, statusValue,
+                List.copyOf(bindings)));
+    }
+
+    /**
+     * Append the condition for one filter, mirroring PredicateManager.applyOperator
+     */
+    private void addCondition(List<String> conditions, List<Binding> bindings, String expression,
+            Class<?> type, FilterOperator operator, boolean nullValue, int filterIndex) {
+        String param = "f" + filterIndex;
+
+        if (nullValue) {
+            switch (operator) {
+                case EQ, NULL -> conditions.add(expression + " is null");
+                case NE, NOT_NULL -> conditions.add(expression + " is not null");
+                default -> {
+                    // Other operators can't work with null
+                }
+            }
+            return;
+        }
+
+        if (type == String.class) {
+            String lower = "lower(" + expression + ")";
+            switch (operator) {
+                case EQ -> addBound(conditions, bindings, lower + " = :" + param, param, filterIndex, BindingKind.LOWER, type);
+                case NE -> addBound(conditions, bindings, lower + " <> :" + param, param, filterIndex, BindingKind.LOWER, type);
+                case CONTAINS -> addBound(conditions, bindings, lower + " like :" + param, param, filterIndex, BindingKind.CONTAINS, type);
+                case STARTS_WITH -> addBound(conditions, bindings, lower + " like :" + param, param, filterIndex, BindingKind.STARTS_WITH, type);
+                case ENDS_WITH -> addBound(conditions, bindings, lower + " like :" + param, param, filterIndex, BindingKind.ENDS_WITH, type);
+                default -> log.warn("Unsupported operator {} for string field", operator);
+            }
+            return;
+        }
+
+        if (Comparable.class.isAssignableFrom(type)) {
+            String comparison = switch (operator) {
+                case EQ -> " = ";
+                case NE -> " <> ";
+                case GT -> " > ";
+                case GE -> " >= ";
+                case LT -> " < ";
+                case LE -> " <= ";
+                default -> null;
+            };
+            if (comparison == null) {
+                log.warn("Unsupported operator {} for comparable field", operator);
+                return;
+            }
+            addBound(conditions, bindings, expression + comparison + ":" + param, param, filterIndex, BindingKind.VALUE, type);
+            return;
+        }
+
+        addBound(conditions, bindings, expression + " = :" + param, param, filterIndex, BindingKind.VALUE, type);
+    }
+
+    /**
+     * Append the shadow column condition the search planner picks for an EQ or
+     * STARTS_WITH filter, as PredicateManager.applyFilter does
+     */
+    private void addShadowCondition(List<String> conditions, List<Binding> bindings, String expression,
+            Class<?> owner, FilterOperator operator, int filterIndex) {
+        String attribute = expression.substring(expression.lastIndexOf('.') + 1);
+        EntityMetadataRegistry.AttributeMetadata shadow = searchPlanner.shadowFor(owner, attribute, operator);
+        if (shadow == null) {
+            return;
+        }
+
+        String shadowExpression = expression.substring(0, expression.lastIndexOf('.') + 1) + shadow.name();
+        String param = "s" + filterIndex;
+        if (operator == FilterOperator.EQ) {
+            addBound(conditions, bindings, shadowExpression + " = :" + param, param, filterIndex,
+                    BindingKind.NORMALIZED, String.class);
+        } else {
+            addBound(conditions, bindings,
+                    shadowExpression + " like :" + param + " escape '" + SearchNormalizer.LIKE_ESCAPE + "'",
+                    param, filterIndex, BindingKind.NORMALIZED_PREFIX, String.class);
+        }
+    }
+
+    private void addBound(List<String> conditions, List<Binding> bindings, String condition,
+            String param, int filterIndex, BindingKind kind, Class<?> type) {
+        conditions.add(condition);
+        bindings.add(new Binding(param, filterIndex, kind, type));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object deletedStatus(EntityType<?> entityType) {
+        Class<?> statusType = entityType.getAttribute("status").getJavaType();
+        if (statusType.isEnum()) {
+            return Enum.valueOf((Class<Enum>) statusType, "DELETED");
+        }
+        return "DELETED";
+    }
+
+    /**
+     * Resolves dotted field paths to HQL path expressions, creating one left join
+     * per association prefix and sharing it between selections, filters and sorts
+     */
+    private static class PathResolver {
+        private final EntityType<?> rootType;
+        private final Map<String, String> joinAliases = new LinkedHashMap<>();
+        private final StringBuilder joins = new StringBuilder();
+        private Class<?> lastType;
+        private Class<?> lastOwner;
+
+        PathResolver(EntityType<?> rootType) {
+            this.rootType = rootType;
+        }
+
+        /**
+         * @return HQL path of a basic attribute, or null if the path is unknown or not basic
+         */
+        String resolve(String fieldName) {
+            String[] parts = fieldName.split("\\.");
+            ManagedType<?> type = rootType;
+            String current = ROOT;
+            String pathKey = "";
+
+            for (int i = 0; i < parts.length; i++) {
+                String part = parts[i];
+                boolean last = i == parts.length - 1;
+
+                Attribute<?, ?> attribute;
+                try {
+                    attribute = type.getAttribute(part);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+                pathKey = pathKey.isEmpty() ? part : pathKey + "." + part;
+
+                if (attribute.isAssociation() || attribute.isCollection()) {
+                    if (last) {
+                        return null;
+                    }
+                    String alias = joinAliases.get(pathKey);
+                    if (alias == null) {
+                        alias = "j" + joinAliases.size();
+                        joins.append(" left join ").append(current).append('.').append(part).append(' ').append(alias);
+                        joinAliases.put(pathKey, alias);
+                    }
+                    current = alias;
+                    Type<?> target = attribute instanceof PluralAttribute<?, ?, ?> plural
+                            ? plural.getElementType()
+                            : ((SingularAttribute<?, ?>) attribute).getType();
+                    if (!(target instanceof ManagedType<?> managed)) {
+                        return null;
+                    }
+                    type = managed;
+                } else if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
+                    if (last) {
+                        return null;
+                    }
+                    current = current + "." + part;
+                    type = (ManagedType<?>) ((SingularAttribute<?, ?>) attribute).getType();
+                } else {
+                    if (!last) {
+                        return null;
+                    }
+                    lastType = box(attribute.getJavaType());
+                    lastOwner = type.getJavaType();
+                    return current + "." + part;
+                }
+            }
+            return null;
+        }
+
+        private static Class<?> box(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            }
+            if (type == int.class) return Integer.class;
+            if (type == long.class) return Long.class;
+            if (type == boolean.class) return Boolean.class;
+            if (type == double.class) return Double.class;
+            if (type == float.class) return Float.class;
+            if (type == short.class) return Short.class;
+            if (type == byte.class) return Byte.class;
+            if (type == char.class) return Character.class;
+            return type;
+        }
+    }
+}
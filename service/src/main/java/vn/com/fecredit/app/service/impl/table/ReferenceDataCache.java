@@ -0,0 +1,116 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.ObjectType;
+
+/**
+ * Evicts and reports on the Hibernate second-level cache used for reference tables
+ * (regions, provinces, rewards, roles, permissions and configurations).
+ * <p>
+ * Entity writes through the session keep the cache up to date by themselves; this
+ * covers bulk and native writes Hibernate does not see, such as table imports.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+    private final SessionFactory sessionFactory;
+    private final EntityMetadataRegistry metadataRegistry;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory, EntityMetadataRegistry metadataRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.metadataRegistry = metadataRegistry;
+    }
+
+    /**
+     * Evict the cached entities of an object type once the current transaction commits,
+     * or immediately when no transaction is active
+     *
+     * @param objectType The object type that was written
+     */
+    public void evictAfterCommit(ObjectType objectType) {
+        if (objectType == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(objectType);
+                }
+            });
+        } else {
+            evict(objectType);
+        }
+    }
+
+    /**
+     * Evict the cached entities, collections and query results of an object type.
+     * Object types that are not second-level cached are ignored.
+     *
+     * @param objectType The object type
+     */
+    public void evict(ObjectType objectType) {
+        Class<?> entityClass = metadataRegistry.entityClass(objectType);
+        if (entityClass == null || !entityClass.isAnnotationPresent(Cacheable.class)) {
+            return;
+        }
+
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(entityClass);
+        // Collections and cached queries may reference the evicted rows
+        cache.evictCollectionData();
+        cache.evictDefaultQueryRegion();
+        log.debug("Evicted second-level cache for {}", objectType);
+    }
+
+    /**
+     * Get second-level and query cache statistics
+     *
+     * @return Map of overall hit, miss and put counts plus per-region statistics
+     */
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", statistics.isStatisticsEnabled());
+        stats.put("secondLevelHits", statistics.getSecondLevelCacheHitCount());
+        stats.put("secondLevelMisses", statistics.getSecondLevelCacheMissCount());
+        stats.put("secondLevelPuts", statistics.getSecondLevelCachePutCount());
+        stats.put("queryHits", statistics.getQueryCacheHitCount());
+        stats.put("queryMisses", statistics.getQueryCacheMissCount());
+        stats.put("queryPuts", statistics.getQueryCachePutCount());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            try {
+                CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+                if (region == null) {
+                    continue;
+                }
+                Map<String, Object> regionStats = new LinkedHashMap<>();
+                regionStats.put("hits", region.getHitCount());
+                regionStats.put("misses", region.getMissCount());
+                regionStats.put("puts", region.getPutCount());
+                regionStats.put("elementsInMemory", region.getElementCountInMemory());
+                regions.put(regionName, regionStats);
+            } catch (Exception e) {
+                log.warn("Could not read statistics of cache region {}: {}", regionName, e.getMessage());
+            }
+        }
+        stats.put("regions", regions);
+        return stats;
+    }
+}
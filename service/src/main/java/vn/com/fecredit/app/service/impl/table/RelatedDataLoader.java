@@ -0,0 +1,208 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.base.AbstractStatusAwareEntity;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.RelatedDataRequest;
+import vn.com.fecredit.app.service.dto.RelatedDataResponse;
+import vn.com.fecredit.app.service.dto.TableRow;
+import vn.com.fecredit.app.service.factory.RelatedTablesFactory;
+
+/**
+ * Loads the related tables of many parent rows at once.
+ * <p>
+ * Each related table is read with one query joining from the parent entity,
+ * {@code where parent.id in (:ids)}, and the rows are grouped by parent id. The
+ * queries run one after another in the caller's transaction, so a request holds one
+ * connection however many related tables it loads.
+ * <p>
+ * Parents are addressed by their {@code Long} id, so entities with an embedded or
+ * composite id are rejected; their related tables are loaded row by row through the
+ * table fetch.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedDataLoader {
+
+    /**
+     * Most parent ids one request may ask for; they are bound as an IN list
+     */
+    static final int MAX_IDS = 1000;
+
+    private static final String PARENT_ID = "parentId";
+
+    private final EntityManager entityManager;
+    private final EntityMetadataRegistry metadataRegistry;
+    private final RelatedTablesFactory relatedTablesFactory;
+
+    /**
+     * Load the requested related tables of the parent rows
+     *
+     * @param request Parent object type, ids and related tables
+     * @return Related rows by related table and parent id
+     * @throws IllegalArgumentException if the request names an unknown or unrelated type,
+     *         a parent without a single {@code Long} id, or too many ids
+     */
+    public RelatedDataResponse load(RelatedDataRequest request) {
+        Class<?> parentClass = metadataRegistry.entityClass(request.getObjectType());
+        if (parentClass == null) {
+            throw new IllegalArgumentException("Unsupported entity: " + request.getObjectType());
+        }
+        if (!hasLongId(metadataRegistry.get(parentClass))) {
+            throw new IllegalArgumentException(request.getObjectType()
+                    + " has a composite id; fetch its related tables one row at a time");
+        }
+        List<Long> ids = request.getIds() != null ? request.getIds() : List.of();
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be loaded at once");
+        }
+
+        Map<ObjectType, String> attributes = relatedAttributes(parentClass, request.getRelatedTypes());
+        Map<ObjectType, Map<Long, List<TableRow>>> relatedData = new LinkedHashMap<>();
+        if (ids.isEmpty() || attributes.isEmpty()) {
+            return RelatedDataResponse.builder().status(FetchStatus.NO_DATA).relatedData(relatedData).build();
+        }
+
+        for (Map.Entry<ObjectType, String> entry : attributes.entrySet()) {
+            ObjectType relatedType = entry.getKey();
+            List<ColumnInfo> viewColumns = request.getViewColumns() != null
+                    ? request.getViewColumns().get(relatedType) : null;
+            relatedData.put(relatedType, loadTable(parentClass, entry.getValue(), relatedType, ids, viewColumns));
+        }
+
+        return RelatedDataResponse.builder().status(FetchStatus.SUCCESS).relatedData(relatedData).build();
+    }
+
+    /**
+     * Whether rows of the type are identified by a single {@code Long} id
+     */
+    private static boolean hasLongId(EntityMetadataRegistry.EntityMetadata metadata) {
+        return metadata != null && metadata.idAttributes().size() == 1 && Long.class.equals(metadata.idType());
+    }
+
+    /**
+     * Find the parent attribute leading to each requested related table
+     */
+    private Map<ObjectType, String> relatedAttributes(Class<?> parentClass, List<ObjectType> requested) {
+        Set<Class<?>> relatedClasses = new HashSet<>(relatedTablesFactory.getRelatedEntityClassesOf(parentClass));
+        EntityMetadataRegistry.EntityMetadata parent = metadataRegistry.get(parentClass);
+
+        Map<ObjectType, String> attributes = new LinkedHashMap<>();
+        for (ObjectType objectType : ObjectType.values()) {
+            boolean wanted = requested == null || requested.isEmpty() || requested.contains(objectType);
+            Class<?> relatedClass = metadataRegistry.entityClass(objectType);
+            if (!wanted || relatedClass == null || !relatedClasses.contains(relatedClass)) {
+                continue;
+            }
+            for (EntityMetadataRegistry.AttributeMetadata attribute : parent.attributes().values()) {
+                if (attribute.association() && relatedClass.equals(attribute.targetType())) {
+                    attributes.put(objectType, attribute.name());
+                    break;
+                }
+            }
+        }
+
+        if (requested != null) {
+            for (ObjectType objectType : requested) {
+                if (!attributes.containsKey(objectType)) {
+                    throw new IllegalArgumentException(objectType + " is not related to " + parentClass.getSimpleName());
+                }
+            }
+        }
+        return attributes;
+    }
+
+    private Map<Long, List<TableRow>> loadTable(Class<?> parentClass, String attribute, ObjectType relatedType,
+            List<Long> ids, List<ColumnInfo> viewColumns) {
+        Class<?> relatedClass = metadataRegistry.entityClass(relatedType);
+        EntityMetadataRegistry.EntityMetadata related = metadataRegistry.get(relatedClass);
+        List<String> columns = columns(related, viewColumns);
+
+        StringBuilder hql = new StringBuilder("select p.id as ").append(PARENT_ID);
+        for (String column : columns) {
+            hql.append(", r.").append(column).append(" as ").append(column);
+        }
+        hql.append(" from ").append(entityManager.getMetamodel().entity(parentClass).getName())
+                .append(" p join p.").append(attribute).append(" r where p.id in :ids");
+        Object deleted = AbstractStatusAwareEntity.class.isAssignableFrom(relatedClass)
+                ? deletedStatus(related) : null;
+        if (deleted != null) {
+            hql.append(" and r.status <> :status");
+        }
+        hql.append(" order by p.id");
+        if (columns.contains("id")) {
+            hql.append(", r.id");
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(hql.toString(), Tuple.class)
+                .setParameter("ids", ids);
+        if (deleted != null) {
+            query.setParameter("status", deleted);
+        }
+        query.setHint("jakarta.persistence.query.timeout", 30000); // 30 seconds timeout
+
+        Map<Long, List<TableRow>> byParent = new LinkedHashMap<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            for (String column : columns) {
+                data.put(column, tuple.get(column));
+            }
+            byParent.computeIfAbsent((Long) tuple.get(PARENT_ID), k -> new ArrayList<>())
+                    .add(TableRow.builder().data(data).build());
+        }
+
+        log.debug("Loaded {} related {} rows for {} parents", byParent.values().stream().mapToInt(List::size).sum(),
+                relatedType, byParent.size());
+        return byParent;
+    }
+
+    /**
+     * Basic columns of the related table, limited to the requested view columns if any
+     */
+    private List<String> columns(EntityMetadataRegistry.EntityMetadata related, List<ColumnInfo> viewColumns) {
+        Set<String> requested = new HashSet<>();
+        if (viewColumns != null) {
+            for (ColumnInfo column : viewColumns) {
+                requested.add(column.getFieldName());
+            }
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (EntityMetadataRegistry.AttributeMetadata attribute : related.attributes().values()) {
+            boolean basic = !attribute.association() && !attribute.collection() && !attribute.embedded()
+                    && attribute.shadowOf() == null;
+            if (basic && (requested.isEmpty() || requested.contains(attribute.name()) || "id".equals(attribute.name()))) {
+                columns.add(attribute.name());
+            }
+        }
+        return columns;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object deletedStatus(EntityMetadataRegistry.EntityMetadata related) {
+        EntityMetadataRegistry.AttributeMetadata status = related.attribute("status");
+        if (status == null) {
+            return null;
+        }
+        if (status.javaType().isEnum()) {
+            return Enum.valueOf((Class<Enum>) status.javaType(), "DELETED");
+        }
+        return "DELETED";
+    }
+}
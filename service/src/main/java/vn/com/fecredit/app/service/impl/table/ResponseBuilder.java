@@ -1,6 +1,8 @@
 package vn.com.fecredit.app.service.impl.table;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +22,7 @@ import vn.com.fecredit.app.service.dto.DataObjectKey;
 import vn.com.fecredit.app.service.dto.FetchStatus;
 import vn.com.fecredit.app.service.dto.FieldType;
 import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.ResponseFormat;
 import vn.com.fecredit.app.service.dto.SortType;
 import vn.com.fecredit.app.service.dto.TableFetchRequest;
 import vn.com.fecredit.app.service.dto.TableFetchResponse;
@@ -102,14 +105,21 @@ public class ResponseBuilder {
                 }
             }
 
-            // Convert tuples to table rows
-            List<TableRow> rows = convertTupleToRows(tuples, fieldAliasMapping);
-
             // Build response with proper status based on results
             TableFetchResponse response = new TableFetchResponse();
+            List<TableRow> rows;
+            if (request.getFormat() == ResponseFormat.COLUMNAR) {
+                // Read values by tuple position; no per-row map is built
+                applyColumnar(response, columnHeader(tuples, fieldAliasMapping), convertTupleToValues(tuples));
+                rows = null;
+            } else {
+                rows = convertTupleToRows(tuples, fieldAliasMapping);
+                response.setRows(rows);
+            }
+            int rowCount = tuples.size();
+
             response.setOriginalRequest(request);
             response.setTableName(tableName);
-            response.setRows(rows);
             response.setTotalElements(totalCount);
             response.setCurrentPage(request.getPage());
             response.setPageSize(request.getSize());
@@ -117,7 +127,7 @@ public class ResponseBuilder {
             response.setFieldNameMap(fieldNameMap);  // Set the field name map in the response
 
             // Set status based on context
-            if (rows == null || rows.isEmpty()) {
+            if (rowCount == 0) {
                 // Check if this is a search with filters that might explain empty results
                 boolean isSearchWithFilters = request.getSearch() != null && !request.getSearch().isEmpty();
 
@@ -134,7 +144,7 @@ public class ResponseBuilder {
                 }
             } else {
                 response.setStatus(FetchStatus.SUCCESS);
-                log.debug("Setting status to SUCCESS with {} data rows", rows.size());
+                log.debug("Setting status to SUCCESS with {} data rows", rowCount);
             }
 
             // Preserve original related linked objects if present
@@ -143,7 +153,7 @@ public class ResponseBuilder {
             }
 
             log.info("Built response with status: {}, rows: {}, total: {}",
-                      response.getStatus(), rows != null ? rows.size() : 0, totalCount);
+                      response.getStatus(), rowCount, totalCount);
 
             return response;
         } catch (Exception e) {
@@ -217,6 +227,98 @@ public class ResponseBuilder {
         return rows;
     }
 
+    /**
+     * Column header of a columnar response: tuple aliases in position order, mapped back
+     * to the original field names, then the viewId that tuple rows carry when the id is selected
+     */
+    private List<String> columnHeader(List<Tuple> tuples, Map<String, String> fieldAliasMapping) {
+        if (tuples == null || tuples.isEmpty()) {
+            return new ArrayList<>(fieldAliasMapping.values());
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (TupleElement<?> element : tuples.get(0).getElements()) {
+            String alias = element.getAlias();
+            columns.add(fieldAliasMapping.getOrDefault(alias, alias));
+        }
+        if (idPosition(tuples.get(0)) >= 0) {
+            columns.add("viewId");
+        }
+        return columns;
+    }
+
+    /**
+     * Convert tuple results to value arrays in tuple position order, followed by the viewId
+     * as {@link #convertTupleToRows} fills it
+     */
+    private List<Object[]> convertTupleToValues(List<Tuple> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int idPosition = idPosition(tuples.get(0));
+        List<Object[]> values = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Object[] tupleValues = tuple.toArray();
+            if (idPosition < 0) {
+                values.add(tupleValues);
+                continue;
+            }
+            Object[] rowValues = Arrays.copyOf(tupleValues, tupleValues.length + 1);
+            Object id = tupleValues[idPosition];
+            rowValues[tupleValues.length] = id != null ? id.toString() : null;
+            values.add(rowValues);
+        }
+        return values;
+    }
+
+    /**
+     * @return Position of the element aliased "id", or -1 if the id is not selected
+     */
+    private static int idPosition(Tuple tuple) {
+        List<TupleElement<?>> elements = tuple.getElements();
+        for (int i = 0; i < elements.size(); i++) {
+            if ("id".equals(elements.get(i).getAlias())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Column header of a columnar entity response: the view columns, then the id and
+     * related tables entries that entity rows always carry
+     *
+     * @param viewColumns Columns converted for each entity
+     * @return Column names in value array order
+     */
+    public List<String> entityColumnHeader(Collection<ColumnInfo> viewColumns) {
+        List<String> columns = new ArrayList<>(viewColumns.size() + 2);
+        for (ColumnInfo column : viewColumns) {
+            columns.add(column.getFieldName());
+        }
+        if (!columns.contains("id")) {
+            columns.add("id");
+        }
+        columns.add("relatedTables");
+        return columns;
+    }
+
+    /**
+     * Switch a response to the columnar format: rows are replaced by one header and one
+     * value array per row
+     *
+     * @param response The response to update
+     * @param columns  Column names in value array order
+     * @param values   One value array per row
+     */
+    public void applyColumnar(TableFetchResponse response, List<String> columns, List<Object[]> values) {
+        response.setFormat(ResponseFormat.COLUMNAR);
+        response.setColumns(columns);
+        response.setValues(values);
+        response.setRows(null);
+    }
+
     /**
      * Maps field paths to proper column aliases for result processing
      */
@@ -287,6 +389,67 @@ public class ResponseBuilder {
         return response;
     }
 
+    /**
+     * Build a response from a keyset page of entities. No total count is available in
+     * cursor mode, so the page totals are left empty and the cursor fields are set instead.
+     *
+     * @param request       Original request
+     * @param rows          Table rows
+     * @param page          Keyset page the rows were converted from
+     * @param tableName     Table name
+     * @param columnInfoMap Column info map
+     * @return Response object
+     */
+    public TableFetchResponse buildKeysetEntityResponse(
+            TableFetchRequest request,
+            List<TableRow> rows,
+            KeysetPage<?> page,
+            String tableName,
+            Map<String, ColumnInfo> columnInfoMap) {
+
+        TableFetchResponse response = new TableFetchResponse();
+        response.setStatus(page.rows().isEmpty() ? FetchStatus.NO_DATA : FetchStatus.SUCCESS);
+        response.setPageSize(request.getSize());
+        response.setTableName(tableName);
+        response.setOriginalRequest(request);
+        response.setRows(rows);
+        response.setFieldNameMap(columnInfoMap);
+        response.setRelatedLinkedObjects(populateRelatedLinkedObjects(request));
+        applyKeysetPage(response, page);
+
+        DataObjectKey key = new DataObjectKey();
+        key.setKeys(Collections.singletonList("id"));
+        response.setKey(key);
+
+        return response;
+    }
+
+    /**
+     * Replace offset paging information on a response with keyset cursor information
+     *
+     * @param response The response to update
+     * @param page     The keyset page the response was built from
+     */
+    public void applyKeysetPage(TableFetchResponse response, KeysetPage<?> page) {
+        response.setTotalElements(null);
+        response.setTotalPage(null);
+        response.setCurrentPage(null);
+        response.setNextCursor(page.nextCursor());
+        response.setHasNext(page.hasNext());
+    }
+
+    /**
+     * Replace offset totals on a response with a next-page flag, for requests that skip counting
+     *
+     * @param response The response to update
+     * @param hasNext  Whether a row exists past the current page
+     */
+    public void applyHasNext(TableFetchResponse response, boolean hasNext) {
+        response.setTotalElements(null);
+        response.setTotalPage(null);
+        response.setHasNext(hasNext);
+    }
+
     /**
      * Populate related linked objects from search criteria
      *
@@ -0,0 +1,145 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.search.SearchMode;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
+import vn.com.fecredit.app.service.dto.FilterOperator;
+
+/**
+ * Chooses how a string lookup is matched so that it can use an index.
+ * <p>
+ * Fields with a {@code @NormalizedShadow} column are matched on that column:
+ * {@code EQ} filters become an equality and {@code STARTS_WITH} filters a prefix LIKE.
+ * A free-text search uses the mode the shadow declares, which is CONTAINS unless a field
+ * opts in to PREFIX or EXACT and their narrower matching. Everything else is a
+ * CONTAINS match, served by the full-text index where there is one and LIKE otherwise.
+ * The original case-insensitive predicate is always kept alongside the shadow
+ * predicate, so shadow matching (which also ignores accents) only narrows the rows.
+ */
+@Component
+@Slf4j
+public class SearchPlanner {
+
+    /**
+     * How one lookup is matched
+     *
+     * @param mode        match mode
+     * @param shadowField shadow attribute to match on, or null for CONTAINS
+     * @param normalized  normalized search value, or null for CONTAINS
+     */
+    public record Plan(SearchMode mode, String shadowField, String normalized) {
+
+        static final Plan CONTAINS = new Plan(SearchMode.CONTAINS, null, null);
+
+        /**
+         * @return true if the lookup is matched on a shadow column
+         */
+        public boolean usesShadow() {
+            return shadowField != null;
+        }
+
+        /**
+         * @return LIKE pattern of a PREFIX lookup, escaped with {@link SearchNormalizer#LIKE_ESCAPE}
+         */
+        public String prefixPattern() {
+            return SearchNormalizer.prefixPattern(normalized);
+        }
+    }
+
+    private final Map<Class<?>, Map<String, EntityMetadataRegistry.AttributeMetadata>> shadows;
+    private volatile boolean ready;
+
+    public SearchPlanner(EntityMetadataRegistry metadataRegistry) {
+        Map<Class<?>, Map<String, EntityMetadataRegistry.AttributeMetadata>> byClass = new HashMap<>();
+        for (EntityMetadataRegistry.EntityMetadata metadata : metadataRegistry.all()) {
+            Map<String, EntityMetadataRegistry.AttributeMetadata> bySource = new HashMap<>();
+            for (EntityMetadataRegistry.AttributeMetadata attribute : metadata.attributes().values()) {
+                if (attribute.shadowOf() != null) {
+                    bySource.put(attribute.shadowOf(), attribute);
+                }
+            }
+            if (!bySource.isEmpty()) {
+                byClass.put(metadata.javaType(), Collections.unmodifiableMap(bySource));
+            }
+        }
+        this.shadows = Collections.unmodifiableMap(byClass);
+        log.info("Search planner found shadow columns on {} entities", shadows.size());
+    }
+
+    /**
+     * Plan a string lookup
+     *
+     * @param entityClass Entity that owns the field
+     * @param field       Field name
+     * @param operator    Filter operator, or null for a free-text search
+     * @param value       Search value
+     * @return The plan; CONTAINS if no index-aware mode applies
+     */
+    public Plan plan(Class<?> entityClass, String field, FilterOperator operator, String value) {
+        SearchMode mode = operator == null ? null : switch (operator) {
+            case EQ -> SearchMode.EXACT;
+            case STARTS_WITH -> SearchMode.PREFIX;
+            default -> SearchMode.CONTAINS;
+        };
+        if (!ready || value == null || mode == SearchMode.CONTAINS) {
+            return Plan.CONTAINS;
+        }
+
+        EntityMetadataRegistry.AttributeMetadata shadow = shadowOf(entityClass, field);
+        if (shadow == null) {
+            return Plan.CONTAINS;
+        }
+        if (mode == null) {
+            mode = shadow.shadowMode();
+        }
+        if (mode == SearchMode.CONTAINS) {
+            return Plan.CONTAINS;
+        }
+        return new Plan(mode, shadow.name(), SearchNormalizer.normalize(value));
+    }
+
+    /**
+     * Plan the shape of a filter for a compiled query, before its value is known
+     *
+     * @return Shadow attribute to match on, or null if the filter is not index-aware
+     */
+    public EntityMetadataRegistry.AttributeMetadata shadowFor(Class<?> entityClass, String field,
+            FilterOperator operator) {
+        if (!ready || (operator != FilterOperator.EQ && operator != FilterOperator.STARTS_WITH)) {
+            return null;
+        }
+        return shadowOf(entityClass, field);
+    }
+
+    /**
+     * @return every entity class with its shadowed fields and their shadow attributes
+     */
+    public Map<Class<?>, Map<String, EntityMetadataRegistry.AttributeMetadata>> shadows() {
+        return shadows;
+    }
+
+    /**
+     * Start planning against shadow columns; called once they are all filled in
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * @return true once shadow columns can be trusted
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private EntityMetadataRegistry.AttributeMetadata shadowOf(Class<?> entityClass, String field) {
+        Map<String, EntityMetadataRegistry.AttributeMetadata> bySource = shadows.get(entityClass);
+        return bySource != null ? bySource.get(field) : null;
+    }
+}
@@ -0,0 +1,204 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ScrollableResults;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.ResponseFormat;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Writes table query results to an output stream as they are read.
+ * <p>
+ * Rows come from a forward-only scroll and go straight to a Jackson generator, so only
+ * one fetch-size batch of rows is in memory at a time however many rows are requested.
+ * The output has the shape of a {@code TableFetchResponse}: ROWS format writes a
+ * {@code rows} array of {@code {"data": {...}}} objects, COLUMNAR writes {@code columns}
+ * and {@code values}. {@code status} comes after the rows: SUCCESS once every row is
+ * written, or ERROR with a {@code message} if reading fails part way, so a document
+ * without a status was cut off in transit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TableStreamWriter {
+
+    /**
+     * Rows read per JDBC round trip
+     */
+    static final int FETCH_SIZE = 500;
+
+    private final QueryManager queryManager;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Run a built query and stream its rows
+     *
+     * @param query     The criteria query built for the request
+     * @param request   The table fetch request
+     * @param tableName Table name written to the output
+     * @param out       Stream to write to; it is flushed but not closed
+     * @return Number of rows written
+     * @throws IOException if writing fails
+     */
+    public long write(CriteriaQuery<Tuple> query, TableFetchRequest request, String tableName, OutputStream out)
+            throws IOException {
+        List<String> columns = columnHeader(query, request);
+        boolean columnar = request.getFormat() == ResponseFormat.COLUMNAR;
+
+        // Joins can repeat an event per location; the paged path removes these duplicates too.
+        // Ordered by id, an event's rows are adjacent, so comparing with the previous id is enough.
+        int idIndex = columns.indexOf("id");
+        boolean dedupe = request.getObjectType() == ObjectType.Event && idIndex >= 0;
+        if (dedupe) {
+            orderForDedupe(query);
+        }
+
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("tableName", tableName);
+            generator.writeNumberField("currentPage", request.getPage());
+            generator.writeNumberField("pageSize", request.getSize());
+            if (columnar) {
+                generator.writeStringField("format", ResponseFormat.COLUMNAR.name());
+                generator.writeObjectField("columns", columns);
+                generator.writeArrayFieldStart("values");
+            } else {
+                generator.writeArrayFieldStart("rows");
+            }
+
+            FetchStatus status = FetchStatus.SUCCESS;
+            String message = null;
+            try (ScrollableResults<Tuple> results = queryManager.scrollQuery(query, request, FETCH_SIZE)) {
+                Object previousId = null;
+                while (results.next()) {
+                    Object[] values = results.get().toArray();
+                    if (dedupe) {
+                        Object id = values[idIndex];
+                        if (id != null && id.equals(previousId)) {
+                            continue;
+                        }
+                        previousId = id;
+                    }
+
+                    if (columnar) {
+                        writeValues(generator, values);
+                    } else {
+                        writeRow(generator, columns, values);
+                    }
+
+                    if (++count % FETCH_SIZE == 0) {
+                        // Nothing here should be managed, but a join fetch must not pile up entities
+                        entityManager.clear();
+                        generator.flush();
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Rows already sent cannot be taken back; end the document so the client sees the failure
+                log.error("Streaming {} failed after {} rows: {}", tableName, count, e.getMessage(), e);
+                status = FetchStatus.ERROR;
+                message = "Error executing query: " + e.getMessage();
+            }
+
+            generator.writeEndArray();
+            generator.writeNumberField("totalElements", count);
+            generator.writeStringField("status", status.name());
+            if (message != null) {
+                generator.writeStringField("message", message);
+            }
+            generator.writeEndObject();
+        }
+
+        log.info("Streamed {} rows of {}", count, tableName);
+        return count;
+    }
+
+    /**
+     * Order by the requested sorts on the root's own attributes, then by id. Sorts on joined
+     * columns are dropped: they would separate the rows of one event.
+     */
+    private void orderForDedupe(CriteriaQuery<Tuple> query) {
+        Root<?> root = query.getRoots().iterator().next();
+        List<Order> orders = new ArrayList<>();
+        boolean byId = false;
+        for (Order order : query.getOrderList()) {
+            if (order.getExpression() instanceof Path<?> path && path.getParentPath() == root) {
+                orders.add(order);
+                if (path.getModel() instanceof Attribute<?, ?> attribute && "id".equals(attribute.getName())) {
+                    byId = true;
+                }
+            }
+        }
+        if (!byId) {
+            orders.add(entityManager.getCriteriaBuilder().asc(root.get("id")));
+        }
+        query.orderBy(orders);
+    }
+
+    /**
+     * Column names in selection order, with dotted field names restored from their aliases
+     */
+    private List<String> columnHeader(CriteriaQuery<Tuple> query, TableFetchRequest request) {
+        Map<String, String> fieldAliasMapping = new HashMap<>();
+        if (request.getViewColumns() != null) {
+            for (ColumnInfo column : request.getViewColumns()) {
+                fieldAliasMapping.put(column.getFieldName().replace(".", "_"), column.getFieldName());
+            }
+        }
+
+        List<String> columns = new ArrayList<>();
+        Selection<Tuple> selection = query.getSelection();
+        List<Selection<?>> items = selection.isCompoundSelection()
+                ? selection.getCompoundSelectionItems()
+                : List.<Selection<?>>of(selection);
+        for (Selection<?> item : items) {
+            String alias = item.getAlias();
+            columns.add(fieldAliasMapping.getOrDefault(alias, alias));
+        }
+        return columns;
+    }
+
+    private void writeValues(JsonGenerator generator, Object[] values) throws IOException {
+        generator.writeStartArray();
+        for (Object value : values) {
+            generator.writeObject(value);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeRow(JsonGenerator generator, List<String> columns, Object[] values) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("data");
+        for (int i = 0; i < values.length; i++) {
+            generator.writeObjectField(columns.get(i), values[i]);
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
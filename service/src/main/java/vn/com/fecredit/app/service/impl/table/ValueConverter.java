@@ -0,0 +1,14 @@
+package vn.com.fecredit.app.service.impl.table;
+
+/**
+ * Converts request text to one target type. Built once per type by {@link ValueConverters}.
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+    /**
+     * @param text Trimmed text, never null
+     * @return The converted value, or null if the text is not a value of the target type
+     */
+    Object parse(String text);
+}
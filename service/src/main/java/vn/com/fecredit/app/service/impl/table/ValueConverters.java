@@ -0,0 +1,302 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of the converters that turn filter values, cursor values and submitted row
+ * data into entity attribute types.
+ * <p>
+ * One converter is built per target type, for every attribute type of the JPA metamodel
+ * at startup and for other types on first use. Converters detect the input format from
+ * its shape and parse it once: thousands separators are skipped without a regex, numbers
+ * are validated before parsing, and dates are read field by field, so invalid input
+ * never costs an exception. Accepted formats:
+ * <ul>
+ * <li>whole and decimal numbers, with optional {@code ,} or {@code _} separators</li>
+ * <li>booleans: {@code true}, {@code yes}, {@code 1} and {@code on} are true, anything else false</li>
+ * <li>dates: {@code yyyy-MM-dd}, {@code dd/MM/yyyy} and {@code MM/dd/yyyy}, day first when both fit</li>
+ * <li>date-times: a date, {@code T} or a space, then {@code HH:mm[:ss[.fraction]]}; a date alone
+ * is the start of that day</li>
+ * <li>enums: constant name or {@code toString()}, ignoring case</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ValueConverters {
+
+    private static final ValueConverter NONE = text -> null;
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+    private static final int[] NANO_SCALE = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+            100_000_000 };
+
+    private final Map<Class<?>, ValueConverter> byType = new ConcurrentHashMap<>();
+
+    public ValueConverters(EntityMetadataRegistry metadataRegistry) {
+        for (EntityMetadataRegistry.EntityMetadata metadata : metadataRegistry.all()) {
+            for (EntityMetadataRegistry.AttributeMetadata attribute : metadata.attributes().values()) {
+                if (!attribute.association() && !attribute.collection() && !attribute.embedded()) {
+                    forType(attribute.javaType());
+                }
+            }
+        }
+        log.info("Value converters built for {} attribute types", byType.size());
+    }
+
+    /**
+     * Get the converter of a target type
+     *
+     * @param targetType The target type
+     * @return The converter, or null if values of the type are not converted
+     */
+    public ValueConverter forType(Class<?> targetType) {
+        if (targetType == null) {
+            return null;
+        }
+        ValueConverter converter = byType.computeIfAbsent(targetType, ValueConverters::create);
+        return converter != NONE ? converter : null;
+    }
+
+    /**
+     * Convert a value to the target type, leaving it unchanged if it cannot be converted
+     *
+     * @param value      The value, usually text from a request
+     * @param targetType The target type
+     * @return The converted value, or the value itself
+     */
+    public Object convert(Object value, Class<?> targetType) {
+        if (value == null || targetType == null || targetType.isInstance(value)) {
+            return value;
+        }
+        ValueConverter converter = forType(targetType);
+        if (converter == null) {
+            return value;
+        }
+        String text = value.toString().trim();
+        Object converted = converter.parse(text);
+        if (converted == null) {
+            log.debug("Cannot convert value '{}' to type {}", text, targetType.getSimpleName());
+            return value;
+        }
+        return converted;
+    }
+
+    /**
+     * Build the converter of a type
+     *
+     * @return The converter, or {@code NONE} if the type is not converted
+     */
+    static ValueConverter create(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return text -> parseWhole(text, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (type == Integer.class || type == int.class) {
+            return text -> {
+                Long value = parseWhole(text, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                return value != null ? Integer.valueOf(value.intValue()) : null;
+            };
+        }
+        if (type == Double.class || type == double.class) {
+            return text -> {
+                String decimal = decimal(text);
+                return decimal != null ? Double.valueOf(decimal) : null;
+            };
+        }
+        if (type == Float.class || type == float.class) {
+            return text -> {
+                String decimal = decimal(text);
+                return decimal != null ? Float.valueOf(decimal) : null;
+            };
+        }
+        if (type == BigDecimal.class) {
+            return text -> {
+                String decimal = decimal(text);
+                return decimal != null ? new BigDecimal(decimal) : null;
+            };
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return text -> switch (text.toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "1", "on" -> Boolean.TRUE;
+                default -> Boolean.FALSE;
+            };
+        }
+        if (type == LocalDate.class) {
+            return text -> parseDate(text, 0, text.length());
+        }
+        if (type == LocalDateTime.class) {
+            return ValueConverters::parseDateTime;
+        }
+        if (type.isEnum()) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant);
+            }
+            for (Object constant : type.getEnumConstants()) {
+                constants.putIfAbsent(constant.toString().toUpperCase(Locale.ROOT), constant);
+            }
+            Map<String, Object> lookup = Map.copyOf(constants);
+            return text -> lookup.get(text.toUpperCase(Locale.ROOT));
+        }
+        return NONE;
+    }
+
+    /**
+     * Copy of the text without thousands separators; the text itself when it has none
+     */
+    private static String stripSeparators(String text) {
+        if (text.indexOf(',') < 0 && text.indexOf('_') < 0) {
+            return text;
+        }
+        StringBuilder stripped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ',' && c != '_') {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString();
+    }
+
+    private static Long parseWhole(String text, long min, long max) {
+        String digits = stripSeparators(text);
+        int length = digits.length();
+        int start = length > 0 && (digits.charAt(0) == '-' || digits.charAt(0) == '+') ? 1 : 0;
+        if (start == length || length - start > 19) {
+            return null;
+        }
+        for (int i = start; i < length; i++) {
+            char c = digits.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+
+        long value;
+        if (length - start < 19) {
+            value = Long.parseLong(digits);
+        } else {
+            // Nineteen digits may overflow a long
+            BigInteger big = new BigInteger(digits);
+            if (big.bitLength() > 63) {
+                return null;
+            }
+            value = big.longValue();
+        }
+        return value >= min && value <= max ? value : null;
+    }
+
+    /**
+     * @return The text without separators if it is a decimal number, otherwise null
+     */
+    private static String decimal(String text) {
+        String stripped = stripSeparators(text);
+        return DECIMAL.matcher(stripped).matches() ? stripped : null;
+    }
+
+    private static LocalDateTime parseDateTime(String text) {
+        int split = text.indexOf('T');
+        if (split < 0) {
+            split = text.indexOf(' ');
+        }
+        if (split < 0) {
+            LocalDate date = parseDate(text, 0, text.length());
+            return date != null ? date.atStartOfDay() : null;
+        }
+        LocalDate date = parseDate(text, 0, split);
+        LocalTime time = date != null ? parseTime(text, split + 1, text.length()) : null;
+        return time != null ? LocalDateTime.of(date, time) : null;
+    }
+
+    private static LocalDate parseDate(String text, int start, int end) {
+        if (end - start == 10 && text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-') {
+            return date(number(text, start, start + 4), number(text, start + 5, start + 7),
+                    number(text, start + 8, end));
+        }
+
+        int firstSlash = text.indexOf('/', start);
+        int secondSlash = firstSlash < 0 ? -1 : text.indexOf('/', firstSlash + 1);
+        if (secondSlash < 0 || secondSlash >= end || end - secondSlash - 1 != 4
+                || firstSlash - start > 2 || secondSlash - firstSlash - 1 > 2) {
+            return null;
+        }
+        int first = number(text, start, firstSlash);
+        int second = number(text, firstSlash + 1, secondSlash);
+        int year = number(text, secondSlash + 1, end);
+        LocalDate dayFirst = date(year, second, first);
+        return dayFirst != null ? dayFirst : date(year, first, second);
+    }
+
+    /**
+     * Parse {@code HH:mm}, {@code HH:mm:ss} or {@code HH:mm:ss.fraction}
+     */
+    private static LocalTime parseTime(String text, int start, int end) {
+        int length = end - start;
+        if ((length != 5 && length < 8) || text.charAt(start + 2) != ':') {
+            return null;
+        }
+        int hour = number(text, start, start + 2);
+        int minute = number(text, start + 3, start + 5);
+        int second = 0;
+        int nano = 0;
+        if (length >= 8) {
+            if (text.charAt(start + 5) != ':') {
+                return null;
+            }
+            second = number(text, start + 6, start + 8);
+            if (length > 8) {
+                int fractionDigits = length - 9;
+                if (text.charAt(start + 8) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                    return null;
+                }
+                int fraction = number(text, start + 9, end);
+                if (fraction < 0) {
+                    return null;
+                }
+                nano = fraction * NANO_SCALE[9 - fractionDigits];
+            }
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, nano);
+    }
+
+    private static LocalDate date(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * @return The value of the digits between start and end, or -1 if there are none or
+     *         another character is found
+     */
+    private static int number(String text, int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+package vn.com.fecredit.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import vn.com.fecredit.app.service.ImportProgressTracker;
+
+/**
+ * Saturates the virtual-thread executor built by {@link AsyncConfig}
+ */
+class AsyncConfigTest {
+
+    private final AsyncTaskExecutor executor = new AsyncConfig().taskExecutor(true, 2);
+
+    @Test
+    void saturatedExecutorRejectsWithoutBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { })));
+
+        release.countDown();
+        CountDownLatch ran = new CountDownLatch(1);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            // Slots free up as the released tasks finish
+            while (true) {
+                try {
+                    executor.execute(ran::countDown);
+                    return;
+                } catch (TaskRejectedException e) {
+                    Thread.sleep(10);
+                }
+            }
+        });
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectedJobIsMarkedFailed() throws InterruptedException {
+        ImportProgressTracker tracker = new ImportProgressTracker(executor);
+        CountDownLatch release = new CountDownLatch(1);
+        tracker.createJob("running-1", "Participant");
+        tracker.createJob("running-2", "Participant");
+        tracker.createJob("rejected", "Participant");
+        tracker.startAsyncProcess("running-1", () -> await(release));
+        tracker.startAsyncProcess("running-2", () -> await(release));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> tracker.startAsyncProcess("rejected", () -> { }));
+
+        assertEquals(ImportProgressTracker.Status.FAILED.name(), tracker.getJobStatus("rejected").get("status"));
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package vn.com.fecredit.app.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes between two H2 databases, one standing in for the replica
+ */
+class ReadReplicaRoutingTest {
+
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private ReplicaLagGuard lagGuard;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = database("routing_primary", "primary");
+        replica = database("routing_replica", "replica");
+        setReplicaLag(0);
+        lagGuard = new ReplicaLagGuard(replica, "select seconds from replica_lag", 5, 5);
+        lagGuard.check();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        DataSource routed = routed(replica);
+
+        assertEquals("replica", databaseUsed(routed, true));
+        assertEquals("primary", databaseUsed(routed, false));
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() throws SQLException {
+        setReplicaLag(60);
+        lagGuard.check();
+
+        assertFalse(lagGuard.isReplicaUsable());
+        assertEquals("primary", databaseUsed(routed(replica), true));
+
+        setReplicaLag(1);
+        lagGuard.check();
+
+        assertTrue(lagGuard.isReplicaUsable());
+        assertEquals("replica", databaseUsed(routed(replica), true));
+    }
+
+    @Test
+    void writerReadsFromThePrimaryUntilTheReplicaCanHaveCaughtUp() throws InterruptedException {
+        ReplicaLagGuard shortLagGuard = new ReplicaLagGuard(replica, "select seconds from replica_lag", 0.2, 5);
+        shortLagGuard.check();
+        DataSource routed = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primary, replica, shortLagGuard));
+        assertEquals("replica", databaseUsed(routed, true));
+
+        assertEquals("primary", databaseUsed(routed, false));
+
+        // The writer reads its own write, other threads are not held back by it
+        assertFalse(shortLagGuard.isSettled());
+        assertEquals("primary", databaseUsed(routed, true));
+        assertEquals("replica", CompletableFuture.supplyAsync(() -> databaseUsed(routed, true)).join());
+
+        Thread.sleep(250);
+        assertTrue(shortLagGuard.isSettled());
+        assertEquals("replica", databaseUsed(routed, true));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() {
+        JdbcDataSource unreachable = new JdbcDataSource();
+        unreachable.setURL("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE");
+
+        assertEquals("primary", databaseUsed(routed(unreachable), true));
+        assertFalse(lagGuard.isReplicaUsable());
+    }
+
+    private DataSource routed(DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replicaDataSource, lagGuard));
+    }
+
+    private String databaseUsed(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from database_role", String.class));
+    }
+
+    private void setReplicaLag(double seconds) throws SQLException {
+        try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("delete from replica_lag");
+            statement.execute("insert into replica_lag values (" + seconds + ")");
+        }
+    }
+
+    private static JdbcDataSource database(String name, String role) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists database_role (name varchar(20))");
+            statement.execute("delete from database_role");
+            statement.execute("insert into database_role values ('" + role + "')");
+            statement.execute("create table if not exists replica_lag (seconds double precision)");
+        }
+        return dataSource;
+    }
+}
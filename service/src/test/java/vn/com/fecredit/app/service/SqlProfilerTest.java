@@ -0,0 +1,68 @@
+package vn.com.fecredit.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class SqlProfilerTest {
+
+    @Test
+    void statementsDifferingOnlyInValuesShareAFingerprint() {
+        String first = SqlFingerprint.normalize(
+                "/* load Participant */ select p1_0.id from participants p1_0\n where p1_0.code = 'JOHN001' and p1_0.id in (?, ?, ?)");
+        String second = SqlFingerprint.normalize(
+                "select p1_0.id  from participants p1_0 where p1_0.code = 'JANE002' and p1_0.id in (?)");
+
+        assertEquals("select p1_0.id from participants p1_0 where p1_0.code = ? and p1_0.id in (?)", first);
+        assertEquals(first, second);
+        assertEquals("select * from events where id = ?", SqlFingerprint.normalize("SELECT * FROM events WHERE id = 42"));
+    }
+
+    @Test
+    void topFingerprintsAreOrderedAndAggregated() {
+        SqlProfiler profiler = new SqlProfiler(500, 0, 1000);
+        profiler.record("select * from events where id = 1", 2_000_000);
+        profiler.record("select * from events where id = 2", 4_000_000);
+        profiler.record("select * from participants", 1_000_000);
+
+        List<Map<String, Object>> top = profiler.top(10, "total");
+
+        assertEquals(2, top.size());
+        assertEquals("select * from events where id = ?", top.get(0).get("fingerprint"));
+        assertEquals(2L, top.get(0).get("count"));
+        assertEquals(6.0, top.get(0).get("totalMs"));
+        assertEquals(4.0, top.get(0).get("maxMs"));
+        double p99 = (Double) top.get(0).get("p99Ms");
+        assertTrue(p99 >= 4.0 && p99 <= 5.0, "p99 within one histogram bucket of the maximum: " + p99);
+
+        assertEquals("select * from participants", profiler.top(2, "count").get(1).get("fingerprint"));
+        assertThrows(IllegalArgumentException.class, () -> profiler.top(10, "unknown"));
+    }
+
+    @Test
+    void fingerprintsBeyondTheLimitAreCountedTogether() {
+        SqlProfiler profiler = new SqlProfiler(1, 0, 1000);
+        profiler.record("select * from events", 1_000_000);
+        profiler.record("select * from participants", 1_000_000);
+        profiler.record("select * from rewards", 1_000_000);
+
+        List<Map<String, Object>> top = profiler.top(10, "count");
+
+        assertEquals(SqlProfiler.OTHER, top.get(0).get("fingerprint"));
+        assertEquals(2L, top.get(0).get("count"));
+    }
+
+    @Test
+    void histogramBucketsBoundTheirValues() {
+        for (long micros : new long[] { 1, 3, 5, 17, 1000, 123_456 }) {
+            int bucket = SqlProfiler.bucket(micros * 1000);
+            assertTrue(SqlProfiler.upperBoundMillis(bucket) > micros / 1000.0);
+            assertTrue(bucket == 0 || SqlProfiler.upperBoundMillis(bucket - 1) <= micros / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package vn.com.fecredit.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.dto.TableFetchResponse;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class TableFetchMetricsTest {
+
+    @Autowired
+    private TableDataService tableDataService;
+
+    @Autowired
+    private TableFetchMetrics tableFetchMetrics;
+
+    @Test
+    void timingsAreReportedOnlyWhenRequested() {
+        TableFetchResponse plain = tableDataService.fetchScalarProperties(
+                TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).build());
+        assertEquals(FetchStatus.SUCCESS, plain.getStatus());
+        assertNull(plain.getTimings());
+
+        TableFetchResponse timed = tableDataService.fetchScalarProperties(
+                TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).includeTimings(true).build());
+
+        assertEquals(FetchStatus.SUCCESS, timed.getStatus());
+        assertTrue(timed.getTimings().containsKey("build_query"));
+        assertTrue(timed.getTimings().containsKey("count"));
+        assertTrue(timed.getTimings().containsKey("page"));
+        assertTrue(timed.getTimings().containsKey("convert"));
+        assertTrue(timed.getTimings().get("total") >= timed.getTimings().get("page"));
+        assertFalse(tableFetchMetrics.isRecordingBreakdown());
+    }
+
+    @Test
+    void repositoryFetchReportsPageAndConvertTimings() {
+        TableFetchResponse response = tableDataService.fetchData(
+                TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).includeTimings(true).build());
+
+        assertEquals(FetchStatus.SUCCESS, response.getStatus());
+        assertTrue(response.getTimings().containsKey("page"));
+        assertTrue(response.getTimings().containsKey("convert"));
+        assertTrue(response.getTimings().containsKey("total"));
+    }
+}
@@ -0,0 +1,50 @@
+package vn.com.fecredit.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import vn.com.fecredit.app.config.FileStorageProperties;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableActionRequest;
+import vn.com.fecredit.app.service.dto.TableActionResponse;
+import vn.com.fecredit.app.service.impl.table.EntityMetadataRegistry;
+import vn.com.fecredit.app.service.impl.table.QueryCostGuard;
+
+class ExportServiceTest {
+
+    @TempDir
+    Path exportsDir;
+
+    @Test
+    void rejectedExportLeavesNoFileBehind() throws IOException {
+        FileStorageProperties properties = mock(FileStorageProperties.class);
+        when(properties.getExportsPath()).thenReturn(exportsDir);
+        AsyncTaskExecutor saturated = mock(AsyncTaskExecutor.class);
+        doThrow(new TaskRejectedException("saturated")).when(saturated).execute(any(Runnable.class));
+        ExportService exportService = new ExportService(properties, saturated,
+                mock(QueryCostGuard.class), mock(EntityMetadataRegistry.class));
+        TableActionRequest request = new TableActionRequest();
+        request.setObjectType(ObjectType.Event);
+
+        TableActionResponse response = exportService.processExportAction(request, null);
+
+        assertFalse(response.isSuccess());
+        try (Stream<Path> files = Files.list(exportsDir)) {
+            assertTrue(files.findAny().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package vn.com.fecredit.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.service.ImportProgressTracker;
+import vn.com.fecredit.app.service.SpinGrantService;
+import vn.com.fecredit.app.service.WheelService;
+import vn.com.fecredit.app.service.dto.FilterOperator;
+import vn.com.fecredit.app.service.dto.FilterRequest;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SpinGrantRequest;
+import vn.com.fecredit.app.service.impl.table.ChangeVersions;
+import vn.com.fecredit.app.service.impl.table.PredicateManager;
+
+/**
+ * Runs grants against participants of event 1 added by the test. Their participant IDs
+ * straddle the 100-wide chunks, and a spins-remaining filter keeps the seeded rows out.
+ */
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class SpinGrantServiceImplTest {
+
+    private static final int MARKER_SPINS = 700;
+    private static final List<Long> MATCHING_IDS = List.of(100L, 101L, 250L);
+    private static final long UNMATCHED_ID = 102L;
+
+    @Autowired
+    private SpinGrantService spinGrantService;
+
+    @Autowired
+    private WheelService wheelService;
+
+    @Autowired
+    private ImportProgressTracker progressTracker;
+
+    @Autowired
+    private ChangeVersions changeVersions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private PredicateManager predicateManager;
+
+    @BeforeEach
+    void setUp() {
+        for (long id : MATCHING_IDS) {
+            insertParticipantEvent(id, MARKER_SPINS);
+        }
+        insertParticipantEvent(UNMATCHED_ID, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM participant_events WHERE participant_id BETWEEN 100 AND 250");
+        jdbcTemplate.update("DELETE FROM participants WHERE id BETWEEN 100 AND 250");
+    }
+
+    @Test
+    void grantUpdatesMatchedRowsAcrossChunks() {
+        long updated = spinGrantService.grantSpins(request(3, 100), null);
+
+        assertEquals(MATCHING_IDS.size(), updated);
+        for (long id : MATCHING_IDS) {
+            assertEquals(MARKER_SPINS + 3, spinsRemaining(id));
+            assertEquals(3, jdbcTemplate.queryForObject(
+                    "SELECT last_adding_spin FROM participants WHERE id = ?", Integer.class, id));
+        }
+        assertEquals(5, spinsRemaining(UNMATCHED_ID));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT last_adding_spin FROM participants WHERE id = ?", Integer.class, UNMATCHED_ID));
+    }
+
+    @Test
+    void filterOnTheBalanceStampsTheRowsItGranted() {
+        SpinGrantRequest request = SpinGrantRequest.builder()
+                .spins(3)
+                .chunkSize(100)
+                .filters(List.of(new FilterRequest("participant.code", FilterOperator.STARTS_WITH, "GRANT"),
+                        new FilterRequest("spinsRemaining", FilterOperator.LE, 5)))
+                .build();
+
+        assertEquals(1, spinGrantService.grantSpins(request, null));
+
+        assertEquals(8, spinsRemaining(UNMATCHED_ID));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT last_adding_spin FROM participants WHERE id = ?", Integer.class, UNMATCHED_ID));
+        assertEquals(MARKER_SPINS, spinsRemaining(100L));
+    }
+
+    @Test
+    void grantCompletesTheJob() {
+        String jobId = UUID.randomUUID().toString();
+        progressTracker.createJob(jobId, ObjectType.ParticipantEvent.name());
+
+        spinGrantService.grantSpins(request(1, 100), jobId);
+
+        assertEquals(ImportProgressTracker.Status.COMPLETED.name(), progressTracker.getJobStatus(jobId).get("status"));
+        assertEquals(100, progressTracker.getJobStatus(jobId).get("importProgress"));
+    }
+
+    @Test
+    void grantEvictsCachedBalancesAndVersions() {
+        assertEquals(MARKER_SPINS, wheelService.getSpinsRemaining(1L, 100L));
+        long version = changeVersions.current(ObjectType.ParticipantEvent);
+
+        spinGrantService.grantSpins(request(2, 100), null);
+
+        assertEquals(MARKER_SPINS + 2, wheelService.getSpinsRemaining(1L, 100L));
+        assertTrue(changeVersions.current(ObjectType.ParticipantEvent) > version);
+    }
+
+    @Test
+    void failedChunkMarksTheJobFailed() {
+        doThrow(new IllegalStateException("boom")).when(predicateManager).applyFilters(any(), any(), any(), any());
+        String jobId = UUID.randomUUID().toString();
+        progressTracker.createJob(jobId, ObjectType.ParticipantEvent.name());
+
+        assertThrows(IllegalStateException.class, () -> spinGrantService.grantSpins(request(1, 100), jobId));
+
+        assertEquals(ImportProgressTracker.Status.FAILED.name(), progressTracker.getJobStatus(jobId).get("status"));
+        assertEquals(MARKER_SPINS, spinsRemaining(100L));
+    }
+
+    @Test
+    void grantWithoutSpinsIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> spinGrantService.grantSpins(request(0, 100), null));
+    }
+
+    private static SpinGrantRequest request(int spins, int chunkSize) {
+        return SpinGrantRequest.builder()
+                .spins(spins)
+                .chunkSize(chunkSize)
+                .filters(List.of(new FilterRequest("spinsRemaining", FilterOperator.GE, MARKER_SPINS)))
+                .build();
+    }
+
+    private int spinsRemaining(long participantId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT spins_remaining FROM participant_events WHERE participant_id = ? AND event_id = 1 AND region_id = 1",
+                Integer.class, participantId);
+    }
+
+    private void insertParticipantEvent(long participantId, int spins) {
+        jdbcTemplate.update("INSERT INTO participants (id, version, status, name, code, last_adding_spin) "
+                + "VALUES (?, 0, 'ACTIVE', ?, ?, 0)", participantId, "Grant " + participantId, "GRANT" + participantId);
+        jdbcTemplate.update("INSERT INTO participant_events (participant_id, event_id, region_id, status, "
+                + "spins_remaining, version) VALUES (?, 1, 1, 'ACTIVE', ?, 0)", participantId, spins);
+    }
+}
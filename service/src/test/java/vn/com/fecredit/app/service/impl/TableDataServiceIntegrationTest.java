@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,6 +28,9 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +45,7 @@ import vn.com.fecredit.app.service.dto.FieldType;
 import vn.com.fecredit.app.service.dto.FilterRequest;
 import vn.com.fecredit.app.service.dto.FilterType;
 import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.ResponseFormat;
 import vn.com.fecredit.app.service.dto.SortRequest;
 import vn.com.fecredit.app.service.dto.SortType;
 import vn.com.fecredit.app.service.dto.TabTableRow;
@@ -278,6 +283,118 @@ public class TableDataServiceIntegrationTest {
         }
     }
 
+    @Test
+    void testCursorPaginationVisitsEveryRowOnce() {
+        long expectedTotalUsers = countUsers();
+        List<SortRequest> sorts = Collections.singletonList(new SortRequest("username", SortType.DESCENDING));
+
+        Set<String> seenUsernames = new HashSet<>();
+        List<String> orderedUsernames = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TableFetchRequest request = TableFetchRequest.builder()
+                    .objectType(ObjectType.User)
+                    .size(2)
+                    .sorts(sorts)
+                    .cursorMode(true)
+                    .cursor(cursor)
+                    .build();
+
+            TableFetchResponse response = tableDataService.fetchData(request);
+
+            assertNotEquals(FetchStatus.ERROR, response.getStatus(), response.getMessage());
+            assertNotNull(response.getHasNext());
+            for (TableRow row : response.getRows()) {
+                String username = (String) row.getData().get("username");
+                assertTrue(seenUsernames.add(username), "Row returned twice: " + username);
+                orderedUsernames.add(username);
+            }
+
+            cursor = response.getNextCursor();
+            assertEquals(response.getHasNext(), cursor != null);
+            pages++;
+        } while (cursor != null && pages < 1000);
+
+        assertEquals(expectedTotalUsers, seenUsernames.size());
+
+        List<String> sortedUsernames = new ArrayList<>(orderedUsernames);
+        sortedUsernames.sort(Collections.reverseOrder());
+        assertEquals(sortedUsernames, orderedUsernames);
+    }
+
+    @Test
+    void testCursorPaginationOverNullableSortKey() {
+        // Two regions get a description, the rest keep null
+        entityManager.createNativeQuery("UPDATE regions SET description = 'b' WHERE id = 1").executeUpdate();
+        entityManager.createNativeQuery("UPDATE regions SET description = 'a' WHERE id = 3").executeUpdate();
+        long expectedTotalRegions = (long) entityManager.createQuery("SELECT COUNT(r) FROM Region r").getSingleResult();
+
+        for (SortType sortType : List.of(SortType.ASCENDING, SortType.DESCENDING)) {
+            List<SortRequest> sorts = Collections.singletonList(new SortRequest("description", sortType));
+            List<Object> ids = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                TableFetchRequest request = TableFetchRequest.builder()
+                        .objectType(ObjectType.Region)
+                        .size(2)
+                        .sorts(sorts)
+                        .cursorMode(true)
+                        .cursor(cursor)
+                        .build();
+
+                TableFetchResponse response = tableDataService.fetchData(request);
+
+                assertNotEquals(FetchStatus.ERROR, response.getStatus(), response.getMessage());
+                response.getRows().forEach(row -> ids.add(row.getData().get("id")));
+                cursor = response.getNextCursor();
+                pages++;
+            } while (cursor != null && pages < 100);
+
+            assertEquals(expectedTotalRegions, ids.size(), sortType + " pages: " + ids);
+            assertEquals(expectedTotalRegions, new HashSet<>(ids).size(), sortType + " pages: " + ids);
+            Object first = ids.get(0);
+            Object last = ids.get(ids.size() - 1);
+            // Nulls last ascending, first descending
+            if (sortType == SortType.ASCENDING) {
+                assertEquals(3L, ((Number) first).longValue());
+            } else {
+                assertEquals(3L, ((Number) last).longValue());
+            }
+        }
+    }
+
+    @Test
+    void testCursorPaginationPastRowWithoutNestedSortAssociation() {
+        // Only spins 1 (multiplier 2.0) and 6 (1.5) have a golden hour
+        long expectedTotalSpins = (long) entityManager.createQuery("SELECT COUNT(s) FROM SpinHistory s").getSingleResult();
+        List<SortRequest> sorts = Collections.singletonList(new SortRequest("goldenHour.multiplier", SortType.ASCENDING));
+        List<Object> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TableFetchRequest request = TableFetchRequest.builder()
+                    .objectType(ObjectType.SpinHistory)
+                    .size(2)
+                    .sorts(sorts)
+                    .cursorMode(true)
+                    .cursor(cursor)
+                    .build();
+
+            TableFetchResponse response = tableDataService.fetchData(request);
+
+            assertNotEquals(FetchStatus.ERROR, response.getStatus(), response.getMessage());
+            response.getRows().forEach(row -> ids.add(((Number) row.getData().get("id")).longValue()));
+            cursor = response.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 100);
+
+        assertEquals(expectedTotalSpins, ids.size(), "pages: " + ids);
+        assertEquals(expectedTotalSpins, new HashSet<>(ids).size(), "pages: " + ids);
+        assertEquals(List.of(6L, 1L), ids.subList(0, 2));
+    }
+
     @Test
     void testFetchDataWithRelatedLinkedObjects() {
         // Create a request with search criteria for related roles
@@ -1213,6 +1330,94 @@ public class TableDataServiceIntegrationTest {
         }
     }
 
+    @Test
+    void fetchUsers_Columnar_ShouldCarrySameValuesAsRows() {
+        TableFetchRequest rowsRequest = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(10).build()
+                .addSort("id", SortType.ASCENDING);
+        TableFetchRequest columnarRequest = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(10)
+                .format(ResponseFormat.COLUMNAR).build()
+                .addSort("id", SortType.ASCENDING);
+
+        TableFetchResponse rows = tableDataService.fetchData(rowsRequest);
+        TableFetchResponse columnar = tableDataService.fetchData(columnarRequest);
+
+        assertEquals(rows.getStatus(), columnar.getStatus());
+        assertEquals(rows.getTotalElements(), columnar.getTotalElements());
+        assertEquals(ResponseFormat.COLUMNAR, columnar.getFormat());
+        assertNotNull(columnar.getColumns());
+        assertEquals(rows.getRows().size(), columnar.getValues().size());
+
+        for (int r = 0; r < columnar.getValues().size(); r++) {
+            Map<String, Object> expected = rows.getRows().get(r).getData();
+            Object[] values = columnar.getValues().get(r);
+            assertEquals(columnar.getColumns().size(), values.length);
+            for (int c = 0; c < values.length; c++) {
+                String column = columnar.getColumns().get(c);
+                assertEquals(expected.get(column), values[c], "Value of " + column + " in row " + r);
+            }
+        }
+    }
+
+    @Test
+    void fetchScalarUsers_Columnar_ShouldCarryViewIdLikeRows() {
+        TableFetchRequest rowsRequest = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(10).build()
+                .addSort("id", SortType.ASCENDING);
+        TableFetchRequest columnarRequest = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(10)
+                .format(ResponseFormat.COLUMNAR).build()
+                .addSort("id", SortType.ASCENDING);
+
+        TableFetchResponse rows = tableDataService.fetchScalarProperties(rowsRequest);
+        TableFetchResponse columnar = tableDataService.fetchScalarProperties(columnarRequest);
+
+        assertEquals(ResponseFormat.COLUMNAR, columnar.getFormat());
+        assertTrue(columnar.getColumns().contains("viewId"), "columns: " + columnar.getColumns());
+        assertEquals(rows.getRows().size(), columnar.getValues().size());
+        for (int r = 0; r < columnar.getValues().size(); r++) {
+            Map<String, Object> expected = rows.getRows().get(r).getData();
+            Object[] values = columnar.getValues().get(r);
+            assertEquals(columnar.getColumns().size(), values.length);
+            for (int c = 0; c < values.length; c++) {
+                String column = columnar.getColumns().get(c);
+                assertEquals(expected.get(column), values[c], "Value of " + column + " in row " + r);
+            }
+        }
+    }
+
+    @Test
+    void streamUsers_ShouldWriteSameRowsAsPagedFetch() throws Exception {
+        TableFetchRequest pagedRequest = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(1000).build();
+        TableFetchRequest streamRequest = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(0).build();
+
+        TableFetchResponse paged = tableDataService.fetchScalarProperties(pagedRequest);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = tableDataService.streamData(streamRequest, out);
+
+        JsonNode streamed = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(paged.getRows().size(), written);
+        assertEquals(written, streamed.get("rows").size());
+        assertEquals(written, streamed.get("totalElements").asLong());
+        assertEquals(paged.getTableName(), streamed.get("tableName").asText());
+        assertEquals(FetchStatus.SUCCESS.name(), streamed.get("status").asText());
+        if (written > 0) {
+            assertTrue(streamed.get("rows").get(0).get("data").has("id"), "Streamed rows should carry the id column");
+        }
+    }
+
+    @Test
+    void streamEvents_ShouldWriteEachEventOnceInIdOrder() throws Exception {
+        TableFetchRequest streamRequest = TableFetchRequest.builder().objectType(ObjectType.Event).page(0).size(0).build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = tableDataService.streamData(streamRequest, out);
+
+        JsonNode rows = new ObjectMapper().readTree(out.toByteArray()).get("rows");
+        List<Long> ids = new ArrayList<>();
+        rows.forEach(row -> ids.add(row.get("data").get("id").asLong()));
+        long expectedTotalEvents = (long) entityManager.createQuery("SELECT COUNT(e) FROM Event e").getSingleResult();
+        assertEquals(expectedTotalEvents, written);
+        assertEquals(ids.stream().sorted().distinct().collect(Collectors.toList()), ids);
+    }
+
     /**
      * Helper method to create a DataObject for search criteria
      *
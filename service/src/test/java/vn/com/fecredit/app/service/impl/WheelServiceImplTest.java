@@ -0,0 +1,58 @@
+package vn.com.fecredit.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.service.WheelService;
+import vn.com.fecredit.app.service.dto.SpinHistoryItem;
+import vn.com.fecredit.app.service.dto.SpinHistoryPage;
+
+/**
+ * Spin history paging against the seeded spins of event 1 (ids 1 and 2, newest first)
+ */
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class WheelServiceImplTest {
+
+    @Autowired
+    private WheelService wheelService;
+
+    @Test
+    void pagesWithoutCursorDoNotSkipRowsAtBoundaries() {
+        SpinHistoryPage first = wheelService.getSpinHistory(1L, null, null, 0, 1);
+        SpinHistoryPage second = wheelService.getSpinHistory(1L, null, null, 1, 1);
+
+        assertEquals(List.of(1L), ids(first));
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(2L), ids(second));
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void cursorContinuesAfterTheLastRow() {
+        SpinHistoryPage first = wheelService.getSpinHistory(1L, null, null, 0, 1);
+        SpinHistoryPage second = wheelService.getSpinHistory(1L, null, first.getNextCursor(), 0, 1);
+
+        assertEquals(List.of(2L), ids(second));
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> wheelService.getSpinHistory(1L, null, "not-a-cursor", 0, 10));
+    }
+
+    private static List<Long> ids(SpinHistoryPage page) {
+        return page.getSpins().stream().map(SpinHistoryItem::getId).toList();
+    }
+}
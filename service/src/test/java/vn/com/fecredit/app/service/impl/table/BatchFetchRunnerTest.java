@@ -0,0 +1,110 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.service.TableDataService;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.dto.TableFetchResponse;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class BatchFetchRunnerTest {
+
+    @Autowired
+    private TableDataService tableDataService;
+
+    @Autowired
+    private BatchFetchRunner batchFetchRunner;
+
+    @Test
+    void responsesFollowRequestOrder() {
+        TableFetchResponse participants = tableDataService.fetchData(
+                TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).build());
+        TableFetchResponse spinHistories = tableDataService.fetchData(
+                TableFetchRequest.builder().objectType(ObjectType.SpinHistory).size(10).build());
+
+        List<TableFetchResponse> responses = tableDataService.fetchBatch(List.of(
+                TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).build(),
+                TableFetchRequest.builder().objectType(ObjectType.SpinHistory).size(10).build(),
+                TableFetchRequest.builder().build()));
+
+        assertEquals(3, responses.size());
+        assertEquals(FetchStatus.SUCCESS, responses.get(0).getStatus());
+        assertEquals(participants.getTotalElements(), responses.get(0).getTotalElements());
+        assertEquals(FetchStatus.SUCCESS, responses.get(1).getStatus());
+        assertEquals(spinHistories.getTotalElements(), responses.get(1).getTotalElements());
+        // A failing request does not fail the batch
+        assertEquals(FetchStatus.ERROR, responses.get(2).getStatus());
+    }
+
+    @Test
+    void oversizedBatchIsRejected() {
+        List<Integer> requests = Collections.nCopies(21, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> batchFetchRunner.runAll(requests, request -> request));
+    }
+
+    @Test
+    void concurrentBatchesShareTheConnectionLimit() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:batch_pool;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(1000);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            BatchFetchRunner runner = new BatchFetchRunner(new DataSourceTransactionManager(dataSource), 20, 2);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger mostRunning = new AtomicInteger();
+
+            // Eight batches of four fetches against a pool of two connections
+            ExecutorService callers = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<List<Integer>>> batches = new ArrayList<>();
+                for (int b = 0; b < 8; b++) {
+                    batches.add(callers.submit(() -> runner.runAll(List.of(1, 2, 3, 4), request -> {
+                        mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                            return jdbcTemplate.queryForObject("SELECT ?", Integer.class, request);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        } finally {
+                            running.decrementAndGet();
+                        }
+                    })));
+                }
+                for (Future<List<Integer>> batch : batches) {
+                    assertEquals(List.of(1, 2, 3, 4), batch.get(30, TimeUnit.SECONDS));
+                }
+            } finally {
+                callers.shutdownNow();
+            }
+            assertTrue(mostRunning.get() <= 2, "At most two fetches should hold a connection, saw " + mostRunning.get());
+        }
+    }
+}
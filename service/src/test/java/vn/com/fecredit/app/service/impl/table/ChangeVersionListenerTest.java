@@ -0,0 +1,77 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.EventLocationKey;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.ParticipantEventKey;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+/**
+ * Spins participant 1 in event 1, region 1 (five spins seeded) and puts the row back
+ * afterwards, since other tests page the seeded spin histories.
+ */
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class ChangeVersionListenerTest {
+
+    private static final ParticipantEventKey KEY = new ParticipantEventKey(new EventLocationKey(1L, 1L), 1L);
+
+    @Autowired
+    private ChangeVersions changeVersions;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM spin_histories WHERE id > 6");
+        jdbcTemplate.update("UPDATE participant_events SET spins_remaining = 5 "
+                + "WHERE participant_id = 1 AND event_id = 1 AND region_id = 1");
+    }
+
+    @Test
+    void spinInvalidatesTheSpinHistoryEtag() {
+        TableFetchRequest spinHistories = TableFetchRequest.builder().objectType(ObjectType.SpinHistory).build();
+        String before = changeVersions.etag(spinHistories);
+        assertNotNull(before);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.find(ParticipantEvent.class, KEY).spin());
+
+        assertNotEquals(before, changeVersions.etag(spinHistories));
+    }
+
+    @Test
+    void rolledBackSpinKeepsTheVersion() {
+        long version = changeVersions.current(ObjectType.SpinHistory);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.find(ParticipantEvent.class, KEY).spin();
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(version, changeVersions.current(ObjectType.SpinHistory));
+    }
+}
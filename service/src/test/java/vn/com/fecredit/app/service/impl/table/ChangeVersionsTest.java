@@ -0,0 +1,64 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FilterType;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+class ChangeVersionsTest {
+
+    private final ChangeVersions changeVersions = new ChangeVersions(new CountCache(60), false, 5);
+
+    @Test
+    void etagIsStableUntilTheTypeChanges() {
+        String before = changeVersions.etag(users(0));
+
+        assertEquals(before, changeVersions.etag(users(0)));
+
+        changeVersions.bump(ObjectType.Event);
+        assertEquals(before, changeVersions.etag(users(0)));
+
+        changeVersions.bumpAfterCommit(ObjectType.User);
+        assertEquals(1, changeVersions.current(ObjectType.User));
+        assertNotEquals(before, changeVersions.etag(users(0)));
+    }
+
+    @Test
+    void etagDependsOnPageAndSortOrder() {
+        assertNotEquals(changeVersions.etag(users(0)), changeVersions.etag(users(1)));
+        assertNotEquals(changeVersions.etag(users(0).addSort("username", SortType.ASCENDING)),
+                changeVersions.etag(users(0).addSort("username", SortType.DESCENDING)));
+    }
+
+    @Test
+    void joinedFetchesFollowChangesToAnyType() {
+        TableFetchRequest joined = users(0);
+        joined.getViewColumns().add(ColumnInfo.builder().fieldName("role.name").build());
+        String before = changeVersions.etag(joined);
+
+        changeVersions.bump(ObjectType.Role);
+
+        assertNotEquals(before, changeVersions.etag(joined));
+    }
+
+    @Test
+    void noEtagWhileTheReplicaMayLag() {
+        ChangeVersions withReplica = new ChangeVersions(new CountCache(60), true, 60);
+
+        withReplica.bump(ObjectType.User);
+
+        assertNull(withReplica.etag(users(0)));
+    }
+
+    private static TableFetchRequest users(int page) {
+        return TableFetchRequest.builder().objectType(ObjectType.User).page(page).build()
+                .addSimpleFilter("status", FilterType.EQUALS, "ACTIVE");
+    }
+}
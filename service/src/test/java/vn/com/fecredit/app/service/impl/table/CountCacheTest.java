@@ -0,0 +1,55 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import vn.com.fecredit.app.service.dto.FilterType;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+class CountCacheTest {
+
+    private final CountCache countCache = new CountCache(60);
+
+    @Test
+    void countIsReusedAcrossPagesAndSorts() {
+        AtomicInteger counted = new AtomicInteger();
+        TableFetchRequest first = TableFetchRequest.builder().objectType(ObjectType.User).page(0).build()
+                .addSimpleFilter("status", FilterType.EQUALS, "ACTIVE");
+        TableFetchRequest later = TableFetchRequest.builder().objectType(ObjectType.User).page(7).build()
+                .addSimpleFilter("status", FilterType.EQUALS, "ACTIVE")
+                .addSort("username", SortType.DESCENDING);
+
+        assertEquals(42L, countCache.getOrCount(first, () -> counted.incrementAndGet() * 42L));
+        assertEquals(42L, countCache.getOrCount(later, () -> counted.incrementAndGet() * 42L));
+        assertEquals(1, counted.get());
+    }
+
+    @Test
+    void filterOrderDoesNotChangeSignature() {
+        TableFetchRequest a = TableFetchRequest.builder().objectType(ObjectType.User).build()
+                .addSimpleFilter("status", FilterType.EQUALS, "ACTIVE")
+                .addSimpleFilter("username", FilterType.CONTAINS, "adm");
+        TableFetchRequest b = TableFetchRequest.builder().objectType(ObjectType.User).build()
+                .addSimpleFilter("username", FilterType.CONTAINS, "adm")
+                .addSimpleFilter("status", FilterType.EQUALS, "ACTIVE");
+
+        assertEquals(countCache.signature(a), countCache.signature(b));
+    }
+
+    @Test
+    void evictForcesRecount() {
+        AtomicInteger counted = new AtomicInteger();
+        TableFetchRequest request = TableFetchRequest.builder().objectType(ObjectType.Event).build();
+
+        countCache.getOrCount(request, counted::incrementAndGet);
+        countCache.evictAfterCommit(ObjectType.Event);
+        countCache.getOrCount(request, counted::incrementAndGet);
+
+        assertEquals(2, counted.get());
+    }
+}
@@ -363,6 +363,34 @@ class CriteriaQueryBuilderTest {    @PersistenceContext
         }
     }
 
+    @Test
+    void countTotalRecords_WithFilterTree_ShouldMatchUnpagedResults() {
+        // Arrange
+        TableFetchRequest request = new TableFetchRequest();
+        request.setObjectType(ObjectType.Event);
+        request.setPage(0);
+        request.setSize(1000);
+
+        FilterRequest nameFilter = new FilterRequest();
+        nameFilter.setField("name");
+        nameFilter.setFilterType(FilterType.CONTAINS);
+        nameFilter.setMinValue("Event");
+        request.setFilters(Collections.singletonList(nameFilter));
+        request.setViewColumns(Arrays.asList(
+            new ColumnInfo("id", FieldType.NUMBER, SortType.NONE),
+            new ColumnInfo("name", FieldType.STRING, SortType.NONE)
+        ));
+
+        // Act - one filter tree compiled into both queries
+        FilterNode filter = FilterNode.of(request);
+        CriteriaQuery<Tuple> query = queryManager.buildCriteriaQuery(request, Event.class, filter);
+        List<Tuple> results = entityManager.createQuery(query).getResultList();
+        long count = queryManager.countTotalRecords(request, Event.class, filter);
+
+        // Assert
+        assertEquals(results.size(), count, "Count query should apply the same restrictions as the page query");
+    }
+
     @Test
     void buildCriteriaQuery_WithMultipleFilters_ShouldBuildValidQuery() {
         // Arrange
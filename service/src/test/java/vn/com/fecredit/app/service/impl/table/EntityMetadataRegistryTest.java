@@ -0,0 +1,54 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.Event;
+import vn.com.fecredit.app.entity.EventLocation;
+import vn.com.fecredit.app.entity.Region;
+import vn.com.fecredit.app.service.dto.ObjectType;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class EntityMetadataRegistryTest {
+
+    @Autowired
+    private EntityMetadataRegistry metadataRegistry;
+
+    @Test
+    void entityMetadataComesFromMetamodel() {
+        EntityMetadataRegistry.EntityMetadata event = metadataRegistry.get(Event.class);
+
+        assertNotNull(event);
+        assertTrue(event.entity());
+        assertEquals("events", event.tableName());
+        assertEquals("id", event.idAttributes().get(0));
+
+        EntityMetadataRegistry.AttributeMetadata locations = event.attribute("locations");
+        assertTrue(locations.association());
+        assertTrue(locations.collection());
+        assertEquals(EventLocation.class, locations.targetType());
+
+        // Inherited attributes are part of the metadata too
+        assertNotNull(event.attribute("status"));
+        assertNotNull(event.attributeIgnoreCase("STARTTIME"));
+        assertNull(event.attribute("noSuchField"));
+    }
+
+    @Test
+    void objectTypesAndRelationshipPathsArePrecomputed() {
+        assertEquals(Event.class, metadataRegistry.entityClass(ObjectType.Event));
+        assertEquals("locations.region", metadataRegistry.relationshipPath(Event.class, Region.class));
+        assertEquals("", metadataRegistry.relationshipPath(Event.class, Event.class));
+        assertFalse(metadataRegistry.get(EventLocation.class).attribute("region").collection());
+    }
+}
@@ -0,0 +1,59 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.Participant;
+
+@SpringBootTest(classes = ServiceTestApplication.class, properties = "app.search.enabled=true")
+@ActiveProfiles("test")
+@Transactional
+class FullTextSearchIndexTest {
+
+    @Autowired
+    private FullTextSearchIndex fullTextSearchIndex;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // Seed data is inserted by SQL script, which Hibernate Search does not see
+        fullTextSearchIndex.rebuild();
+    }
+
+    @Test
+    void substringSearchResolvesToIds() {
+        Optional<List<Object>> ids = fullTextSearchIndex.findIds(Participant.class, "name", "JOHN");
+
+        assertTrue(ids.isPresent());
+        // "John Doe" and "Robert Johnson"
+        assertTrue(ids.get().contains(1L));
+        assertTrue(ids.get().contains(3L));
+        assertFalse(ids.get().contains(2L));
+    }
+
+    @Test
+    void accentsAreIgnored() {
+        Optional<List<Object>> ids = fullTextSearchIndex.findIds(Participant.class, "address", "Phạm Văn");
+
+        assertTrue(ids.isPresent());
+        assertEquals(List.of(1L), ids.get());
+    }
+
+    @Test
+    void unusableSearchesFallBackToLike() {
+        assertFalse(fullTextSearchIndex.findIds(Participant.class, "name", "jo").isPresent());
+        assertFalse(fullTextSearchIndex.isIndexed(Participant.class, "status"));
+        assertFalse(fullTextSearchIndex.findIds(Participant.class, "status", "ACTIVE").isPresent());
+    }
+}
@@ -0,0 +1,74 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.service.TableDataService;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.dto.TableFetchResponse;
+
+@SpringBootTest(classes = ServiceTestApplication.class, properties = "app.table.parallel-count.enabled=true")
+@ActiveProfiles("test")
+class ParallelCountRunnerTest {
+
+    @Autowired
+    private ParallelCountRunner parallelCountRunner;
+
+    @Autowired
+    private TableDataService tableDataService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countRunsOnAnotherThread() {
+        AtomicReference<Thread> countThread = new AtomicReference<>();
+
+        ParallelCountRunner.Result<String> result = parallelCountRunner.run(
+                () -> {
+                    countThread.set(Thread.currentThread());
+                    return 42L;
+                },
+                () -> "page");
+
+        assertEquals(42L, result.count());
+        assertEquals("page", result.page());
+        assertNotEquals(Thread.currentThread(), countThread.get());
+    }
+
+    @Test
+    void joinHeavyFetchCountsAllRowsAcrossPages() {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM spin_histories ORDER BY id", Long.class);
+        int pageSize = 4;
+        assertTrue(ids.size() > pageSize, "Seed data should span more than one page");
+
+        List<Long> pagedIds = new ArrayList<>();
+        for (int page = 0; page * pageSize < ids.size(); page++) {
+            TableFetchResponse response = tableDataService.fetchScalarProperties(TableFetchRequest.builder()
+                    .objectType(ObjectType.SpinHistory).page(page).size(pageSize).build()
+                    .addSort("id", SortType.ASCENDING));
+
+            assertEquals(FetchStatus.SUCCESS, response.getStatus(), response.getMessage());
+            assertEquals(ids.size(), response.getTotalElements());
+            assertEquals(Math.min(pageSize, ids.size() - page * pageSize), response.getRows().size());
+            response.getRows().forEach(row -> pagedIds.add(((Number) row.getData().get("id")).longValue()));
+        }
+
+        assertEquals(ids, pagedIds);
+    }
+}
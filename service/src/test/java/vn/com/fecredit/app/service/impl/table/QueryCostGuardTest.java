@@ -0,0 +1,89 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.service.TableDataService;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.dto.TableFetchResponse;
+import vn.com.fecredit.app.service.exception.QueryRejectedException;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class QueryCostGuardTest {
+
+    @Autowired
+    private TableDataService tableDataService;
+
+    @Autowired
+    private QueryCostGuard queryCostGuard;
+
+    @Autowired
+    private QueryCostEstimator queryCostEstimator;
+
+    @Test
+    void normalFetchIsAdmitted() {
+        TableFetchResponse response = tableDataService.fetchData(
+                TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).build());
+
+        assertEquals(FetchStatus.SUCCESS, response.getStatus());
+    }
+
+    @Test
+    void oversizedPageIsRejectedInteractivelyButNotForExport() {
+        TableFetchRequest request = TableFetchRequest.builder().objectType(ObjectType.Participant).size(5000).build();
+
+        TableFetchResponse response = tableDataService.fetchData(request);
+
+        assertEquals(FetchStatus.ERROR, response.getStatus());
+        assertTrue(response.getMessage().contains("Page size"));
+        try (QueryCostGuard.Permit permit = queryCostGuard.admit(request, Participant.class,
+                QueryCostGuard.Lane.EXPORT)) {
+            // admitted
+        }
+    }
+
+    @Test
+    void deepJoinsAreRejected() {
+        TableFetchRequest request = TableFetchRequest.builder()
+                .objectType(ObjectType.Participant)
+                .size(10)
+                .viewColumns(List.of(ColumnInfo.builder().fieldName("province.region.events.eventLocations.name").build()))
+                .build();
+
+        QueryCost cost = queryCostEstimator.estimate(request, Participant.class);
+
+        assertEquals(4, cost.joins());
+        assertEquals(4, cost.maxJoinDepth());
+        assertThrows(QueryRejectedException.class,
+                () -> queryCostGuard.admit(request, Participant.class, QueryCostGuard.Lane.STREAM));
+    }
+
+    @Test
+    void scoreIsUnknownWithoutCatalogStatistics() {
+        TableFetchRequest request = TableFetchRequest.builder().objectType(ObjectType.Participant).size(10).build();
+
+        QueryCost cost = queryCostEstimator.estimate(request, Participant.class);
+
+        // The tests run on H2, which has no pg_class statistics to read
+        assertEquals(-1, cost.estimatedRows());
+        assertEquals(-1, cost.score());
+        try (QueryCostGuard.Permit permit = queryCostGuard.admit(request, Participant.class,
+                QueryCostGuard.Lane.INTERACTIVE)) {
+            // admitted
+        }
+    }
+}
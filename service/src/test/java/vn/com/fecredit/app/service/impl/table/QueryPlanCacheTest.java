@@ -0,0 +1,75 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import vn.com.fecredit.app.entity.User;
+import vn.com.fecredit.app.service.dto.DataObject;
+import vn.com.fecredit.app.service.dto.FilterType;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+class QueryPlanCacheTest {
+
+    private final AtomicInteger compiled = new AtomicInteger();
+
+    private final QueryPlanCache planCache = new QueryPlanCache(new QueryPlanCompiler(null, null) {
+        @Override
+        public Optional<QueryPlan> compile(TableFetchRequest request, Class<?> entityClass) {
+            compiled.incrementAndGet();
+            return Optional.of(new QueryPlan("select r.id as id from User r", "select count(r) from User r",
+                    null, null, null, null, List.of()));
+        }
+    });
+
+    @Test
+    void sameShapeWithDifferentValuesReusesPlan() {
+        TableFetchRequest first = TableFetchRequest.builder().objectType(ObjectType.User).page(0).build()
+                .addSimpleFilter("username", FilterType.CONTAINS, "adm")
+                .addSort("username", SortType.ASCENDING);
+        TableFetchRequest second = TableFetchRequest.builder().objectType(ObjectType.User).page(3).build()
+                .addSimpleFilter("username", FilterType.CONTAINS, "ops")
+                .addSort("username", SortType.ASCENDING);
+
+        assertTrue(planCache.getPlan(first, User.class).isPresent());
+        assertTrue(planCache.getPlan(second, User.class).isPresent());
+
+        Map<String, Object> stats = planCache.getStats();
+        assertEquals(1, compiled.get());
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
+
+    @Test
+    void operatorAndSortDirectionChangeShape() {
+        TableFetchRequest contains = TableFetchRequest.builder().objectType(ObjectType.User).build()
+                .addSimpleFilter("username", FilterType.CONTAINS, "adm");
+        TableFetchRequest equals = TableFetchRequest.builder().objectType(ObjectType.User).build()
+                .addSimpleFilter("username", FilterType.EQUALS, "adm");
+        TableFetchRequest descending = TableFetchRequest.builder().objectType(ObjectType.User).build()
+                .addSimpleFilter("username", FilterType.CONTAINS, "adm")
+                .addSort("username", SortType.DESCENDING);
+
+        assertNotEquals(planCache.shapeKey(contains, User.class), planCache.shapeKey(equals, User.class));
+        assertNotEquals(planCache.shapeKey(contains, User.class), planCache.shapeKey(descending, User.class));
+    }
+
+    @Test
+    void searchRequestsBypassCache() {
+        TableFetchRequest request = TableFetchRequest.builder().objectType(ObjectType.User).build()
+                .addSearch(ObjectType.Role, new DataObject());
+
+        assertTrue(planCache.getPlan(request, User.class).isEmpty());
+        assertEquals(0, compiled.get());
+        assertEquals(1L, planCache.getStats().get("bypassed"));
+    }
+}
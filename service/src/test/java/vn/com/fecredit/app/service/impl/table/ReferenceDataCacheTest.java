@@ -0,0 +1,64 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.Region;
+import vn.com.fecredit.app.service.dto.ObjectType;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.jakarta.persistence.sharedCache.mode=ENABLE_SELECTIVE"
+})
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void evictRemovesCachedReferenceEntities() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            assertNotNull(em.find(Region.class, 1L));
+        } finally {
+            em.close();
+        }
+        assertTrue(entityManagerFactory.getCache().contains(Region.class, 1L));
+
+        referenceDataCache.evict(ObjectType.Region);
+
+        assertFalse(entityManagerFactory.getCache().contains(Region.class, 1L));
+    }
+
+    @Test
+    void statsReportSecondLevelAndQueryCounts() {
+        Map<String, Object> stats = referenceDataCache.getStats();
+
+        assertTrue((Boolean) stats.get("enabled"));
+        assertTrue(stats.containsKey("secondLevelHits"));
+        assertTrue(stats.containsKey("queryHits"));
+        assertTrue(stats.containsKey("regions"));
+    }
+}
@@ -0,0 +1,74 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.RelatedDataRequest;
+import vn.com.fecredit.app.service.dto.RelatedDataResponse;
+import vn.com.fecredit.app.service.dto.TableRow;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+class RelatedDataLoaderTest {
+
+    @Autowired
+    private RelatedDataLoader relatedDataLoader;
+
+    @Test
+    void relatedTablesAreGroupedByParentId() {
+        RelatedDataResponse response = relatedDataLoader.load(RelatedDataRequest.builder()
+                .objectType(ObjectType.Participant)
+                .ids(List.of(1L, 2L))
+                .relatedTypes(List.of(ObjectType.Province, ObjectType.ParticipantEvent))
+                .build());
+
+        assertEquals(FetchStatus.SUCCESS, response.getStatus());
+
+        Map<Long, List<TableRow>> provinces = response.getRelatedData().get(ObjectType.Province);
+        assertEquals(1, provinces.get(1L).size());
+        assertEquals(1L, provinces.get(1L).get(0).getData().get("id"));
+        assertEquals(2L, provinces.get(2L).get(0).getData().get("id"));
+
+        Map<Long, List<TableRow>> participantEvents = response.getRelatedData().get(ObjectType.ParticipantEvent);
+        assertEquals(2, participantEvents.get(1L).size());
+        assertEquals(2, participantEvents.get(2L).size());
+        assertFalse(participantEvents.containsKey(3L));
+    }
+
+    @Test
+    void unrelatedTypeIsRejected() {
+        RelatedDataRequest request = RelatedDataRequest.builder()
+                .objectType(ObjectType.Participant)
+                .ids(List.of(1L))
+                .relatedTypes(List.of(ObjectType.Permission))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> relatedDataLoader.load(request));
+    }
+
+    @Test
+    void compositeIdParentIsRejected() {
+        RelatedDataRequest request = RelatedDataRequest.builder()
+                .objectType(ObjectType.ParticipantEvent)
+                .ids(List.of(1L))
+                .relatedTypes(List.of(ObjectType.SpinHistory))
+                .build();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> relatedDataLoader.load(request));
+        assertTrue(e.getMessage().contains("composite id"));
+    }
+}
@@ -0,0 +1,144 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.entity.search.SearchMode;
+import vn.com.fecredit.app.entity.search.SearchNormalizer;
+import vn.com.fecredit.app.service.TableDataService;
+import vn.com.fecredit.app.service.dto.DataObject;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.FilterOperator;
+import vn.com.fecredit.app.service.dto.FilterType;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+import vn.com.fecredit.app.service.dto.TableFetchResponse;
+import vn.com.fecredit.app.service.dto.TableRow;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+@Transactional
+class SearchPlannerTest {
+
+    @Autowired
+    private SearchPlanner searchPlanner;
+
+    @Autowired
+    private TableDataService tableDataService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void awaitBackfill() throws InterruptedException {
+        // The backfill runs on its own thread after startup
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!searchPlanner.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void normalizeStripsCaseAndVietnameseAccents() {
+        assertEquals("nguyen duc", SearchNormalizer.normalize("Nguyễn Đức"));
+        assertEquals("abc%", SearchNormalizer.prefixPattern("abc"));
+        assertEquals("a!_b!%c!!-%", SearchNormalizer.prefixPattern("a_b%c!-"));
+    }
+
+    @Test
+    void seedRowsAreBackfilledAtStartup() {
+        Participant participant = entityManager.find(Participant.class, 1L);
+
+        assertTrue(searchPlanner.isReady());
+        assertEquals("john001", participant.getCodeNorm());
+    }
+
+    @Test
+    void operatorPicksSearchMode() {
+        assertEquals(SearchMode.EXACT, searchPlanner.plan(Participant.class, "code", FilterOperator.EQ, "JOHN001").mode());
+        assertEquals(SearchMode.PREFIX, searchPlanner.plan(Participant.class, "code", FilterOperator.STARTS_WITH, "JO").mode());
+        assertFalse(searchPlanner.plan(Participant.class, "code", null, "JO").usesShadow());
+        assertFalse(searchPlanner.plan(Participant.class, "code", FilterOperator.CONTAINS, "OHN").usesShadow());
+        assertFalse(searchPlanner.plan(Participant.class, "name", FilterOperator.EQ, "John Doe").usesShadow());
+    }
+
+    @Test
+    void freeTextSearchOnShadowedFieldStillMatchesSubstrings() {
+        TableRow searchData = new TableRow();
+        searchData.setData(new HashMap<>(Map.of("code", "001")));
+        DataObject participantSearch = new DataObject();
+        participantSearch.setObjectType(ObjectType.Participant);
+        participantSearch.setData(searchData);
+
+        TableFetchResponse response = tableDataService.fetchData(TableFetchRequest.builder()
+                .objectType(ObjectType.Participant).page(0).size(10)
+                .search(Map.of(ObjectType.Participant, participantSearch)).build());
+
+        // Every seeded code ends in 001
+        assertEquals(FetchStatus.SUCCESS, response.getStatus(), response.getMessage());
+        assertEquals(5L, response.getTotalElements());
+    }
+
+    @Test
+    void shadowLookupsMatchLikeLookups() {
+        TableFetchResponse exact = tableDataService.fetchData(TableFetchRequest.builder()
+                .objectType(ObjectType.Participant).page(0).size(10).build()
+                .addSimpleFilter("code", FilterType.EQUALS, "john001"));
+        TableFetchResponse prefix = tableDataService.fetchData(TableFetchRequest.builder()
+                .objectType(ObjectType.Participant).page(0).size(10).build()
+                .addSimpleFilter("code", FilterType.STARTS_WITH, "JOHN"));
+
+        assertEquals(FetchStatus.SUCCESS, exact.getStatus());
+        assertEquals(1L, exact.getTotalElements());
+        assertEquals(FetchStatus.SUCCESS, prefix.getStatus());
+        assertEquals(1L, prefix.getTotalElements());
+    }
+
+    @Test
+    void prefixLookupsKeepPunctuation() {
+        insertParticipant(901L, "AB-1_X");
+        insertParticipant(902L, "AB-1ZX");
+        insertParticipant(903L, "AB+2");
+
+        for (boolean compiled : new boolean[] { false, true }) {
+            assertEquals(1L, prefixCount("ab-1_", compiled));
+            assertEquals(2L, prefixCount("AB-1", compiled));
+            assertEquals(1L, prefixCount("ab+", compiled));
+        }
+    }
+
+    private long prefixCount(String prefix, boolean compiled) {
+        TableFetchRequest request = TableFetchRequest.builder()
+                .objectType(ObjectType.Participant).page(0).size(10).build()
+                .addSimpleFilter("code", FilterType.STARTS_WITH, prefix);
+        TableFetchResponse response = compiled
+                ? tableDataService.fetchScalarProperties(request)
+                : tableDataService.fetchData(request);
+        assertEquals(FetchStatus.SUCCESS, response.getStatus(), response.getMessage());
+        return response.getRows().size();
+    }
+
+    private void insertParticipant(long id, String code) {
+        entityManager.createNativeQuery("INSERT INTO participants (id, version, status, name, code, code_norm, "
+                + "last_adding_spin) VALUES (?, 0, 'ACTIVE', ?, ?, ?, 0)")
+                .setParameter(1, id)
+                .setParameter(2, "Prefix " + id)
+                .setParameter(3, code)
+                .setParameter(4, SearchNormalizer.normalize(code))
+                .executeUpdate();
+    }
+}
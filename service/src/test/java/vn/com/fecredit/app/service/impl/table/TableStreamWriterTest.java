@@ -0,0 +1,61 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.hibernate.ScrollableResults;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Selection;
+import vn.com.fecredit.app.service.dto.FetchStatus;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+class TableStreamWriterTest {
+
+    private final QueryManager queryManager = mock(QueryManager.class);
+    private final TableStreamWriter writer = new TableStreamWriter(queryManager, mock(EntityManager.class),
+            new ObjectMapper());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failureMidScrollEndsTheDocumentWithAnError() throws Exception {
+        CriteriaQuery<Tuple> query = mock(CriteriaQuery.class);
+        Selection<Tuple> selection = mock(Selection.class);
+        Selection<Object> idColumn = mock(Selection.class);
+        when(idColumn.getAlias()).thenReturn("id");
+        when(selection.isCompoundSelection()).thenReturn(true);
+        when(selection.getCompoundSelectionItems()).thenReturn(List.of(idColumn));
+        when(query.getSelection()).thenReturn(selection);
+
+        Tuple row = mock(Tuple.class);
+        when(row.toArray()).thenReturn(new Object[] { 1L });
+        ScrollableResults<Tuple> results = mock(ScrollableResults.class);
+        when(results.next()).thenReturn(true).thenThrow(new IllegalStateException("connection reset"));
+        when(results.get()).thenReturn(row);
+        when(queryManager.scrollQuery(any(), any(), anyInt())).thenReturn(results);
+
+        TableFetchRequest request = TableFetchRequest.builder().objectType(ObjectType.User).page(0).size(0).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = writer.write(query, request, "users", out);
+
+        JsonNode document = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals(1, written);
+        assertEquals(1, document.get("rows").size());
+        assertEquals(FetchStatus.ERROR.name(), document.get("status").asText());
+        assertTrue(document.get("message").asText().contains("connection reset"));
+    }
+}
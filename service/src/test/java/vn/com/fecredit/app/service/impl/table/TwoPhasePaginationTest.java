@@ -0,0 +1,118 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import vn.com.fecredit.app.ServiceTestApplication;
+import vn.com.fecredit.app.entity.Event;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.service.dto.ColumnInfo;
+import vn.com.fecredit.app.service.dto.FieldType;
+import vn.com.fecredit.app.service.dto.ObjectType;
+import vn.com.fecredit.app.service.dto.SortType;
+import vn.com.fecredit.app.service.dto.TableFetchRequest;
+
+@SpringBootTest(classes = ServiceTestApplication.class)
+@ActiveProfiles("test")
+@Transactional
+class TwoPhasePaginationTest {
+
+    @Autowired
+    private QueryManager queryManager;
+
+    @Autowired
+    private QueryPlanCompiler queryPlanCompiler;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void joinedPagesAreExactAndKeepSortOrder() {
+        List<Object> pagedIds = new ArrayList<>();
+        List<String> provinces = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            TableFetchRequest request = request(page);
+            FilterNode filter = FilterNode.of(request);
+            CriteriaQuery<Tuple> query = queryManager.buildCriteriaQuery(request, Participant.class, filter);
+
+            List<Tuple> rows = queryManager.executePage(query, request, Participant.class, filter, 0);
+
+            assertEquals(page < 2 ? 2 : 1, rows.size());
+            for (Tuple row : rows) {
+                pagedIds.add(row.get("id"));
+                provinces.add((String) row.get("province_name"));
+            }
+        }
+
+        Set<Object> distinctIds = new HashSet<>(pagedIds);
+        assertEquals(5, distinctIds.size());
+        assertEquals(5, pagedIds.size());
+        for (int i = 1; i < provinces.size(); i++) {
+            assertTrue(provinces.get(i - 1).compareTo(provinces.get(i)) <= 0);
+        }
+    }
+
+    @Test
+    void toManyJoinPagesAreExactOnBothPaths() {
+        // Events 1 and 2 have several locations each, so their joined rows repeat
+        long events = (long) entityManager.createQuery("select count(e) from Event e").getSingleResult();
+
+        for (boolean compiled : new boolean[] { false, true }) {
+            List<Object> pagedIds = new ArrayList<>();
+            for (int page = 0; page * 2 < events; page++) {
+                TableFetchRequest request = eventRequest(page);
+                List<Tuple> rows;
+                if (compiled) {
+                    QueryPlan plan = queryPlanCompiler.compile(request, Event.class).orElseThrow();
+                    assertNotNull(plan.pageIdsHql());
+                    rows = queryManager.executePlan(plan, request, 0);
+                } else {
+                    FilterNode filter = FilterNode.of(request);
+                    CriteriaQuery<Tuple> query = queryManager.buildCriteriaQuery(request, Event.class, filter);
+                    rows = queryManager.executePage(query, request, Event.class, filter, 0);
+                }
+
+                assertEquals(Math.min(2, events - page * 2), rows.size(), "compiled=" + compiled + " page " + page);
+                rows.forEach(row -> pagedIds.add(row.get("id")));
+            }
+
+            assertEquals(events, pagedIds.size(), "compiled=" + compiled + ": " + pagedIds);
+            assertEquals(events, new HashSet<>(pagedIds).size(), "compiled=" + compiled + ": " + pagedIds);
+        }
+    }
+
+    private TableFetchRequest eventRequest(int page) {
+        TableFetchRequest request = TableFetchRequest.builder()
+                .objectType(ObjectType.Event).page(page).size(2).build()
+                .addSort("name", SortType.ASCENDING);
+        request.setViewColumns(List.of(
+                new ColumnInfo("name", FieldType.STRING, SortType.NONE),
+                new ColumnInfo("locations.description", FieldType.STRING, SortType.NONE)));
+        return request;
+    }
+
+    private TableFetchRequest request(int page) {
+        TableFetchRequest request = TableFetchRequest.builder()
+                .objectType(ObjectType.Participant).page(page).size(2).build()
+                .addSort("province.name", SortType.ASCENDING);
+        request.setViewColumns(List.of(
+                new ColumnInfo("name", FieldType.STRING, SortType.NONE),
+                new ColumnInfo("province.name", FieldType.STRING, SortType.NONE)));
+        return request;
+    }
+}
@@ -0,0 +1,69 @@
+package vn.com.fecredit.app.service.impl.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import vn.com.fecredit.app.entity.enums.CommonStatus;
+
+class ValueConvertersTest {
+
+    private final ValueConverters valueConverters = new ValueConverters(Mockito.mock(EntityMetadataRegistry.class));
+
+    @Test
+    void numbersSkipThousandsSeparators() {
+        assertEquals(1234567L, valueConverters.convert("1,234,567", Long.class));
+        assertEquals(-42, valueConverters.convert(" -4_2 ", int.class));
+        assertEquals(new BigDecimal("1234.50"), valueConverters.convert("1,234.50", BigDecimal.class));
+        assertEquals(2.5e3, valueConverters.convert("2.5e3", Double.class));
+    }
+
+    @Test
+    void invalidOrOverflowingNumbersAreLeftUnchanged() {
+        assertEquals("12a", valueConverters.convert("12a", Long.class));
+        assertEquals("3000000000", valueConverters.convert("3000000000", Integer.class));
+        assertEquals("99999999999999999999", valueConverters.convert("99999999999999999999", Long.class));
+        assertEquals(Long.MIN_VALUE, valueConverters.convert("-9223372036854775808", Long.class));
+    }
+
+    @Test
+    void datesAreDetectedByShape() {
+        assertEquals(LocalDate.of(2024, 3, 15), valueConverters.convert("2024-03-15", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 3, 15), valueConverters.convert("15/03/2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 3, 15), valueConverters.convert("03/15/2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 4, 3), valueConverters.convert("03/04/2024", LocalDate.class));
+        assertEquals("2023-02-29", valueConverters.convert("2023-02-29", LocalDate.class));
+    }
+
+    @Test
+    void dateTimesAcceptIsoSpaceAndDateOnly() {
+        assertEquals(LocalDateTime.of(2024, 3, 15, 10, 30, 5, 120_000_000),
+                valueConverters.convert("2024-03-15T10:30:05.12", LocalDateTime.class));
+        assertEquals(LocalDateTime.of(2024, 3, 15, 10, 30),
+                valueConverters.convert("15/03/2024 10:30:00", LocalDateTime.class));
+        assertEquals(LocalDateTime.of(2024, 3, 15, 0, 0),
+                valueConverters.convert("2024-03-15", LocalDateTime.class));
+        assertEquals("2024-03-15T25:00", valueConverters.convert("2024-03-15T25:00", LocalDateTime.class));
+    }
+
+    @Test
+    void booleansAndEnumsIgnoreCase() {
+        assertEquals(true, valueConverters.convert("Yes", Boolean.class));
+        assertEquals(false, valueConverters.convert("off", boolean.class));
+        assertEquals(CommonStatus.ACTIVE, valueConverters.convert("active", CommonStatus.class));
+        assertEquals("unknown", valueConverters.convert("unknown", CommonStatus.class));
+    }
+
+    @Test
+    void convertersAreBuiltOncePerType() {
+        assertSame(valueConverters.forType(Long.class), valueConverters.forType(Long.class));
+        assertNull(valueConverters.forType(String.class));
+    }
+}
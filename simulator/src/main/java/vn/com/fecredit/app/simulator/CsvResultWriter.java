@@ -0,0 +1,68 @@
+package vn.com.fecredit.app.simulator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Writes simulation results as CSV: per-hour win rates, prize exhaustion and a per-location summary
+ */
+public class CsvResultWriter {
+
+    public void write(Path outputDir, List<LocationResult> results) throws IOException {
+        Files.createDirectories(outputDir);
+        writeHourly(outputDir.resolve("hourly.csv"), results);
+        writeRewards(outputDir.resolve("rewards.csv"), results);
+        writeSummary(outputDir.resolve("summary.csv"), results);
+    }
+
+    private void writeHourly(Path file, List<LocationResult> results) throws IOException {
+        try (CSVPrinter printer = printer(file, "location", "run", "hour", "spins", "wins", "winRate")) {
+            for (LocationResult result : results) {
+                for (int hour = 0; hour < 24; hour++) {
+                    long spins = result.getHourlySpins()[hour];
+                    long wins = result.getHourlyWins()[hour];
+                    printer.printRecord(result.getLocationKey(), result.getRun(), hour, spins, wins,
+                            spins == 0 ? 0 : (double) wins / spins);
+                }
+            }
+        }
+    }
+
+    private void writeRewards(Path file, List<LocationResult> results) throws IOException {
+        try (CSVPrinter printer = printer(file, "location", "run", "rewardId", "rewardName",
+                "initialQuantity", "awarded", "exhaustedAt")) {
+            for (LocationResult result : results) {
+                for (Map.Entry<Long, Integer> entry : result.getInitialQuantities().entrySet()) {
+                    Long rewardId = entry.getKey();
+                    printer.printRecord(result.getLocationKey(), result.getRun(), rewardId,
+                            result.getRewardNames().get(rewardId), entry.getValue(),
+                            result.getAwarded().getOrDefault(rewardId, 0),
+                            result.getExhaustedAt().get(rewardId));
+                }
+            }
+        }
+    }
+
+    private void writeSummary(Path file, List<LocationResult> results) throws IOException {
+        try (CSVPrinter printer = printer(file, "location", "run", "spins", "wins", "rejected",
+                "engineMillis", "spinsPerSecond")) {
+            for (LocationResult result : results) {
+                printer.printRecord(result.getLocationKey(), result.getRun(), result.getTotalSpins(),
+                        result.getTotalWins(), result.getRejectedSpins(), result.getEngineNanos() / 1_000_000,
+                        Math.round(result.getEngineThroughput()));
+            }
+        }
+    }
+
+    private CSVPrinter printer(Path file, String... headers) throws IOException {
+        Writer writer = Files.newBufferedWriter(file);
+        return new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(headers).get());
+    }
+}
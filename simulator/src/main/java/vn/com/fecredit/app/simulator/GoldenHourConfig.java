@@ -0,0 +1,20 @@
+package vn.com.fecredit.app.simulator;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Golden hour window for the simulated day, as read from a GoldenHour import file.
+ * Only the time of day is kept so the window can be replayed on any date.
+ */
+@Value
+@Builder
+public class GoldenHourConfig {
+    LocalTime startTime;
+    LocalTime endTime;
+    BigDecimal multiplier;
+    Integer maxRewards;
+}
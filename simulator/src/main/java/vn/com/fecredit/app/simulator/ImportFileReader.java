@@ -0,0 +1,104 @@
+package vn.com.fecredit.app.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the CSV and Excel files accepted by the import pipeline into rows keyed
+ * by lower-cased header name, matching how FileProcessingService maps columns.
+ */
+@Slf4j
+public class ImportFileReader {
+
+    /**
+     * Read every data row of the first sheet (or the CSV body)
+     */
+    public List<Map<String, String>> read(Path filePath) throws IOException {
+        String fileName = filePath.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            return readCsv(filePath);
+        }
+        if (fileName.endsWith(".xlsx") || fileName.endsWith(".xls")) {
+            return readExcel(filePath);
+        }
+        throw new IllegalArgumentException("Unsupported file format: " + fileName);
+    }
+
+    private List<Map<String, String>> readCsv(Path filePath) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(filePath)) {
+            CSVParser csvParser = CSVFormat.DEFAULT.builder()
+                    .setHeader()
+                    .setSkipHeaderRecord(true)
+                    .get()
+                    .parse(reader);
+
+            Map<String, Integer> headerMap = csvParser.getHeaderMap();
+            for (CSVRecord record : csvParser) {
+                Map<String, String> row = new HashMap<>();
+                for (Map.Entry<String, Integer> header : headerMap.entrySet()) {
+                    if (header.getValue() < record.size()) {
+                        row.put(header.getKey().trim().toLowerCase(), record.get(header.getValue()));
+                    }
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private List<Map<String, String>> readExcel(Path filePath) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        DataFormatter formatter = new DataFormatter();
+
+        try (InputStream in = Files.newInputStream(filePath);
+             Workbook workbook = WorkbookFactory.create(in)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Row headerRow = sheet.getRow(sheet.getFirstRowNum());
+            if (headerRow == null) {
+                return rows;
+            }
+
+            Map<Integer, String> headers = new HashMap<>();
+            headerRow.forEach(cell -> headers.put(cell.getColumnIndex(),
+                    formatter.formatCellValue(cell).trim().toLowerCase()));
+
+            for (int i = sheet.getFirstRowNum() + 1; i <= sheet.getLastRowNum(); i++) {
+                Row excelRow = sheet.getRow(i);
+                if (excelRow == null) {
+                    continue;
+                }
+                Map<String, String> row = new HashMap<>();
+                excelRow.forEach(cell -> {
+                    String header = headers.get(cell.getColumnIndex());
+                    if (header != null) {
+                        row.put(header, formatter.formatCellValue(cell));
+                    }
+                });
+                if (!row.isEmpty()) {
+                    rows.add(row);
+                }
+            }
+        }
+        log.debug("Read {} rows from {}", rows.size(), filePath);
+        return rows;
+    }
+}
@@ -0,0 +1,33 @@
+package vn.com.fecredit.app.simulator;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Configuration of one event location to simulate, as read from an EventLocation import file
+ */
+@Value
+@Builder(toBuilder = true)
+public class LocationConfig {
+    Long eventId;
+    Long regionId;
+    int maxSpin;
+    int todaySpin;
+    double dailySpinDistributingRate;
+
+    @Singular
+    List<RewardConfig> rewards;
+
+    @Singular
+    List<GoldenHourConfig> goldenHours;
+
+    /**
+     * Key used in result files
+     */
+    public String getKey() {
+        return eventId + "-" + regionId;
+    }
+}
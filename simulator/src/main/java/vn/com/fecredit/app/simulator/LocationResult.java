@@ -0,0 +1,56 @@
+package vn.com.fecredit.app.simulator;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outcome of one simulated day at one location
+ */
+@Getter
+@RequiredArgsConstructor
+public class LocationResult {
+    private final String locationKey;
+    private final int run;
+
+    private final long[] hourlySpins = new long[24];
+    private final long[] hourlyWins = new long[24];
+
+    private final Map<Long, String> rewardNames = new LinkedHashMap<>();
+    private final Map<Long, Integer> initialQuantities = new LinkedHashMap<>();
+    private final Map<Long, Integer> awarded = new LinkedHashMap<>();
+    private final Map<Long, LocalDateTime> exhaustedAt = new LinkedHashMap<>();
+
+    private long totalSpins;
+    private long totalWins;
+    private long rejectedSpins;
+
+    /**
+     * Time spent inside the spin engine, excluding arrival generation and bookkeeping
+     */
+    private long engineNanos;
+
+    void recordSpin(int hour, boolean win, long nanos) {
+        hourlySpins[hour]++;
+        totalSpins++;
+        if (win) {
+            hourlyWins[hour]++;
+            totalWins++;
+        }
+        engineNanos += nanos;
+    }
+
+    void recordRejected() {
+        rejectedSpins++;
+    }
+
+    /**
+     * Spins per second the engine sustained on a single thread
+     */
+    public double getEngineThroughput() {
+        return engineNanos == 0 ? 0 : totalSpins * 1_000_000_000.0 / engineNanos;
+    }
+}
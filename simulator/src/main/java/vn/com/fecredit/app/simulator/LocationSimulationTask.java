@@ -0,0 +1,234 @@
+package vn.com.fecredit.app.simulator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+import lombok.extern.slf4j.Slf4j;
+import vn.com.fecredit.app.entity.Event;
+import vn.com.fecredit.app.entity.EventLocation;
+import vn.com.fecredit.app.entity.GoldenHour;
+import vn.com.fecredit.app.entity.Participant;
+import vn.com.fecredit.app.entity.ParticipantEvent;
+import vn.com.fecredit.app.entity.Region;
+import vn.com.fecredit.app.entity.Reward;
+import vn.com.fecredit.app.entity.RewardEvent;
+import vn.com.fecredit.app.entity.SpinHistory;
+import vn.com.fecredit.app.entity.enums.CommonStatus;
+
+/**
+ * Replays one synthetic day at one location against a fresh in-memory entity graph.
+ * Each task owns its entities and random source, so tasks run on the fork-join
+ * pool without sharing mutable state.
+ */
+@Slf4j
+public class LocationSimulationTask extends RecursiveTask<LocationResult> {
+    private static final long serialVersionUID = 1L;
+
+    private final SimulationConfig config;
+    private final LocationConfig location;
+    private final int run;
+    private final SpinOutcomeSampler sampler;
+
+    public LocationSimulationTask(SimulationConfig config, LocationConfig location, int run, SpinOutcomeSampler sampler) {
+        this.config = config;
+        this.location = location;
+        this.run = run;
+        this.sampler = sampler;
+    }
+
+    @Override
+    protected LocationResult compute() {
+        SplittableRandom random = new SplittableRandom(config.getSeed() ^ location.getKey().hashCode() ^ (31L * run));
+        LocationResult result = new LocationResult(location.getKey(), run);
+
+        EventLocation eventLocation = buildEventLocation();
+        List<RewardEvent> rewards = buildRewards(eventLocation, result);
+        List<GoldenHour> goldenHours = buildGoldenHours(eventLocation);
+        List<ParticipantEvent> waiting = buildParticipants(eventLocation);
+
+        long totalSpins = (long) config.getParticipantsPerLocation() * config.getSpinsPerParticipant();
+        long expectedSpinsToday = location.getTodaySpin() > 0 ? location.getTodaySpin() : totalSpins;
+        long[] arrivals = distributeArrivals(totalSpins);
+
+        long spinsSoFar = 0;
+        for (int hour = 0; hour < 24 && !waiting.isEmpty(); hour++) {
+            LocalDateTime hourStart = config.getDay().atTime(hour, 0);
+            for (long i = 0; i < arrivals[hour] && !waiting.isEmpty(); i++) {
+                LocalDateTime spinTime = hourStart.plusSeconds(i * 3600 / arrivals[hour]);
+                int index = random.nextInt(waiting.size());
+                ParticipantEvent participantEvent = waiting.get(index);
+
+                long started = System.nanoTime();
+                SpinHistory spin;
+                try {
+                    spin = participantEvent.spin();
+                } catch (IllegalStateException e) {
+                    result.recordRejected();
+                    removeAt(waiting, index);
+                    continue;
+                }
+
+                GoldenHour goldenHour = findActiveGoldenHour(goldenHours, spinTime);
+                RewardEvent reward = sampler.sample(rewards, goldenHour, spinsSoFar, expectedSpinsToday, random);
+                if (reward != null) {
+                    reward.setQuantity(reward.getQuantity() - 1);
+                    reward.setTodayQuantity(reward.getTodayQuantity() - 1);
+                    spin.setRewardEvent(reward);
+                    spin.setWin(true);
+                    if (goldenHour != null) {
+                        goldenHour.setClaimedRewards(goldenHour.getClaimedRewards() + 1);
+                        spin.setGoldenHour(goldenHour);
+                    }
+                }
+                long elapsed = System.nanoTime() - started;
+
+                spinsSoFar++;
+                result.recordSpin(hour, reward != null, elapsed);
+                if (reward != null) {
+                    Long rewardId = reward.getReward().getId();
+                    result.getAwarded().merge(rewardId, 1, Integer::sum);
+                    if (sampler.availableToday(reward) == 0) {
+                        result.getExhaustedAt().putIfAbsent(rewardId, spinTime);
+                    }
+                }
+
+                // Only the outcome matters here, so do not keep every spin in memory
+                participantEvent.getSpinHistories().clear();
+                if (participantEvent.getSpinsRemaining() == 0) {
+                    removeAt(waiting, index);
+                }
+            }
+        }
+
+        log.debug("Location {} run {}: {} spins, {} wins", location.getKey(), run,
+                result.getTotalSpins(), result.getTotalWins());
+        return result;
+    }
+
+    private EventLocation buildEventLocation() {
+        // canSpin() checks the event window against the wall clock, so keep it open around now
+        Event event = Event.builder()
+                .id(location.getEventId())
+                .name("Simulated event " + location.getEventId())
+                .code("SIM-" + location.getEventId())
+                .startTime(LocalDateTime.now().minusYears(1))
+                .endTime(LocalDateTime.now().plusYears(1))
+                .status(CommonStatus.ACTIVE)
+                .build();
+
+        Region region = Region.builder()
+                .id(location.getRegionId())
+                .name("Simulated region " + location.getRegionId())
+                .code("SIM-" + location.getRegionId())
+                .status(CommonStatus.ACTIVE)
+                .build();
+
+        return EventLocation.builder()
+                .event(event)
+                .region(region)
+                .maxSpin(location.getMaxSpin())
+                .todaySpin(location.getTodaySpin())
+                .dailySpinDistributingRate(location.getDailySpinDistributingRate())
+                .status(CommonStatus.ACTIVE)
+                .build();
+    }
+
+    private List<RewardEvent> buildRewards(EventLocation eventLocation, LocationResult result) {
+        List<RewardEvent> rewards = new ArrayList<>();
+        for (RewardConfig rewardConfig : location.getRewards()) {
+            Reward reward = Reward.builder()
+                    .id(rewardConfig.getRewardId())
+                    .name(rewardConfig.getName())
+                    .code("SIM-" + rewardConfig.getRewardId())
+                    .status(CommonStatus.ACTIVE)
+                    .build();
+
+            rewards.add(RewardEvent.builder()
+                    .eventLocation(eventLocation)
+                    .reward(reward)
+                    .quantity(rewardConfig.getQuantity())
+                    .todayQuantity(rewardConfig.getTodayQuantity())
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+
+            result.getRewardNames().put(rewardConfig.getRewardId(), rewardConfig.getName());
+            result.getInitialQuantities().put(rewardConfig.getRewardId(), rewardConfig.getQuantity());
+        }
+        return rewards;
+    }
+
+    private List<GoldenHour> buildGoldenHours(EventLocation eventLocation) {
+        List<GoldenHour> goldenHours = new ArrayList<>();
+        for (GoldenHourConfig goldenHourConfig : location.getGoldenHours()) {
+            goldenHours.add(GoldenHour.builder()
+                    .eventLocation(eventLocation)
+                    .startTime(config.getDay().atTime(goldenHourConfig.getStartTime()))
+                    .endTime(config.getDay().atTime(goldenHourConfig.getEndTime()))
+                    .multiplier(goldenHourConfig.getMultiplier())
+                    .maxRewards(goldenHourConfig.getMaxRewards())
+                    .claimedRewards(0)
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+        }
+        return goldenHours;
+    }
+
+    private List<ParticipantEvent> buildParticipants(EventLocation eventLocation) {
+        List<ParticipantEvent> participants = new ArrayList<>(config.getParticipantsPerLocation());
+        for (int i = 0; i < config.getParticipantsPerLocation(); i++) {
+            Participant participant = Participant.builder()
+                    .id((long) i + 1)
+                    .name("Participant " + (i + 1))
+                    .code("SIM-" + location.getKey() + "-" + (i + 1))
+                    .status(CommonStatus.ACTIVE)
+                    .build();
+
+            participants.add(ParticipantEvent.builder()
+                    .eventLocation(eventLocation)
+                    .participant(participant)
+                    .spinsRemaining(config.getSpinsPerParticipant())
+                    .status(CommonStatus.ACTIVE)
+                    .build());
+        }
+        return participants;
+    }
+
+    /**
+     * Split the day's spins across hours following the arrival curve
+     */
+    private long[] distributeArrivals(long totalSpins) {
+        double[] curve = config.getArrivalCurve();
+        double weightSum = 0;
+        for (double weight : curve) {
+            weightSum += weight;
+        }
+
+        long[] arrivals = new long[24];
+        long assigned = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            arrivals[hour] = Math.round(totalSpins * curve[hour] / weightSum);
+            assigned += arrivals[hour];
+        }
+        // Put any rounding difference into the busiest evening hour
+        arrivals[19] = Math.max(0, arrivals[19] + totalSpins - assigned);
+        return arrivals;
+    }
+
+    private GoldenHour findActiveGoldenHour(List<GoldenHour> goldenHours, LocalDateTime spinTime) {
+        for (GoldenHour goldenHour : goldenHours) {
+            if (goldenHour.isActive(spinTime)) {
+                return goldenHour;
+            }
+        }
+        return null;
+    }
+
+    private void removeAt(List<ParticipantEvent> participants, int index) {
+        int last = participants.size() - 1;
+        participants.set(index, participants.get(last));
+        participants.remove(last);
+    }
+}
@@ -0,0 +1,16 @@
+package vn.com.fecredit.app.simulator;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Prize stock of one reward at one event location, as read from a RewardEvent import file
+ */
+@Value
+@Builder
+public class RewardConfig {
+    Long rewardId;
+    String name;
+    int quantity;
+    int todayQuantity;
+}
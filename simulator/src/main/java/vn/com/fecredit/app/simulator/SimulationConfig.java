@@ -0,0 +1,59 @@
+package vn.com.fecredit.app.simulator;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings for one simulator invocation
+ */
+@Value
+@Builder
+public class SimulationConfig {
+
+    /**
+     * Default arrival curve: share of the day's spins in each hour, with lunch and evening peaks
+     */
+    public static final double[] DEFAULT_ARRIVAL_CURVE = {
+        0.2, 0.1, 0.1, 0.1, 0.2, 0.5, 1.5, 3.0, 5.0, 6.0, 6.5, 7.5,
+        9.0, 8.0, 6.0, 5.5, 5.5, 6.0, 7.0, 8.5, 8.0, 5.0, 3.0, 1.3
+    };
+
+    @Builder.Default
+    LocalDate day = LocalDate.now();
+
+    /**
+     * Participants registered at each location
+     */
+    @Builder.Default
+    int participantsPerLocation = 1000;
+
+    /**
+     * Spins each participant is granted and uses during the day
+     */
+    @Builder.Default
+    int spinsPerParticipant = 3;
+
+    /**
+     * Number of independent Monte-Carlo runs per location
+     */
+    @Builder.Default
+    int runs = 1;
+
+    @Builder.Default
+    long seed = 42L;
+
+    @Builder.Default
+    int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    double[] arrivalCurve = DEFAULT_ARRIVAL_CURVE;
+
+    @Builder.Default
+    Path outputDir = Path.of("simulation-results");
+
+    List<LocationConfig> locations;
+}
@@ -0,0 +1,131 @@
+package vn.com.fecredit.app.simulator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds location configurations from EventLocation, RewardEvent and GoldenHour
+ * import files. Columns are matched by field name, accepting both the flat
+ * ({@code eventId}) and the nested ({@code eventLocation.event.id}) spellings
+ * produced by the table export.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SimulationConfigLoader {
+
+    private static final String[] EVENT_ID = {"eventid", "event.id", "eventlocation.event.id", "id.eventid"};
+    private static final String[] REGION_ID = {"regionid", "region.id", "eventlocation.region.id", "id.regionid"};
+
+    private final ImportFileReader reader;
+
+    /**
+     * Load all locations, attaching rewards and golden hours to the location they belong to
+     *
+     * @param locationsFile   EventLocation import file
+     * @param rewardsFile     RewardEvent import file
+     * @param goldenHoursFile GoldenHour import file, may be null
+     */
+    public List<LocationConfig> load(Path locationsFile, Path rewardsFile, Path goldenHoursFile) throws IOException {
+        Map<String, LocationConfig.LocationConfigBuilder> builders = new LinkedHashMap<>();
+
+        for (Map<String, String> row : reader.read(locationsFile)) {
+            Long eventId = longValue(row, EVENT_ID);
+            Long regionId = longValue(row, REGION_ID);
+            if (eventId == null || regionId == null) {
+                log.warn("Skipping event location row without event/region id: {}", row);
+                continue;
+            }
+            builders.put(eventId + "-" + regionId, LocationConfig.builder()
+                    .eventId(eventId)
+                    .regionId(regionId)
+                    .maxSpin(intValue(row, 100, "maxspin"))
+                    .todaySpin(intValue(row, 100, "todayspin"))
+                    .dailySpinDistributingRate(doubleValue(row, 0, "dailyspindistributingrate")));
+        }
+
+        for (Map<String, String> row : reader.read(rewardsFile)) {
+            LocationConfig.LocationConfigBuilder builder = builders.get(locationKey(row));
+            if (builder == null) {
+                log.warn("Skipping reward row for unknown location: {}", row);
+                continue;
+            }
+            builder.reward(RewardConfig.builder()
+                    .rewardId(longValue(row, "rewardid", "reward.id", "id.rewardid"))
+                    .name(stringValue(row, "reward.name", "rewardname", "name"))
+                    .quantity(intValue(row, 0, "quantity"))
+                    .todayQuantity(intValue(row, 0, "todayquantity"))
+                    .build());
+        }
+
+        if (goldenHoursFile != null) {
+            for (Map<String, String> row : reader.read(goldenHoursFile)) {
+                LocationConfig.LocationConfigBuilder builder = builders.get(locationKey(row));
+                if (builder == null) {
+                    log.warn("Skipping golden hour row for unknown location: {}", row);
+                    continue;
+                }
+                String multiplier = stringValue(row, "multiplier");
+                builder.goldenHour(GoldenHourConfig.builder()
+                        .startTime(timeValue(stringValue(row, "starttime")))
+                        .endTime(timeValue(stringValue(row, "endtime")))
+                        .multiplier(multiplier != null ? new BigDecimal(multiplier.trim()) : BigDecimal.ONE)
+                        .maxRewards(longValue(row, "maxrewards") != null ? intValue(row, 0, "maxrewards") : null)
+                        .build());
+            }
+        }
+
+        List<LocationConfig> locations = new ArrayList<>();
+        builders.values().forEach(builder -> locations.add(builder.build()));
+        return locations;
+    }
+
+    private String locationKey(Map<String, String> row) {
+        return longValue(row, EVENT_ID) + "-" + longValue(row, REGION_ID);
+    }
+
+    private String stringValue(Map<String, String> row, String... names) {
+        for (String name : names) {
+            String value = row.get(name);
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private Long longValue(Map<String, String> row, String... names) {
+        String value = stringValue(row, names);
+        return value != null ? (long) Double.parseDouble(value.replaceAll("[,_]", "")) : null;
+    }
+
+    private int intValue(Map<String, String> row, int defaultValue, String... names) {
+        Long value = longValue(row, names);
+        return value != null ? value.intValue() : defaultValue;
+    }
+
+    private double doubleValue(Map<String, String> row, double defaultValue, String... names) {
+        String value = stringValue(row, names);
+        return value != null ? Double.parseDouble(value.replaceAll("[,_]", "")) : defaultValue;
+    }
+
+    /**
+     * Accept either a bare time or a full timestamp and keep the time of day
+     */
+    private LocalTime timeValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim().replace(' ', 'T');
+        return trimmed.contains("T") ? LocalDateTime.parse(trimmed).toLocalTime() : LocalTime.parse(trimmed);
+    }
+}
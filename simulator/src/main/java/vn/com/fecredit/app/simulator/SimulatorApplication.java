@@ -0,0 +1,78 @@
+package vn.com.fecredit.app.simulator;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Command line entry point for the offline spin simulator.
+ *
+ * <pre>
+ * --locations=event_locations.csv --rewards=reward_events.xlsx [--golden-hours=golden_hours.csv]
+ * [--day=2025-06-01] [--participants=1000] [--spins=3] [--runs=1] [--seed=42]
+ * [--parallelism=N] [--out=simulation-results]
+ * </pre>
+ */
+@Slf4j
+public class SimulatorApplication {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        if (!options.containsKey("locations") || !options.containsKey("rewards")) {
+            System.err.println("Usage: --locations=<file> --rewards=<file> [--golden-hours=<file>] "
+                    + "[--day=yyyy-MM-dd] [--participants=N] [--spins=N] [--runs=N] [--seed=N] "
+                    + "[--parallelism=N] [--out=<dir>]");
+            System.exit(1);
+        }
+
+        SimulationConfigLoader loader = new SimulationConfigLoader(new ImportFileReader());
+        List<LocationConfig> locations = loader.load(
+                Path.of(options.get("locations")),
+                Path.of(options.get("rewards")),
+                options.containsKey("golden-hours") ? Path.of(options.get("golden-hours")) : null);
+
+        SimulationConfig.SimulationConfigBuilder builder = SimulationConfig.builder().locations(locations);
+        if (options.containsKey("day")) {
+            builder.day(LocalDate.parse(options.get("day")));
+        }
+        if (options.containsKey("participants")) {
+            builder.participantsPerLocation(Integer.parseInt(options.get("participants")));
+        }
+        if (options.containsKey("spins")) {
+            builder.spinsPerParticipant(Integer.parseInt(options.get("spins")));
+        }
+        if (options.containsKey("runs")) {
+            builder.runs(Integer.parseInt(options.get("runs")));
+        }
+        if (options.containsKey("seed")) {
+            builder.seed(Long.parseLong(options.get("seed")));
+        }
+        if (options.containsKey("parallelism")) {
+            builder.parallelism(Integer.parseInt(options.get("parallelism")));
+        }
+        if (options.containsKey("out")) {
+            builder.outputDir(Path.of(options.get("out")));
+        }
+        SimulationConfig config = builder.build();
+
+        log.info("Simulating {} locations x {} runs", locations.size(), config.getRuns());
+        List<LocationResult> results = new SpinSimulator().run(config);
+        new CsvResultWriter().write(config.getOutputDir(), results);
+        log.info("Results written to {}", config.getOutputDir().toAbsolutePath());
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
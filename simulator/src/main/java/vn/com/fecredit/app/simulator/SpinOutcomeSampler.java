@@ -0,0 +1,77 @@
+package vn.com.fecredit.app.simulator;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import vn.com.fecredit.app.entity.GoldenHour;
+import vn.com.fecredit.app.entity.RewardEvent;
+
+/**
+ * Decides the outcome of a spin from the prize stock left at a location.
+ *
+ * <p>
+ * Follows the pack draw described in docs/DistributedGiftSolution.md: today's
+ * remaining prizes are spread over the spins still expected today, so the win
+ * probability rises when prizes are left over and falls as stock runs out.
+ * An active golden hour multiplies that probability until its reward cap is hit.
+ * The winning reward is drawn in proportion to its remaining stock.
+ * </p>
+ */
+public class SpinOutcomeSampler {
+
+    /**
+     * Sample the outcome of one spin
+     *
+     * @param rewards             reward stock at the location
+     * @param goldenHour          the golden hour active at spin time, or null
+     * @param spinsSoFar          spins already taken today at the location
+     * @param expectedSpinsToday  spins the location is planned to serve today
+     * @param random              random source owned by the calling simulation
+     * @return the reward won, or null for a losing spin
+     */
+    public RewardEvent sample(List<RewardEvent> rewards, GoldenHour goldenHour,
+            long spinsSoFar, long expectedSpinsToday, SplittableRandom random) {
+        long available = 0;
+        for (RewardEvent reward : rewards) {
+            available += availableToday(reward);
+        }
+        if (available == 0) {
+            return null;
+        }
+
+        long spinsLeft = Math.max(1, expectedSpinsToday - spinsSoFar);
+        double winProbability = (double) available / spinsLeft;
+
+        if (goldenHour != null && hasGoldenHourCapacity(goldenHour)) {
+            BigDecimal multiplier = goldenHour.getMultiplier() != null ? goldenHour.getMultiplier() : BigDecimal.ONE;
+            winProbability *= multiplier.doubleValue();
+        }
+
+        if (random.nextDouble() >= Math.min(1.0, winProbability)) {
+            return null;
+        }
+
+        long pick = random.nextLong(available);
+        for (RewardEvent reward : rewards) {
+            pick -= availableToday(reward);
+            if (pick < 0) {
+                return reward;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prizes of this reward that may still be given out today
+     */
+    public int availableToday(RewardEvent reward) {
+        return Math.max(0, Math.min(reward.getQuantity(), reward.getTodayQuantity()));
+    }
+
+    private boolean hasGoldenHourCapacity(GoldenHour goldenHour) {
+        return goldenHour.getMaxRewards() == null
+                || goldenHour.getClaimedRewards() == null
+                || goldenHour.getClaimedRewards() < goldenHour.getMaxRewards();
+    }
+}
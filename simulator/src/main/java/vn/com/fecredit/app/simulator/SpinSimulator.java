@@ -0,0 +1,48 @@
+package vn.com.fecredit.app.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs every (location, run) pair of a simulation on a dedicated fork-join pool
+ */
+@Slf4j
+public class SpinSimulator {
+
+    private final SpinOutcomeSampler sampler = new SpinOutcomeSampler();
+
+    /**
+     * Simulate all configured locations and return one result per location and run
+     */
+    public List<LocationResult> run(SimulationConfig config) {
+        if (config.getArrivalCurve() == null || config.getArrivalCurve().length != 24) {
+            throw new IllegalArgumentException("Arrival curve must have exactly 24 hourly weights");
+        }
+
+        List<LocationSimulationTask> tasks = new ArrayList<>();
+        for (LocationConfig location : config.getLocations()) {
+            for (int run = 0; run < config.getRuns(); run++) {
+                tasks.add(new LocationSimulationTask(config, location, run, sampler));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, config.getParallelism()));
+        try {
+            long started = System.nanoTime();
+            pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+            log.info("Simulated {} location-days in {} ms", tasks.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            pool.shutdown();
+        }
+
+        List<LocationResult> results = new ArrayList<>(tasks.size());
+        for (LocationSimulationTask task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,84 @@
+package vn.com.fecredit.app.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpinSimulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSimulatedDayUsesEveryGrantedSpinAndNeverOverAwards() {
+        LocationConfig location = LocationConfig.builder()
+            .eventId(1L)
+            .regionId(1L)
+            .maxSpin(10)
+            .todaySpin(200)
+            .reward(RewardConfig.builder().rewardId(1L).name("Voucher").quantity(10).todayQuantity(10).build())
+            .reward(RewardConfig.builder().rewardId(2L).name("Phone").quantity(1).todayQuantity(1).build())
+            .goldenHour(GoldenHourConfig.builder()
+                .startTime(LocalTime.of(12, 0))
+                .endTime(LocalTime.of(13, 0))
+                .multiplier(BigDecimal.valueOf(2))
+                .maxRewards(3)
+                .build())
+            .build();
+
+        SimulationConfig config = SimulationConfig.builder()
+            .day(LocalDate.of(2025, 6, 1))
+            .participantsPerLocation(100)
+            .spinsPerParticipant(2)
+            .runs(2)
+            .parallelism(2)
+            .locations(List.of(location))
+            .build();
+
+        List<LocationResult> results = new SpinSimulator().run(config);
+
+        assertThat(results).hasSize(2);
+        for (LocationResult result : results) {
+            assertThat(result.getTotalSpins()).isEqualTo(200);
+            assertThat(result.getAwarded().getOrDefault(1L, 0)).isLessThanOrEqualTo(10);
+            assertThat(result.getAwarded().getOrDefault(2L, 0)).isLessThanOrEqualTo(1);
+            if (result.getAwarded().getOrDefault(1L, 0) == 10) {
+                assertThat(result.getExhaustedAt()).containsKey(1L);
+            }
+        }
+    }
+
+    @Test
+    void testLoadsConfigurationFromImportFilesAndWritesCsv() throws Exception {
+        Path locations = tempDir.resolve("event_locations.csv");
+        Files.writeString(locations, "eventId,regionId,maxSpin,todaySpin,dailySpinDistributingRate\n1,2,5,50,0.1\n");
+        Path rewards = tempDir.resolve("reward_events.csv");
+        Files.writeString(rewards, "eventId,regionId,rewardId,reward.name,quantity,todayQuantity\n1,2,7,Cup,4,4\n");
+
+        List<LocationConfig> loaded = new SimulationConfigLoader(new ImportFileReader()).load(locations, rewards, null);
+
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded.get(0).getTodaySpin()).isEqualTo(50);
+        assertThat(loaded.get(0).getRewards()).extracting(RewardConfig::getName).containsExactly("Cup");
+
+        SimulationConfig config = SimulationConfig.builder()
+            .participantsPerLocation(10)
+            .spinsPerParticipant(1)
+            .locations(loaded)
+            .build();
+        Path out = tempDir.resolve("out");
+        new CsvResultWriter().write(out, new SpinSimulator().run(config));
+
+        assertThat(out.resolve("hourly.csv")).exists();
+        assertThat(out.resolve("rewards.csv")).exists();
+        assertThat(Files.readAllLines(out.resolve("summary.csv"))).hasSize(2);
+    }
+}